@@ -0,0 +1,98 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.Collections;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.Location;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.library.Architectures;
+import com.tngtech.archunit.library.Architectures.LayeredArchitecture;
+
+import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
+
+/**
+ * The fixed sets of classes all benchmarks are run against. Each corpus also defines
+ * a slice pattern and a layered architecture that fit the structure of its packages.
+ */
+public enum Corpus {
+    JAVA_BASE("java.(*)..") {
+        @Override
+        Collection<Location> locations() {
+            return Collections.singleton(Location.of(URI.create("jrt:/java.base")));
+        }
+
+        @Override
+        LayeredArchitecture layeredArchitecture() {
+            return Architectures.layeredArchitecture().consideringOnlyDependenciesInLayers()
+                    .layer("Lang").definedBy("java.lang..")
+                    .layer("Util").definedBy("java.util..")
+                    .layer("IO").definedBy("java.io..", "java.nio..")
+                    .layer("Net").definedBy("java.net..")
+                    .whereLayer("Net").mayNotBeAccessedByAnyLayer()
+                    .whereLayer("IO").mayOnlyBeAccessedByLayers("Net")
+                    .whereLayer("Util").mayOnlyBeAccessedByLayers("IO", "Net");
+        }
+    },
+    ARCHUNIT("com.tngtech.archunit.(*)..") {
+        @Override
+        Collection<Location> locations() {
+            try {
+                URI archUnitJar = ArchRule.class.getProtectionDomain().getCodeSource().getLocation().toURI();
+                return Collections.singleton(Location.of(archUnitJar));
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        LayeredArchitecture layeredArchitecture() {
+            return Architectures.layeredArchitecture().consideringOnlyDependenciesInLayers()
+                    .layer("Base").definedBy("com.tngtech.archunit.base..")
+                    .layer("Core").definedBy("com.tngtech.archunit.core..")
+                    .layer("Lang").definedBy("com.tngtech.archunit.lang..")
+                    .layer("Library").definedBy("com.tngtech.archunit.library..")
+                    .whereLayer("Library").mayNotBeAccessedByAnyLayer()
+                    .whereLayer("Lang").mayOnlyBeAccessedByLayers("Library")
+                    .whereLayer("Core").mayOnlyBeAccessedByLayers("Lang", "Library");
+        }
+    },
+    SYNTHETIC(SyntheticCorpus.BASE_PACKAGE + ".(*)..") {
+        @Override
+        Collection<Location> locations() {
+            return Collections.singleton(Location.of(SyntheticCorpus.get()));
+        }
+
+        @Override
+        LayeredArchitecture layeredArchitecture() {
+            return Architectures.layeredArchitecture().consideringOnlyDependenciesInLayers()
+                    .layer("Api").definedBy("..layer0..")
+                    .layer("Service").definedBy("..layer1..")
+                    .layer("Persistence").definedBy("..layer2..")
+                    .whereLayer("Api").mayNotBeAccessedByAnyLayer()
+                    .whereLayer("Service").mayOnlyBeAccessedByLayers("Api")
+                    .whereLayer("Persistence").mayOnlyBeAccessedByLayers("Service");
+        }
+    };
+
+    private final String slicePattern;
+
+    Corpus(String slicePattern) {
+        this.slicePattern = slicePattern;
+    }
+
+    abstract Collection<Location> locations();
+
+    abstract LayeredArchitecture layeredArchitecture();
+
+    ArchRule slicesShouldBeFreeOfCycles() {
+        return slices().matching(slicePattern).should().beFreeOfCycles();
+    }
+
+    JavaClasses importClasses() {
+        return new ClassFileImporter().importLocations(locations());
+    }
+}
@@ -0,0 +1,32 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures querying the direct dependencies of all imported classes, which is the basis
+ * of most dependency rules as well as of the reverse dependencies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DependencyBenchmark {
+    @Benchmark
+    public void directDependenciesFromSelf(ImportedCorpus corpus, Blackhole blackhole) {
+        for (JavaClass javaClass : corpus.classes) {
+            blackhole.consume(javaClass.getDirectDependenciesFromSelf());
+        }
+    }
+
+    @Benchmark
+    public void directDependenciesToSelf(ImportedCorpus corpus, Blackhole blackhole) {
+        for (JavaClass javaClass : corpus.classes) {
+            blackhole.consume(javaClass.getDirectDependenciesToSelf());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the full import of a {@link Corpus}, i.e. parsing the class files, resolving missing dependencies
+ * and completing the class graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImportBenchmark {
+    @Param
+    public Corpus corpus;
+
+    @Param({"1", "0"})
+    public int importParallelism;
+
+    private Collection<Location> locations;
+
+    @Setup
+    public void setUp() {
+        ArchConfiguration.get().setImportParallelism(importParallelism);
+        locations = corpus.locations();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ArchConfiguration.get().reset();
+    }
+
+    @Benchmark
+    public JavaClasses importCorpus() {
+        return new ClassFileImporter().importLocations(locations);
+    }
+}
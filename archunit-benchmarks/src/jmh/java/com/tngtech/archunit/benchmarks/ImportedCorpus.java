@@ -0,0 +1,24 @@
+package com.tngtech.archunit.benchmarks;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Imports a {@link Corpus} once per trial, so benchmarks can measure operations on the imported classes
+ * without the import itself.
+ */
+@State(Scope.Benchmark)
+public class ImportedCorpus {
+    @Param
+    public Corpus corpus;
+
+    JavaClasses classes;
+
+    @Setup
+    public void setUp() {
+        classes = corpus.importClasses();
+    }
+}
@@ -0,0 +1,27 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.lang.EvaluationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Measures the evaluation of typical expensive rules against an already imported {@link Corpus}.
+ * Violations are part of the result and do not cause the benchmark to fail.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RuleEvaluationBenchmark {
+    @Benchmark
+    public EvaluationResult slicesShouldBeFreeOfCycles(ImportedCorpus corpus) {
+        return corpus.corpus.slicesShouldBeFreeOfCycles().evaluate(corpus.classes);
+    }
+
+    @Benchmark
+    public EvaluationResult layeredArchitecture(ImportedCorpus corpus) {
+        return corpus.corpus.layeredArchitecture().evaluate(corpus.classes);
+    }
+}
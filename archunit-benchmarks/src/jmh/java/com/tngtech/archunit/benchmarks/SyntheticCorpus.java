@@ -0,0 +1,145 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+/**
+ * Generates a corpus of {@value #NUMBER_OF_CLASSES} class files distributed over {@value #NUMBER_OF_MODULES} modules
+ * with {@value #NUMBER_OF_LAYERS} layers each. Every class declares fields of, calls methods of and possibly extends
+ * other classes of the corpus. Dependencies mostly stay within the same module and point from lower to higher layers,
+ * but a fixed fraction of them crosses modules or layers, so there are cycles between slices as well as layer violations.
+ * <br><br>
+ * Since all choices are made by a {@link Random} with a fixed seed, the generated corpus is the same on every run.
+ * The corpus is generated into a temporary directory once per JVM and deleted again when the JVM shuts down.
+ */
+class SyntheticCorpus {
+    static final String BASE_PACKAGE = "synthetic";
+
+    private static final int NUMBER_OF_CLASSES = 50_000;
+    private static final int NUMBER_OF_MODULES = 50;
+    private static final int NUMBER_OF_LAYERS = 3;
+    private static final int DEPENDENCIES_PER_CLASS = 4;
+    private static final double PROBABILITY_OF_FOREIGN_DEPENDENCY = 0.02;
+    private static final long SEED = 42;
+
+    private static Path generatedCorpus;
+
+    static synchronized Path get() {
+        if (generatedCorpus == null) {
+            generatedCorpus = generate();
+        }
+        return generatedCorpus;
+    }
+
+    private static Path generate() {
+        try {
+            Path root = Files.createTempDirectory("archunit-synthetic-corpus");
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteRecursively(root)));
+            Random random = new Random(SEED);
+            for (int i = 0; i < NUMBER_OF_CLASSES; i++) {
+                Path classFile = root.resolve(internalNameOf(i) + ".class");
+                Files.createDirectories(classFile.getParent());
+                Files.write(classFile, generateClass(i, random));
+            }
+            return root;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteRecursively(Path root) {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("Couldn't delete synthetic corpus at " + root + ": " + e.getMessage());
+        }
+    }
+
+    private static byte[] generateClass(int index, Random random) {
+        String internalName = internalNameOf(index);
+        String superclassName = index > 0 && random.nextInt(4) == 0
+                ? internalNameOf(random.nextInt(index))
+                : "java/lang/Object";
+
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(V1_8, ACC_PUBLIC, internalName, null, superclassName, null);
+
+        int[] targets = new int[DEPENDENCIES_PER_CLASS];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = chooseTarget(index, random);
+            classWriter.visitField(ACC_PRIVATE, "field" + i, "L" + internalNameOf(targets[i]) + ";", null, null).visitEnd();
+        }
+
+        MethodVisitor constructor = classWriter.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, superclassName, "<init>", "()V", false);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+
+        MethodVisitor method = classWriter.visitMethod(ACC_PUBLIC, "execute", "()V", null, null);
+        method.visitCode();
+        for (int i = 0; i < targets.length; i++) {
+            String targetName = internalNameOf(targets[i]);
+            if (i % 2 == 0) {
+                method.visitTypeInsn(NEW, targetName);
+                method.visitInsn(DUP);
+                method.visitMethodInsn(INVOKESPECIAL, targetName, "<init>", "()V", false);
+                method.visitInsn(POP);
+            } else {
+                method.visitVarInsn(ALOAD, 0);
+                method.visitFieldInsn(GETFIELD, internalName, "field" + i, "L" + targetName + ";");
+                method.visitMethodInsn(INVOKEVIRTUAL, targetName, "execute", "()V", false);
+            }
+        }
+        method.visitInsn(RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    private static int chooseTarget(int origin, Random random) {
+        if (random.nextDouble() < PROBABILITY_OF_FOREIGN_DEPENDENCY) {
+            return random.nextInt(NUMBER_OF_CLASSES);
+        }
+        int module = moduleOf(origin);
+        int layer = Math.min(layerOf(origin) + random.nextInt(2), NUMBER_OF_LAYERS - 1);
+        int candidate = random.nextInt(NUMBER_OF_CLASSES / (NUMBER_OF_MODULES * NUMBER_OF_LAYERS));
+        return (candidate * NUMBER_OF_LAYERS + layer) * NUMBER_OF_MODULES + module;
+    }
+
+    private static int moduleOf(int index) {
+        return index % NUMBER_OF_MODULES;
+    }
+
+    private static int layerOf(int index) {
+        return (index / NUMBER_OF_MODULES) % NUMBER_OF_LAYERS;
+    }
+
+    private static String internalNameOf(int index) {
+        return String.format("%s/module%d/layer%d/Class%d", BASE_PACKAGE, moduleOf(index), layerOf(index), index);
+    }
+}
@@ -77,6 +77,7 @@ final class ArchUnitRunnerInternal extends ParentRunner<ArchTestExecution> imple
                     statement.evaluate();
                 } finally {
                     cache.clear(getTestClass().getJavaClass());
+                    RuleProfileReport.INSTANCE.write();
                 }
             }
         };
@@ -138,7 +139,8 @@ final class ArchUnitRunnerInternal extends ParentRunner<ArchTestExecution> imple
             notifier.fireTestStarted(describeChild(child));
             Class<?> testClass = getTestClass().getJavaClass();
             JavaClasses classes = cache.get().getClassesToAnalyzeFor(testClass, new JUnit4ClassAnalysisRequest(testClass));
-            child.evaluateOn(classes).notify(notifier);
+            String testName = child.ruleDeclaringClass.getName() + "." + child.getName();
+            RuleProfileReport.INSTANCE.runTest(testName, () -> child.evaluateOn(classes)).notify(notifier);
             notifier.fireTestFinished(describeChild(child));
         }
     }
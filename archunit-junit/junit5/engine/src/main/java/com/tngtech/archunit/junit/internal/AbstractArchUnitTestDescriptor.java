@@ -41,6 +41,7 @@ import static java.util.stream.Collectors.toSet;
 abstract class AbstractArchUnitTestDescriptor extends AbstractTestDescriptor implements Node<ArchUnitEngineExecutionContext> {
     private final Set<TestTag> tags;
     private final SkipResult skipResult;
+    private final ExecutionMode executionMode = ArchUnitParallelExecution.fromConfiguration().getDefaultExecutionMode();
 
     AbstractArchUnitTestDescriptor(UniqueId uniqueId, String displayName, TestSource source, AnnotatedElement... elements) {
         super(uniqueId, displayName, source);
@@ -66,6 +67,11 @@ abstract class AbstractArchUnitTestDescriptor extends AbstractTestDescriptor imp
         return skipResult;
     }
 
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
     @Override
     public Set<TestTag> getTags() {
         Set<TestTag> result = new HashSet<>(tags);
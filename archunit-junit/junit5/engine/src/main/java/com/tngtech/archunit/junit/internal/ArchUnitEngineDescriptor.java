@@ -23,4 +23,9 @@ class ArchUnitEngineDescriptor extends EngineDescriptor implements Node<ArchUnit
     ArchUnitEngineDescriptor(UniqueId uniqueId) {
         super(uniqueId, "ArchUnit JUnit 5");
     }
+
+    @Override
+    public void after(ArchUnitEngineExecutionContext context) {
+        RuleProfileReport.INSTANCE.write();
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.junit.internal;
+
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+import com.tngtech.archunit.ArchConfiguration;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+import static java.util.Locale.ROOT;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Configures the parallel execution of ArchUnit tests via {@link ArchConfiguration}, e.g.
+ * <pre><code>
+ * junit.execution.parallel.enabled=true
+ * junit.execution.parallel.mode.default=concurrent
+ * junit.execution.parallel.mode.classes.default=same_thread
+ * junit.execution.parallel.config.strategy=fixed
+ * junit.execution.parallel.config.fixed.parallelism=4</code></pre>
+ * All properties below {@code junit.execution.parallel.config} are passed on to the JUnit Platform and follow
+ * the same format as the respective {@code junit.jupiter.execution.parallel.config} properties of JUnit Jupiter.
+ */
+final class ArchUnitParallelExecution {
+    static final String JUNIT_PARALLEL_EXECUTION_PROPERTY_PREFIX = "junit.execution.parallel";
+    private static final String ENABLED_PROPERTY_NAME = "enabled";
+    private static final String DEFAULT_EXECUTION_MODE_PROPERTY_NAME = "mode.default";
+    private static final String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = "mode.classes.default";
+    private static final String CONFIG_PROPERTY_PREFIX = "config.";
+
+    private final Properties properties;
+
+    private ArchUnitParallelExecution(Properties properties) {
+        this.properties = properties;
+    }
+
+    boolean isEnabled() {
+        return Boolean.parseBoolean(properties.getProperty(ENABLED_PROPERTY_NAME, Boolean.FALSE.toString()));
+    }
+
+    ExecutionMode getDefaultExecutionMode() {
+        return getExecutionMode(DEFAULT_EXECUTION_MODE_PROPERTY_NAME, ExecutionMode.CONCURRENT);
+    }
+
+    ExecutionMode getDefaultExecutionModeOfClasses() {
+        return getExecutionMode(DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME, getDefaultExecutionMode());
+    }
+
+    private ExecutionMode getExecutionMode(String propertyName, ExecutionMode defaultMode) {
+        String value = properties.getProperty(propertyName);
+        if (value == null) {
+            return defaultMode;
+        }
+        try {
+            return ExecutionMode.valueOf(value.trim().toUpperCase(ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ArchTestInitializationException(e,
+                    "Invalid execution mode '%s' configured for %s.%s, supported values are 'concurrent' and 'same_thread'",
+                    value, JUNIT_PARALLEL_EXECUTION_PROPERTY_PREFIX, propertyName);
+        }
+    }
+
+    HierarchicalTestExecutorService createExecutorService() {
+        return new ForkJoinPoolHierarchicalTestExecutorService(new ConfigProperties(properties));
+    }
+
+    static ArchUnitParallelExecution fromConfiguration() {
+        return new ArchUnitParallelExecution(ArchConfiguration.get().getSubProperties(JUNIT_PARALLEL_EXECUTION_PROPERTY_PREFIX));
+    }
+
+    private static class ConfigProperties implements ConfigurationParameters {
+        private final Properties properties;
+
+        ConfigProperties(Properties properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Optional<String> get(String key) {
+            return Optional.ofNullable(properties.getProperty(CONFIG_PROPERTY_PREFIX + key));
+        }
+
+        @Override
+        public Optional<Boolean> getBoolean(String key) {
+            return get(key).map(Boolean::parseBoolean);
+        }
+
+        @Override
+        @SuppressWarnings("deprecation") // still part of the interface we need to implement
+        public int size() {
+            return keySet().size();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return properties.stringPropertyNames().stream()
+                    .filter(key -> key.startsWith(CONFIG_PROPERTY_PREFIX))
+                    .map(key -> key.substring(CONFIG_PROPERTY_PREFIX.length()))
+                    .collect(toSet());
+        }
+    }
+}
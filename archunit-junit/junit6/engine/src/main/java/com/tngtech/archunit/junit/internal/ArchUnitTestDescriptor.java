@@ -56,6 +56,7 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
     static final String METHOD_SEGMENT_TYPE = "method";
 
     private final Class<?> testClass;
+    private final ExecutionMode executionMode = ArchUnitParallelExecution.fromConfiguration().getDefaultExecutionModeOfClasses();
     @SuppressWarnings("FieldMayBeFinal") // We want to change this in tests
     private ClassCache classCache;
 
@@ -143,6 +144,11 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
         return Type.CONTAINER;
     }
 
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
     @Override
     public void after(ArchUnitEngineExecutionContext context) {
         classCache.clear(testClass);
@@ -151,11 +157,13 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
     private static class ArchUnitRuleDescriptor extends AbstractArchUnitTestDescriptor {
         private final ArchRule rule;
         private final Supplier<JavaClasses> classes;
+        private final String testName;
 
         ArchUnitRuleDescriptor(UniqueId uniqueId, ArchRule rule, Supplier<JavaClasses> classes, TestMember<Field> field) {
             super(uniqueId, determineDisplayName(formatWithPath(uniqueId, field.getName())), FieldSource.from(field.member), field.member);
             this.rule = rule;
             this.classes = classes;
+            this.testName = field.getQualifiedName();
         }
 
         @Override
@@ -165,7 +173,7 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
 
         @Override
         public ArchUnitEngineExecutionContext execute(ArchUnitEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
-            rule.check(classes.get());
+            RuleProfileReport.INSTANCE.runTest(testName, () -> rule.check(classes.get()));
             return context;
         }
     }
@@ -200,7 +208,9 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
 
         @Override
         public ArchUnitEngineExecutionContext execute(ArchUnitEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
-            invokeMethod(method.member, method.owner, classes.get());
+            RuleProfileReport.INSTANCE.runTest(method.getQualifiedName(), () -> {
+                invokeMethod(method.member, method.owner, classes.get());
+            });
             return context;
         }
     }
@@ -343,5 +353,9 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
         String getName() {
             return member.getName();
         }
+
+        String getQualifiedName() {
+            return owner.getName() + "." + getName();
+        }
     }
 }
@@ -47,6 +47,7 @@ import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
 
 import static com.tngtech.archunit.junit.internal.ReflectionUtils.getAllFields;
 import static com.tngtech.archunit.junit.internal.ReflectionUtils.getAllMethods;
@@ -66,6 +67,8 @@ import static java.util.stream.Collectors.toList;
  *     public static final ArchRule myRule = classes()...
  * }
  * </code></pre>
+ * If {@code junit.execution.parallel.enabled=true} is configured within {@code archunit.properties},
+ * the rules are evaluated in parallel.
  */
 @Internal
 public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEngineExecutionContext> {
@@ -210,6 +213,14 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
         }
     }
 
+    @Override
+    protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+        ArchUnitParallelExecution parallelExecution = ArchUnitParallelExecution.fromConfiguration();
+        return parallelExecution.isEnabled()
+                ? parallelExecution.createExecutorService()
+                : super.createExecutorService(request);
+    }
+
     @Override
     protected ArchUnitEngineExecutionContext createExecutionContext(ExecutionRequest request) {
         return new ArchUnitEngineExecutionContext();
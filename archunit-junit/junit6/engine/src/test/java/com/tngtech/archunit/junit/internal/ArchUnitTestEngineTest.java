@@ -50,6 +50,7 @@ import com.tngtech.archunit.junit.internal.testexamples.ignores.MetaIgnoredClass
 import com.tngtech.archunit.junit.internal.testexamples.ignores.MetaIgnoredField;
 import com.tngtech.archunit.junit.internal.testexamples.ignores.MetaIgnoredLibrary;
 import com.tngtech.archunit.junit.internal.testexamples.ignores.MetaIgnoredMethod;
+import com.tngtech.archunit.junit.internal.testexamples.parallel.RulesWaitingForEachOther;
 import com.tngtech.archunit.junit.internal.testexamples.subone.SimpleRuleField;
 import com.tngtech.archunit.junit.internal.testexamples.subone.SimpleRuleMethod;
 import com.tngtech.archunit.junit.internal.testexamples.subtwo.SimpleRules;
@@ -73,6 +74,7 @@ import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.hierarchical.Node;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
@@ -110,6 +112,8 @@ import static org.junit.platform.engine.discovery.ClassNameFilter.excludeClassNa
 import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
 import static org.junit.platform.engine.discovery.PackageNameFilter.excludePackageNames;
 import static org.junit.platform.engine.discovery.PackageNameFilter.includePackageNames;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -1383,6 +1387,73 @@ class ArchUnitTestEngineTest {
         }
     }
 
+    @Nested
+    class ExecutesInParallel {
+        @Test
+        void rules_concurrently_if_parallel_execution_is_enabled() {
+            ArchConfiguration.get().setProperty("junit.execution.parallel.enabled", "true");
+            ArchConfiguration.get().setProperty("junit.execution.parallel.config.strategy", "fixed");
+            ArchConfiguration.get().setProperty("junit.execution.parallel.config.fixed.parallelism", "4");
+            simulateCachedClassesForTest(RulesWaitingForEachOther.class, UnwantedClass.CLASS_SATISFYING_RULES);
+
+            EngineExecutionTestListener testListener = execute(engineId, RulesWaitingForEachOther.class);
+
+            UniqueId testClassId = engineId.append(CLASS_SEGMENT_TYPE, RulesWaitingForEachOther.class.getName());
+            testListener.verifySuccessful(testClassId.append(METHOD_SEGMENT_TYPE, RulesWaitingForEachOther.FIRST_RULE_METHOD_NAME));
+            testListener.verifySuccessful(testClassId.append(METHOD_SEGMENT_TYPE, RulesWaitingForEachOther.SECOND_RULE_METHOD_NAME));
+        }
+
+        @Test
+        void rules_and_classes_concurrently_by_default() {
+            TestDescriptor descriptor = testEngine.discover(new EngineDiscoveryTestRequest().withClass(SimpleRuleField.class), engineId);
+
+            TestDescriptor testClass = getOnlyElement(descriptor.getChildren());
+            assertThat(executionModeOf(testClass)).isEqualTo(CONCURRENT);
+            assertThat(executionModeOf(getOnlyTest(descriptor))).isEqualTo(CONCURRENT);
+        }
+
+        @Test
+        void with_configured_execution_modes() {
+            ArchConfiguration.get().setProperty("junit.execution.parallel.mode.default", "same_thread");
+            ArchConfiguration.get().setProperty("junit.execution.parallel.mode.classes.default", "concurrent");
+
+            TestDescriptor descriptor = testEngine.discover(new EngineDiscoveryTestRequest().withClass(SimpleRuleField.class), engineId);
+
+            TestDescriptor testClass = getOnlyElement(descriptor.getChildren());
+            assertThat(executionModeOf(testClass)).isEqualTo(CONCURRENT);
+            assertThat(executionModeOf(getOnlyTest(descriptor))).isEqualTo(SAME_THREAD);
+        }
+
+        @Test
+        void classes_with_the_default_execution_mode_if_not_configured_explicitly() {
+            ArchConfiguration.get().setProperty("junit.execution.parallel.mode.default", "same_thread");
+
+            TestDescriptor descriptor = testEngine.discover(new EngineDiscoveryTestRequest().withClass(SimpleRuleField.class), engineId);
+
+            TestDescriptor testClass = getOnlyElement(descriptor.getChildren());
+            assertThat(executionModeOf(testClass)).isEqualTo(SAME_THREAD);
+        }
+
+        @Test
+        void rejects_unknown_execution_mode() {
+            ArchConfiguration.get().setProperty("junit.execution.parallel.mode.default", "sometimes");
+
+            assertThatThrownBy(() -> testEngine.discover(new EngineDiscoveryTestRequest().withClass(SimpleRuleField.class), engineId))
+                    .isInstanceOf(ArchTestInitializationException.class)
+                    .hasMessageContaining("sometimes")
+                    .hasMessageContaining("junit.execution.parallel.mode.default");
+        }
+
+        private Node.ExecutionMode executionModeOf(TestDescriptor descriptor) {
+            return ((Node<?>) descriptor).getExecutionMode();
+        }
+
+        @AfterEach
+        void resetConfiguration() {
+            ArchConfiguration.get().reset();
+        }
+    }
+
     private UniqueId createEngineId() {
         return UniqueId.forEngine(ArchUnitTestEngine.UNIQUE_ID);
     }
@@ -0,0 +1,38 @@
+package com.tngtech.archunit.junit.internal.testexamples.parallel;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeoutException;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.junit.AnalyzeClasses;
+import com.tngtech.archunit.junit.ArchTest;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@AnalyzeClasses(packages = "some.dummy.package")
+public class RulesWaitingForEachOther {
+    private static final CyclicBarrier bothRulesStarted = new CyclicBarrier(2);
+
+    @ArchTest
+    static void first_rule(JavaClasses classes) {
+        awaitOtherRule();
+    }
+
+    @ArchTest
+    static void second_rule(JavaClasses classes) {
+        awaitOtherRule();
+    }
+
+    private static void awaitOtherRule() {
+        try {
+            bothRulesStarted.await(10, SECONDS);
+        } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+            bothRulesStarted.reset();
+            throw new AssertionError("Rules were not executed concurrently", e);
+        }
+    }
+
+    public static final String FIRST_RULE_METHOD_NAME = "first_rule";
+    public static final String SECOND_RULE_METHOD_NAME = "second_rule";
+}
@@ -15,18 +15,24 @@
  */
 package com.tngtech.archunit.junit.internal;
 
+import java.net.URI;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.ImportOption;
@@ -36,10 +42,12 @@ import com.tngtech.archunit.junit.CacheMode;
 import com.tngtech.archunit.junit.LocationProvider;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.base.DescribedPredicate.describe;
 import static com.tngtech.archunit.junit.CacheMode.FOREVER;
 import static com.tngtech.archunit.junit.internal.ReflectionUtils.newInstanceOf;
 import static java.util.Arrays.stream;
 import static java.util.Collections.emptySet;
+import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -54,16 +62,27 @@ import static java.util.stream.Collectors.toSet;
  * may dramatically reduce performance, if multiple test classes are executed.
  * The cache will hold imported classes as long as there is sufficient memory, and reuse them, if the same
  * locations (i.e. URLs) are imported.
+ * <br><br>
+ * If {@value #REUSE_SUPERSET_IMPORTS_PROPERTY_NAME}{@code =true} is configured, the cache will also derive the
+ * {@link JavaClasses} for narrower locations (e.g. the package {@code com.acme.billing}) from {@link JavaClasses} already
+ * cached for a superset of these locations (e.g. the package {@code com.acme}), as long as the {@link ImportOption}s match.
+ * Note that in this case the classes are those of the superset import, i.e. they also know about dependencies
+ * from classes outside of the requested locations and about packages of the superset import.
  */
 class ClassCache {
+    static final String REUSE_SUPERSET_IMPORTS_PROPERTY_NAME = "junit.cache.reuseSupersetImports";
+    private static final Pattern MULTIPLE_SLASHES_AFTER_SCHEME = Pattern.compile(":/+");
+
     @VisibleForTesting
-    final Map<Class<?>, JavaClasses> cachedByTest = new ConcurrentHashMap<>();
+    final Map<Class<?>, LazyJavaClasses> cachedByTest = new ConcurrentHashMap<>();
     @VisibleForTesting
     final LoadingCache<LocationsKey, LazyJavaClasses> cachedByLocations =
             CacheBuilder.newBuilder().softValues().build(new CacheLoader<LocationsKey, LazyJavaClasses>() {
                 @Override
                 public LazyJavaClasses load(LocationsKey key) {
-                    return new LazyJavaClasses(key.locations, key.importOptionTypes);
+                    return reuseSupersetImports()
+                            ? findSupersetOf(key).map(superset -> new LazyJavaClasses(key, superset)).orElseGet(() -> new LazyJavaClasses(key))
+                            : new LazyJavaClasses(key);
                 }
             });
 
@@ -74,18 +93,27 @@ class ClassCache {
         checkNotNull(testClass);
         checkNotNull(classAnalysisRequest);
 
-        if (cachedByTest.containsKey(testClass)) {
-            return cachedByTest.get(testClass);
-        }
+        // Rules of the same test class may be evaluated concurrently by the test engine,
+        // so the classes are imported lazily by the one LazyJavaClasses registered for the test class
+        return cachedByTest.computeIfAbsent(testClass, clazz -> lazyJavaClassesFor(clazz, classAnalysisRequest)).get();
+    }
 
+    private LazyJavaClasses lazyJavaClassesFor(Class<?> testClass, ClassAnalysisRequest classAnalysisRequest) {
         LocationsKey locations = RequestedLocations.by(classAnalysisRequest, testClass).asKey();
 
-        JavaClasses classes = classAnalysisRequest.getCacheMode() == FOREVER
-                ? cachedByLocations.getUnchecked(locations).get()
-                : new LazyJavaClasses(locations.locations, locations.importOptionTypes).get();
+        return classAnalysisRequest.getCacheMode() == FOREVER
+                ? cachedByLocations.getUnchecked(locations)
+                : new LazyJavaClasses(locations);
+    }
+
+    private boolean reuseSupersetImports() {
+        return Boolean.parseBoolean(ArchConfiguration.get().getPropertyOrDefault(REUSE_SUPERSET_IMPORTS_PROPERTY_NAME, Boolean.FALSE.toString()));
+    }
 
-        cachedByTest.put(testClass, classes);
-        return classes;
+    private Optional<LazyJavaClasses> findSupersetOf(LocationsKey key) {
+        return cachedByLocations.asMap().values().stream()
+                .filter(candidate -> !candidate.superset.isPresent() && candidate.key.covers(key))
+                .min(comparing(candidate -> candidate.key.locations.size()));
     }
 
     void clear(Class<?> testClass) {
@@ -93,13 +121,21 @@ class ClassCache {
     }
 
     private class LazyJavaClasses {
-        private final Set<Location> locations;
-        private final Set<Class<? extends ImportOption>> importOptionTypes;
+        private final LocationsKey key;
+        private final Optional<LazyJavaClasses> superset;
         private volatile JavaClasses javaClasses;
 
-        private LazyJavaClasses(Set<Location> locations, Set<Class<? extends ImportOption>> importOptionTypes) {
-            this.locations = locations;
-            this.importOptionTypes = importOptionTypes;
+        private LazyJavaClasses(LocationsKey key) {
+            this(key, Optional.empty());
+        }
+
+        private LazyJavaClasses(LocationsKey key, LazyJavaClasses superset) {
+            this(key, Optional.of(superset));
+        }
+
+        private LazyJavaClasses(LocationsKey key, Optional<LazyJavaClasses> superset) {
+            this.key = key;
+            this.superset = superset;
         }
 
         public JavaClasses get() {
@@ -111,13 +147,23 @@ class ClassCache {
 
         private synchronized void initialize() {
             if (javaClasses == null) {
-                Set<ImportOption> importOptions = new HashSet<>();
-                for (Class<? extends ImportOption> optionClass : importOptionTypes) {
-                    importOptions.add(newInstanceOf(optionClass));
-                }
-                javaClasses = cacheClassFileImporter.importClasses(importOptions, locations);
+                javaClasses = superset.isPresent() ? deriveFrom(superset.get().get()) : importClasses();
             }
         }
+
+        private JavaClasses importClasses() {
+            Set<ImportOption> importOptions = new HashSet<>();
+            for (Class<? extends ImportOption> optionClass : key.importOptionTypes) {
+                importOptions.add(newInstanceOf(optionClass));
+            }
+            return cacheClassFileImporter.importClasses(importOptions, key.locations);
+        }
+
+        private JavaClasses deriveFrom(JavaClasses supersetClasses) {
+            DescribedPredicate<JavaClass> locatedInRequestedLocations = describe("are located in " + key.locations,
+                    javaClass -> javaClass.getSource().isPresent() && key.containsClassFile(javaClass.getSource().get().getUri()));
+            return supersetClasses.that(locatedInRequestedLocations).as(supersetClasses.getDescription());
+        }
     }
 
     // Used for testing -> that's also the reason it's declared top level
@@ -153,6 +199,33 @@ class ClassCache {
             return Objects.equals(this.importOptionTypes, other.importOptionTypes)
                     && Objects.equals(this.locations, other.locations);
         }
+
+        /**
+         * @return {@code true}, if importing the locations of this key would also import all the classes of the other key,
+         *         i.e. if every location of the other key is a folder (or class file) beneath some location of this key
+         */
+        boolean covers(LocationsKey other) {
+            return importOptionTypes.equals(other.importOptionTypes)
+                    && !other.locations.isEmpty()
+                    && other.locations.stream().allMatch(location -> isFolderOrClassFile(location) && isBeneathAny(locations, uriOf(location)));
+        }
+
+        boolean containsClassFile(URI classFileUri) {
+            return isBeneathAny(locations, MULTIPLE_SLASHES_AFTER_SCHEME.matcher(classFileUri.toString()).replaceFirst(":/"));
+        }
+
+        private static boolean isFolderOrClassFile(Location location) {
+            String uri = uriOf(location);
+            return uri.endsWith("/") || uri.endsWith(".class");
+        }
+
+        private static boolean isBeneathAny(Set<Location> locations, String uri) {
+            return locations.stream().map(LocationsKey::uriOf).anyMatch(location -> uri.equals(location) || (location.endsWith("/") && uri.startsWith(location)));
+        }
+
+        private static String uriOf(Location location) {
+            return location.asURI().toString();
+        }
     }
 
     private abstract static class RequestedLocations {
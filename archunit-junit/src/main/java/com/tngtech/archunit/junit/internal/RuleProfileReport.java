@@ -0,0 +1,172 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.junit.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.tngtech.archunit.lang.EvaluationProfile;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Holds the {@link EvaluationProfile EvaluationProfiles} recorded by the {@link RuleProfilingExtension}
+ * together with the name of the test that has checked the respective rule.
+ * The test engines run every test via {@link #runTest(String, Supplier)} to associate the profiles with the test
+ * and call {@link #write()} when the tests have been executed. The report is a JSON file containing all
+ * recorded profiles sorted by their total duration, the slowest rule first. If the {@link RuleProfilingExtension} is not
+ * enabled, nothing will be recorded and no report will be written.
+ */
+class RuleProfileReport {
+    static final RuleProfileReport INSTANCE = new RuleProfileReport();
+
+    private final ThreadLocal<String> currentTestName = new ThreadLocal<>();
+    private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+    private volatile Optional<Path> reportFile = Optional.empty();
+
+    @VisibleForTesting
+    RuleProfileReport() {
+    }
+
+    <T> T runTest(String testName, Supplier<T> test) {
+        String outerTestName = currentTestName.get();
+        currentTestName.set(testName);
+        try {
+            return test.get();
+        } finally {
+            currentTestName.set(outerTestName);
+        }
+    }
+
+    void runTest(String testName, Runnable test) {
+        runTest(testName, () -> {
+            test.run();
+            return null;
+        });
+    }
+
+    void setReportFile(Path reportFile) {
+        this.reportFile = Optional.of(reportFile);
+    }
+
+    void record(String ruleDescription, EvaluationProfile profile) {
+        entries.add(new Entry(Optional.ofNullable(currentTestName.get()), ruleDescription, profile));
+    }
+
+    /**
+     * Writes all profiles recorded so far. Since JUnit 4 offers no hook at the end of the whole test run,
+     * this might be called multiple times, e.g. after each test class, overwriting the previous report.
+     */
+    synchronized void write() {
+        if (!reportFile.isPresent() || entries.isEmpty()) {
+            return;
+        }
+
+        Path file = reportFile.get().toAbsolutePath();
+        List<Entry> sortedEntries = entries.stream()
+                .sorted(comparing((Entry entry) -> entry.profile.getTotalDuration()).reversed())
+                .collect(toList());
+        try {
+            Files.createDirectories(file.getParent());
+            try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+                writeJson(writer, sortedEntries);
+            }
+        } catch (IOException e) {
+            throw new ArchTestExecutionException("Could not write rule profile report to " + file, e);
+        }
+    }
+
+    private void writeJson(Writer writer, List<Entry> sortedEntries) throws IOException {
+        writer.write("{\n  \"rules\": [");
+        String separator = "\n";
+        for (Entry entry : sortedEntries) {
+            writer.write(separator);
+            writer.write("    {\n");
+            if (entry.testName.isPresent()) {
+                writer.write("      \"test\": " + quote(entry.testName.get()) + ",\n");
+            }
+            writer.write("      \"rule\": " + quote(entry.ruleDescription) + ",\n");
+            writer.write("      \"totalMillis\": " + millis(entry.profile.getTotalDuration()) + ",\n");
+            writer.write("      \"transformationMillis\": " + millis(entry.profile.getTransformationDuration()) + ",\n");
+            writer.write("      \"initMillis\": " + millis(entry.profile.getInitDuration()) + ",\n");
+            writer.write("      \"checkMillis\": " + millis(entry.profile.getCheckDuration()) + ",\n");
+            writer.write("      \"finishMillis\": " + millis(entry.profile.getFinishDuration()) + ",\n");
+            writer.write("      \"checkedObjects\": " + entry.profile.getNumberOfCheckedObjects() + ",\n");
+            writer.write("      \"violations\": " + entry.profile.getNumberOfViolations() + "\n");
+            writer.write("    }");
+            separator = ",\n";
+        }
+        writer.write("\n  ]\n}\n");
+    }
+
+    private static String millis(Duration duration) {
+        return String.format(Locale.ROOT, "%.3f", duration.toNanos() / 1_000_000.0);
+    }
+
+    private static String quote(String string) {
+        StringBuilder result = new StringBuilder("\"");
+        for (char c : string.toCharArray()) {
+            switch (c) {
+                case '"':
+                    result.append("\\\"");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+            }
+        }
+        return result.append('"').toString();
+    }
+
+    private static class Entry {
+        private final Optional<String> testName;
+        private final String ruleDescription;
+        private final EvaluationProfile profile;
+
+        Entry(Optional<String> testName, String ruleDescription, EvaluationProfile profile) {
+            this.testName = testName;
+            this.ruleDescription = ruleDescription;
+            this.profile = profile;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.junit.internal;
+
+import java.nio.file.Paths;
+import java.util.Properties;
+
+import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.lang.EvaluationProfile;
+import com.tngtech.archunit.lang.extension.ArchUnitExtension;
+import com.tngtech.archunit.lang.extension.EvaluatedRule;
+
+/**
+ * Collects the {@link EvaluationProfile} of every rule checked while running ArchUnit tests, so the test engines
+ * can write a report of where the time of the test run went at the end of the run (compare {@link RuleProfileReport}).
+ * Like any {@link ArchUnitExtension} this extension needs to be enabled explicitly, e.g. via
+ * <pre><code>
+ * extension.rule-profiling.enabled=true
+ * extension.rule-profiling.reportFile=build/archunit-profile.json
+ * </code></pre>
+ * within {@code archunit.properties}, where {@code reportFile} is optional and defaults to {@value #DEFAULT_REPORT_FILE}.
+ */
+@Internal
+public final class RuleProfilingExtension implements ArchUnitExtension {
+    static final String UNIQUE_IDENTIFIER = "rule-profiling";
+    static final String REPORT_FILE_PROPERTY_NAME = "reportFile";
+    static final String DEFAULT_REPORT_FILE = "build/archunit-profile.json";
+
+    @Override
+    public String getUniqueIdentifier() {
+        return UNIQUE_IDENTIFIER;
+    }
+
+    @Override
+    public void configure(Properties properties) {
+        RuleProfileReport.INSTANCE.setReportFile(Paths.get(properties.getProperty(REPORT_FILE_PROPERTY_NAME, DEFAULT_REPORT_FILE)));
+    }
+
+    @Override
+    public void handle(EvaluatedRule evaluatedRule) {
+        RuleProfileReport.INSTANCE.record(evaluatedRule.getRule().getDescription(), evaluatedRule.getResult().getProfile());
+    }
+}
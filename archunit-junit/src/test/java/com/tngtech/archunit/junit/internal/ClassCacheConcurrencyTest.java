@@ -8,6 +8,7 @@ import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
 import com.tngtech.archunit.Slow;
+import com.tngtech.archunit.junit.CacheMode;
 import com.tngtech.archunit.junit.internal.ClassCache.CacheClassFileImporter;
 import org.junit.After;
 import org.junit.Before;
@@ -19,11 +20,14 @@ import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
+import static com.tngtech.archunit.junit.CacheMode.FOREVER;
+import static com.tngtech.archunit.junit.CacheMode.PER_CLASS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.stream.Collectors.toList;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -57,21 +61,34 @@ public class ClassCacheConcurrencyTest {
 
     @Test
     public void concurrent_access() throws Exception {
+        accessConcurrently(FOREVER);
+
+        verify(classFileImporter, atMost(TEST_CLASSES.size())).importClasses(anySet(), anyCollection());
+        verifyNoMoreInteractions(classFileImporter);
+    }
+
+    @Test
+    public void concurrent_access_imports_classes_once_per_test_class_if_cacheMode_is_PER_CLASS() throws Exception {
+        accessConcurrently(PER_CLASS);
+
+        verify(classFileImporter, times(TEST_CLASSES.size())).importClasses(anySet(), anyCollection());
+        verifyNoMoreInteractions(classFileImporter);
+    }
+
+    private void accessConcurrently(CacheMode cacheMode) throws Exception {
         List<Future<?>> futures = IntStream.range(0, NUM_THREADS)
-                .mapToObj(i -> executorService.submit(repeatGetClassesToAnalyze(1000)))
+                .mapToObj(i -> executorService.submit(repeatGetClassesToAnalyze(1000, cacheMode)))
                 .collect(toList());
         for (Future<?> future : futures) {
             future.get(1, MINUTES);
         }
-        verify(classFileImporter, atMost(TEST_CLASSES.size())).importClasses(anySet(), anyCollection());
-        verifyNoMoreInteractions(classFileImporter);
     }
 
-    private Runnable repeatGetClassesToAnalyze(int times) {
+    private Runnable repeatGetClassesToAnalyze(int times, CacheMode cacheMode) {
         return () -> {
             for (int j = 0; j < times; j++) {
                 cache.getClassesToAnalyzeFor(TEST_CLASSES.get(j % TEST_CLASSES.size()),
-                        new TestAnalysisRequest().withLocationProviders(LocationOfClass.Provider.class));
+                        new TestAnalysisRequest().withLocationProviders(LocationOfClass.Provider.class).withCacheMode(cacheMode));
             }
         };
     }
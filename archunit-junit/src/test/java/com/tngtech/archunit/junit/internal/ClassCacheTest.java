@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
@@ -29,6 +30,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static com.tngtech.archunit.junit.CacheMode.PER_CLASS;
 import static com.tngtech.archunit.testutil.Assertions.assertThatTypes;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyCollection;
@@ -85,6 +87,38 @@ public class ClassCacheTest {
         verifyNumberOfImports(2);
     }
 
+    @Test
+    public void derives_classes_of_narrower_locations_from_superset_import_if_configured() {
+        ArchConfiguration.get().setProperty(ClassCache.REUSE_SUPERSET_IMPORTS_PROPERTY_NAME, "true");
+
+        cache.getClassesToAnalyzeFor(TestClass.class, analyzePackages("com.tngtech.archunit.junit"));
+        JavaClasses derived = cache.getClassesToAnalyzeFor(EquivalentTestClass.class, analyzePackages("com.tngtech.archunit.junit.internal"));
+
+        verifyNumberOfImports(1);
+        assertThat(derived.stream().map(JavaClass::getName).sorted().collect(toList()))
+                .containsExactlyElementsOf(new ClassFileImporter().importPackages("com.tngtech.archunit.junit.internal").stream()
+                        .map(JavaClass::getName).sorted().collect(toList()));
+    }
+
+    @Test
+    public void doesnt_derive_classes_of_narrower_locations_from_superset_import_by_default() {
+        cache.getClassesToAnalyzeFor(TestClass.class, analyzePackages("com.tngtech.archunit.junit"));
+        cache.getClassesToAnalyzeFor(EquivalentTestClass.class, analyzePackages("com.tngtech.archunit.junit.internal"));
+
+        verifyNumberOfImports(2);
+    }
+
+    @Test
+    public void doesnt_derive_classes_from_superset_import_with_different_import_options() {
+        ArchConfiguration.get().setProperty(ClassCache.REUSE_SUPERSET_IMPORTS_PROPERTY_NAME, "true");
+
+        cache.getClassesToAnalyzeFor(TestClass.class, analyzePackages("com.tngtech.archunit.junit"));
+        cache.getClassesToAnalyzeFor(EquivalentTestClass.class, analyzePackages("com.tngtech.archunit.junit.internal")
+                .withImportOptions(ImportOption.DoNotIncludeJars.class));
+
+        verifyNumberOfImports(2);
+    }
+
     @Test
     public void filters_jars_relative_to_class() {
         JavaClasses classes = cache.getClassesToAnalyzeFor(TestClass.class, analyzePackagesOf(Rule.class));
@@ -0,0 +1,55 @@
+package com.tngtech.archunit.junit.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RuleProfileReportTest {
+    private final RuleProfileReport report = new RuleProfileReport();
+    private final JavaClasses classes = new ClassFileImporter().importClasses(Object.class, String.class);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void writes_recorded_profiles_with_the_name_of_the_running_test() throws IOException {
+        Path reportFile = tempDir.resolve("build").resolve("archunit-profile.json");
+        report.setReportFile(reportFile);
+        ArchRule rule = classes().should().haveSimpleNameNotContaining("\"quoted\"");
+
+        report.runTest("SomeTest.some_rule", () -> report.record(rule.getDescription(), rule.evaluate(classes).getProfile()));
+        report.record("rule outside of test", rule.evaluate(classes).getProfile());
+        report.write();
+
+        String json = new String(Files.readAllBytes(reportFile), UTF_8);
+        assertThat(json)
+                .contains("\"test\": \"SomeTest.some_rule\"")
+                .contains("\"rule\": \"classes should have simple name not containing '\\\"quoted\\\"'\"")
+                .contains("\"rule\": \"rule outside of test\"")
+                .contains("\"checkedObjects\": 2")
+                .contains("\"violations\": 0");
+        assertThat(json.split("\"test\"", -1)).as("occurrences of test").hasSize(2);
+    }
+
+    @Test
+    public void does_not_write_report_if_no_report_file_has_been_configured() throws IOException {
+        report.record("some rule", classes().should().haveSimpleNameNotContaining("irrelevant").evaluate(classes).getProfile());
+
+        report.write();
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+}
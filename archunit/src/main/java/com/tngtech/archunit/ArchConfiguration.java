@@ -53,6 +53,10 @@ public final class ArchConfiguration {
     static final String CLASS_RESOLVER_ARGS = "classResolver.args";
     @Internal
     public static final String ENABLE_MD5_IN_CLASS_SOURCES = "enableMd5InClassSources";
+    @Internal
+    public static final String IMPORT_PARALLELISM = "import.parallelism";
+    @Internal
+    public static final String RULE_EVALUATION_PARALLELISM = "archRule.evaluation.parallelism";
     private static final String EXTENSION_PREFIX = "extension";
 
     private static final Logger LOG = LoggerFactory.getLogger(ArchConfiguration.class);
@@ -124,6 +128,48 @@ public final class ArchConfiguration {
         properties.setProperty(ENABLE_MD5_IN_CLASS_SOURCES, String.valueOf(enabled));
     }
 
+    /**
+     * @return The number of threads used to parse class files during the import.
+     *         A value of {@code 1} (the default) imports all class files sequentially on the calling thread,
+     *         a value {@code <= 0} will use as many threads as there are {@link Runtime#availableProcessors() available processors}.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getImportParallelism() {
+        int configured = Integer.parseInt(properties.getProperty(IMPORT_PARALLELISM));
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @param parallelism The number of threads to use to parse class files during the import.
+     *                    Compare {@link #getImportParallelism()}.
+     */
+    @PublicAPI(usage = ACCESS)
+    public void setImportParallelism(int parallelism) {
+        properties.setProperty(IMPORT_PARALLELISM, String.valueOf(parallelism));
+    }
+
+    /**
+     * @return The number of threads used to check the objects of a rule against its {@link com.tngtech.archunit.lang.ArchCondition ArchCondition}.
+     *         A value of {@code 1} (the default) checks all objects sequentially on the calling thread,
+     *         a value {@code <= 0} will use as many threads as there are {@link Runtime#availableProcessors() available processors}.
+     *         Note that conditions are only checked in parallel, if they are
+     *         {@link com.tngtech.archunit.lang.ArchCondition#isThreadSafe() thread-safe}.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getRuleEvaluationParallelism() {
+        int configured = Integer.parseInt(properties.getProperty(RULE_EVALUATION_PARALLELISM));
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @param parallelism The number of threads to use to check the objects of a rule.
+     *                    Compare {@link #getRuleEvaluationParallelism()}.
+     */
+    @PublicAPI(usage = ACCESS)
+    public void setRuleEvaluationParallelism(int parallelism) {
+        properties.setProperty(RULE_EVALUATION_PARALLELISM, String.valueOf(parallelism));
+    }
+
     @PublicAPI(usage = ACCESS)
     public Optional<String> getClassResolver() {
         return Optional.ofNullable(properties.getProperty(CLASS_RESOLVER));
@@ -328,7 +374,9 @@ public final class ArchConfiguration {
     private static class PropertiesOverwritableBySystemProperties {
         private static final Properties PROPERTY_DEFAULTS = createProperties(ImmutableMap.of(
                 RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, Boolean.TRUE.toString(),
-                ENABLE_MD5_IN_CLASS_SOURCES, Boolean.FALSE.toString()
+                ENABLE_MD5_IN_CLASS_SOURCES, Boolean.FALSE.toString(),
+                IMPORT_PARALLELISM, String.valueOf(1),
+                RULE_EVALUATION_PARALLELISM, String.valueOf(1)
         ));
 
         private final Properties baseProperties;
@@ -105,6 +105,14 @@ public class ArchUnitException extends RuntimeException {
         }
     }
 
+    @Internal
+    public static class CodeNotImportedException extends ArchUnitException {
+        public CodeNotImportedException(String missingInformation) {
+            super(String.format("Can't determine %s, because the code of the classes was not imported. "
+                    + "Rules that check accesses or dependencies need classes imported with ClassFileImporter.DetailLevel.FULL", missingInformation));
+        }
+    }
+
     @Internal
     public static class InvalidSyntaxUsageException extends ArchUnitException {
         public InvalidSyntaxUsageException(String message) {
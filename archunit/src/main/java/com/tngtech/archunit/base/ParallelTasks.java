@@ -0,0 +1,56 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com.tngtech.archunit.Internal;
+
+import static java.util.stream.Collectors.toList;
+
+@Internal
+public final class ParallelTasks {
+    private ParallelTasks() {
+    }
+
+    /**
+     * Runs the tasks on {@code parallelism} threads and waits for all of them to finish.
+     * If the parallelism matches the one of the {@link ForkJoinPool#commonPool() common pool}, the tasks run there,
+     * otherwise on a pool that is shut down again once the tasks are finished, so no threads outlive the call.
+     *
+     * @return The results of the tasks in the order of the tasks
+     */
+    public static <T> List<T> invokeAll(int parallelism, List<? extends Callable<T>> tasks) {
+        if (parallelism == ForkJoinPool.getCommonPoolParallelism()) {
+            return joinAll(ForkJoinPool.commonPool(), tasks);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return joinAll(pool, tasks);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static <T> List<T> joinAll(ForkJoinPool pool, List<? extends Callable<T>> tasks) {
+        List<ForkJoinTask<T>> submittedTasks = tasks.stream().map(pool::submit).collect(toList());
+        return submittedTasks.stream().map(ForkJoinTask::join).collect(toList());
+    }
+}
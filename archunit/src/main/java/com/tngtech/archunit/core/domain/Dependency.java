@@ -33,7 +33,6 @@ import com.tngtech.archunit.core.domain.properties.HasName;
 import com.tngtech.archunit.core.domain.properties.HasOwner;
 import com.tngtech.archunit.core.domain.properties.HasSourceCodeLocation;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.Optionals.asSet;
 import static java.util.Collections.emptySet;
@@ -61,29 +60,50 @@ import static java.util.Collections.singleton;
  */
 @PublicAPI(usage = ACCESS)
 public class Dependency implements HasDescription, Comparable<Dependency>, HasSourceCodeLocation, Convertible {
+    private static final String EXTENDS_CLASS = "extends class";
+    private static final String EXTENDS_INTERFACE = "extends interface";
+    private static final String IMPLEMENTS_INTERFACE = "implements interface";
+
     private final JavaClass originClass;
+    // the description is only rendered on demand from these parts, since only few of all dependencies are ever reported
+    private final HasDescription origin;
+    private final String dependencyType;
     private final JavaClass targetClass;
-    private final String description;
     private final SourceCodeLocation sourceCodeLocation;
     private final int hashCode;
 
-    private Dependency(JavaClass originClass, JavaClass targetClass, SourceCodeLocation sourceCodeLocation, String description) {
-        checkArgument(!originClass.equals(targetClass) || targetClass.isPrimitive(),
-                "Tried to create illegal dependency '%s' (%s -> %s), this is likely a bug!",
-                description, originClass.getSimpleName(), targetClass.getSimpleName());
+    private Dependency(JavaClass originClass, HasDescription origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+        if (originClass.equals(targetClass) && !targetClass.isPrimitive()) {
+            throw new IllegalArgumentException(String.format("Tried to create illegal dependency '%s' (%s -> %s), this is likely a bug!",
+                    createDescription(origin, dependencyType, targetClass, sourceCodeLocation), originClass.getSimpleName(), targetClass.getSimpleName()));
+        }
 
         this.originClass = originClass;
+        this.origin = origin;
+        this.dependencyType = dependencyType;
         this.targetClass = targetClass;
-        this.description = description;
         this.sourceCodeLocation = sourceCodeLocation;
-        hashCode = Objects.hash(originClass, targetClass, sourceCodeLocation, description);
+        hashCode = Objects.hash(originClass, targetClass, sourceCodeLocation.getLineNumber(), dependencyType, originDescriptionHashCode(origin));
+    }
+
+    // different origin elements can have the same description (e.g. bridge methods or parameters of the same type),
+    // so the hash code must only depend on parts that are the same for equal descriptions
+    private static int originDescriptionHashCode(HasDescription origin) {
+        if (origin instanceof JavaParameter) {
+            return originDescriptionHashCode(((JavaParameter) origin).getOwner());
+        }
+        if (origin instanceof JavaMember) {
+            JavaMember member = (JavaMember) origin;
+            return Objects.hash(member.getOwner(), member.getName());
+        }
+        return origin.hashCode();
     }
 
     static Set<Dependency> tryCreateFromAccess(JavaAccess<?> access) {
         JavaClass originOwner = access.getOriginOwner();
         JavaClass targetOwner = access.getTargetOwner();
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originOwner, access.getOrigin().getDescription(), targetOwner, access.getSourceCodeLocation()));
+                .addAll(createComponentTypeDependencies(originOwner, access.getOrigin(), targetOwner, access.getSourceCodeLocation()));
         if (!originOwner.equals(targetOwner) && !targetOwner.isPrimitive()) {
             dependencies.add(new Dependency.FromAccess(access));
         }
@@ -91,26 +111,31 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     }
 
     static Dependency fromInheritance(JavaClass origin, JavaClass targetSupertype) {
-        String originType = origin.isInterface() ? "Interface" : "Class";
-        String originDescription = originType + " " + bracketFormat(origin.getName());
+        HasDescription originDescription = origin.isInterface() ? new InterfaceDescription(origin) : origin;
 
-        String dependencyType = !origin.isInterface() && targetSupertype.isInterface() ? "implements" : "extends";
+        String dependencyType = !targetSupertype.isInterface()
+                ? EXTENDS_CLASS
+                : origin.isInterface() ? EXTENDS_INTERFACE : IMPLEMENTS_INTERFACE;
 
-        String targetType = targetSupertype.isInterface() ? "interface" : "class";
-        String targetDescription = bracketFormat(targetSupertype.getName());
-
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetType + " " + targetDescription;
-
-        String description = dependencyDescription + " in " + origin.getSourceCodeLocation();
-        Optional<Dependency> result = tryCreateDependency(origin, targetSupertype, description, origin.getSourceCodeLocation());
+        Optional<Dependency> result = tryCreateSingleDependency(
+                origin, originDescription, dependencyType, targetSupertype, origin.getSourceCodeLocation());
 
         if (!result.isPresent()) {
             throw new IllegalStateException(String.format("Tried to create illegal inheritance dependency '%s' (%s -> %s), this is likely a bug!",
-                    description, origin.getSimpleName(), targetSupertype.getSimpleName()));
+                    createDescription(originDescription, dependencyType, targetSupertype, origin.getSourceCodeLocation()),
+                    origin.getSimpleName(), targetSupertype.getSimpleName()));
         }
         return result.get();
     }
 
+    boolean isFromAccess() {
+        return false;
+    }
+
+    boolean isFromInheritance() {
+        return EXTENDS_CLASS.equals(dependencyType) || EXTENDS_INTERFACE.equals(dependencyType) || IMPLEMENTS_INTERFACE.equals(dependencyType);
+    }
+
     static Set<Dependency> tryCreateFromField(JavaField field) {
         return tryCreateDependency(field, "has type", field.getRawType());
     }
@@ -188,21 +213,25 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     private static Origin findSuitableOrigin(Object dependencyCause, Object originCandidate) {
         if (originCandidate instanceof JavaMember) {
             JavaMember member = (JavaMember) originCandidate;
-            return new Origin(member.getOwner(), member.getDescription());
+            return new Origin(member.getOwner(), member);
         }
         if (originCandidate instanceof JavaClass) {
             JavaClass clazz = (JavaClass) originCandidate;
-            return new Origin(clazz, clazz.getDescription());
+            return new Origin(clazz, clazz);
         }
         if (originCandidate instanceof JavaParameter) {
             JavaParameter parameter = (JavaParameter) originCandidate;
-            return new Origin(parameter.getOwner().getOwner(), parameter.getDescription());
+            return new Origin(parameter.getOwner().getOwner(), parameter);
         }
         throw new IllegalStateException("Could not find suitable dependency origin for " + dependencyCause);
     }
 
     private static Set<Dependency> tryCreateDependency(JavaClass origin, String dependencyType, JavaClass targetClass) {
-        return tryCreateDependency(origin, origin.getDescription(), dependencyType, targetClass, origin.getSourceCodeLocation());
+        return tryCreateDependency(origin, origin, dependencyType, targetClass, origin.getSourceCodeLocation());
+    }
+
+    private static Set<Dependency> tryCreateDependency(Origin origin, String dependencyType, JavaClass targetClass) {
+        return tryCreateDependency(origin.originClass, origin.originElement, dependencyType, targetClass, origin.originClass.getSourceCodeLocation());
     }
 
     private static <T extends HasOwner<JavaClass> & HasDescription> Set<Dependency> tryCreateDependency(
@@ -214,41 +243,41 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     private static <T extends HasOwner<JavaClass> & HasDescription> Set<Dependency> tryCreateDependency(
             T origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
 
-        return tryCreateDependency(origin.getOwner(), origin.getDescription(), dependencyType, targetClass, sourceCodeLocation);
+        return tryCreateDependency(origin.getOwner(), origin, dependencyType, targetClass, sourceCodeLocation);
     }
 
     private static Set<Dependency> tryCreateDependency(
-            JavaClass originClass, String originDescription, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+            JavaClass originClass, HasDescription origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
 
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originClass, originDescription, targetClass, sourceCodeLocation));
-        String targetDescription = bracketFormat(targetClass.getName());
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetDescription;
-        String description = dependencyDescription + " in " + sourceCodeLocation;
-        dependencies.addAll(asSet(tryCreateDependency(originClass, targetClass, description, sourceCodeLocation)));
+                .addAll(createComponentTypeDependencies(originClass, origin, targetClass, sourceCodeLocation));
+        dependencies.addAll(asSet(tryCreateSingleDependency(originClass, origin, dependencyType, targetClass, sourceCodeLocation)));
         return dependencies.build();
     }
 
     private static Set<Dependency> createComponentTypeDependencies(
-            JavaClass originClass, String originDescription, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+            JavaClass originClass, HasDescription origin, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
 
         ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
         Optional<JavaClass> componentType = targetClass.tryGetComponentType();
         while (componentType.isPresent()) {
-            String componentTypeTargetDescription = bracketFormat(componentType.get().getName());
-            String componentTypeDependencyDescription = originDescription + " depends on component type " + componentTypeTargetDescription;
-            String componentTypeDescription = componentTypeDependencyDescription + " in " + sourceCodeLocation;
-            result.addAll(asSet(tryCreateDependency(originClass, componentType.get(), componentTypeDescription, sourceCodeLocation)));
+            result.addAll(asSet(tryCreateSingleDependency(originClass, origin, "depends on component type", componentType.get(), sourceCodeLocation)));
             componentType = componentType.get().tryGetComponentType();
         }
         return result.build();
     }
 
-    private static Optional<Dependency> tryCreateDependency(JavaClass originClass, JavaClass targetClass, String description, SourceCodeLocation sourceCodeLocation) {
+    private static Optional<Dependency> tryCreateSingleDependency(
+            JavaClass originClass, HasDescription origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+
         if (originClass.equals(targetClass) || targetClass.isPrimitive()) {
             return Optional.empty();
         }
-        return Optional.of(new Dependency(originClass, targetClass, sourceCodeLocation, description));
+        return Optional.of(new Dependency(originClass, origin, dependencyType, targetClass, sourceCodeLocation));
+    }
+
+    private static String createDescription(HasDescription origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+        return origin.getDescription() + " " + dependencyType + " " + bracketFormat(targetClass.getName()) + " in " + sourceCodeLocation;
     }
 
     private static String bracketFormat(String name) {
@@ -274,7 +303,7 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     @Override
     @PublicAPI(usage = ACCESS)
     public String getDescription() {
-        return description;
+        return createDescription(origin, dependencyType, targetClass, sourceCodeLocation);
     }
 
     /**
@@ -321,8 +350,15 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
         Dependency other = (Dependency) obj;
         return Objects.equals(this.originClass, other.originClass)
                 && Objects.equals(this.targetClass, other.targetClass)
-                && Objects.equals(this.sourceCodeLocation.getLineNumber(), other.sourceCodeLocation.getLineNumber())
-                && Objects.equals(this.description, other.description);
+                && Objects.equals(this.sourceCodeLocation, other.sourceCodeLocation)
+                && Objects.equals(this.dependencyType, other.dependencyType)
+                && hasSameOriginDescription(other);
+    }
+
+    private boolean hasSameOriginDescription(Dependency other) {
+        return Objects.equals(this.origin, other.origin)
+                || (originDescriptionHashCode(this.origin) == originDescriptionHashCode(other.origin)
+                && this.origin.getDescription().equals(other.origin.getDescription()));
     }
 
     @Override
@@ -331,7 +367,7 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
                 .add("originClass", originClass)
                 .add("targetClass", targetClass)
                 .add("sourceCodeLocation", sourceCodeLocation)
-                .add("description", description)
+                .add("description", getDescription())
                 .toString();
     }
 
@@ -348,10 +384,20 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
         private final JavaAccess<?> access;
 
         FromAccess(JavaAccess<?> access) {
-            super(access.getOriginOwner(), access.getTargetOwner(), access.getSourceCodeLocation(), access.getDescription());
+            super(access.getOriginOwner(), access.getOrigin(), access.descriptionVerb(), access.getTargetOwner(), access.getSourceCodeLocation());
             this.access = access;
         }
 
+        @Override
+        public String getDescription() {
+            return access.getDescription();
+        }
+
+        @Override
+        boolean isFromAccess() {
+            return true;
+        }
+
         @Override
         @SuppressWarnings("unchecked") // compatibility is explicitly checked
         public <T> Set<T> convertTo(Class<T> type) {
@@ -387,23 +433,43 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
         }
     }
 
-    private static class Origin implements HasOwner<JavaClass>, HasDescription {
+    private static class Origin {
         private final JavaClass originClass;
-        private final String originDescription;
+        private final HasDescription originElement;
 
-        private Origin(JavaClass originClass, String originDescription) {
+        private Origin(JavaClass originClass, HasDescription originElement) {
             this.originClass = originClass;
-            this.originDescription = originDescription;
+            this.originElement = originElement;
         }
+    }
 
-        @Override
-        public JavaClass getOwner() {
-            return originClass;
+    private static class InterfaceDescription implements HasDescription {
+        private final JavaClass javaInterface;
+
+        private InterfaceDescription(JavaClass javaInterface) {
+            this.javaInterface = javaInterface;
         }
 
         @Override
         public String getDescription() {
-            return originDescription;
+            return "Interface " + bracketFormat(javaInterface.getName());
+        }
+
+        @Override
+        public int hashCode() {
+            return javaInterface.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            InterfaceDescription other = (InterfaceDescription) obj;
+            return Objects.equals(this.javaInterface, other.javaInterface);
         }
     }
 
@@ -28,6 +28,7 @@ import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.ConstructorReferenceTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.MethodReferenceTarget;
+import com.tngtech.archunit.core.domain.Source.Md5sum;
 import com.tngtech.archunit.core.importer.DomainBuilders;
 import com.tngtech.archunit.core.importer.DomainBuilders.CodeUnitAccessTargetBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.FieldAccessTargetBuilder;
@@ -100,6 +101,10 @@ public class DomainObjectCreationContext {
         javaClass.completeAnnotations(importContext);
     }
 
+    public static void completeMembersLazily(JavaClass javaClass, ImportContext importContext) {
+        javaClass.completeMembersLazilyFrom(importContext);
+    }
+
     public static <T extends HasDescription> JavaAnnotation<T> createJavaAnnotation(T owner, JavaAnnotationBuilder builder) {
         return new JavaAnnotation<>(owner, builder);
     }
@@ -168,8 +173,12 @@ public class DomainObjectCreationContext {
         return new JavaEnumConstant(builder);
     }
 
-    public static Source createSource(URI uri, Optional<String> sourceFileName, boolean md5InClassSourcesEnabled) {
-        return new Source(uri, sourceFileName, md5InClassSourcesEnabled);
+    public static Source createSource(URI uri, Optional<String> sourceFileName, Optional<Md5sum> md5sum) {
+        return new Source(uri, sourceFileName, md5sum.orElse(Md5sum.DISABLED));
+    }
+
+    public static Md5sum createMd5sum(byte[] input) {
+        return Md5sum.of(input);
     }
 
     public static ReferencedClassObject createReferencedClassObject(JavaCodeUnit codeUnit, JavaClass javaClass, int lineNumber, boolean declaredInLambda) {
@@ -70,4 +70,6 @@ public interface ImportContext {
     Set<InstanceofCheck> createInstanceofChecksFor(JavaCodeUnit codeUnit);
 
     JavaClass resolveClass(String fullyQualifiedClassName);
+
+    boolean isCodeImported();
 }
@@ -68,7 +68,7 @@ import static com.tngtech.archunit.core.domain.properties.HasType.Functions.GET_
 import static java.util.Arrays.stream;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
-import static java.util.stream.Collectors.toSet;
+import static java.util.Collections.singleton;
 
 @PublicAPI(usage = ACCESS)
 public final class JavaClass
@@ -128,7 +128,11 @@ public final class JavaClass
     private Optional<JavaClass> componentType = Optional.empty();
     private Map<String, JavaAnnotation<JavaClass>> annotations = emptyMap();
     private JavaClassDependencies javaClassDependencies = new JavaClassDependencies(this);  // just for stubs; will be overwritten for imported classes
-    private ReverseDependencies reverseDependencies = ReverseDependencies.EMPTY;  // just for stubs; will be overwritten for imported classes
+    private Supplier<ReverseDependencies> reverseDependencies = () -> ReverseDependencies.EMPTY;  // just for stubs; will be overwritten for imported classes
+    private boolean memberCompletionDeferred = false;
+    private volatile ImportContext deferredMemberCompletionContext;  // reset to null once the deferred completion has run
+    private boolean deferredMemberCompletionRunning = false;  // guarded by the deferredMemberCompletionContext
+    private Optional<JavaClassTransitiveDependencies> transitiveDependencies = Optional.empty();  // just for stubs; will be set for imported classes
     private final CompletionProcess completionProcess;
 
     JavaClass(JavaClassBuilder builder) {
@@ -256,7 +260,7 @@ public final class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaEnumConstant> getEnumConstants() {
-        return members.getEnumConstants();
+        return members().getEnumConstants();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -558,13 +562,13 @@ public final class JavaClass
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean isAnnotatedWith(String annotationTypeName) {
-        return annotations.containsKey(annotationTypeName);
+        return annotations().containsKey(annotationTypeName);
     }
 
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean isAnnotatedWith(DescribedPredicate<? super JavaAnnotation<?>> predicate) {
-        return CanBeAnnotated.Utils.isAnnotatedWith(annotations.values(), predicate);
+        return CanBeAnnotated.Utils.isAnnotatedWith(annotations().values(), predicate);
     }
 
     @Override
@@ -582,7 +586,7 @@ public final class JavaClass
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean isMetaAnnotatedWith(DescribedPredicate<? super JavaAnnotation<?>> predicate) {
-        return CanBeAnnotated.Utils.isMetaAnnotatedWith(annotations.values(), predicate);
+        return CanBeAnnotated.Utils.isMetaAnnotatedWith(annotations().values(), predicate);
     }
 
     /**
@@ -611,7 +615,7 @@ public final class JavaClass
     @Override
     @PublicAPI(usage = ACCESS)
     public Set<JavaAnnotation<JavaClass>> getAnnotations() {
-        return ImmutableSet.copyOf(annotations.values());
+        return ImmutableSet.copyOf(annotations().values());
     }
 
     /**
@@ -633,7 +637,7 @@ public final class JavaClass
     @Override
     @PublicAPI(usage = ACCESS)
     public Optional<JavaAnnotation<JavaClass>> tryGetAnnotationOfType(String typeName) {
-        return Optional.ofNullable(annotations.get(typeName));
+        return Optional.ofNullable(annotations().get(typeName));
     }
 
     @Override
@@ -644,17 +648,17 @@ public final class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public Set<InstanceofCheck> getInstanceofChecks() {
-        return members.getInstanceofChecks();
+        return members().getInstanceofChecks();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<TryCatchBlock> getTryCatchBlocks() {
-        return members.getTryCatchBlocks();
+        return members().getTryCatchBlocks();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<ReferencedClassObject> getReferencedClassObjects() {
-        return members.getReferencedClassObjects();
+        return members().getReferencedClassObjects();
     }
 
     @Override
@@ -809,22 +813,22 @@ public final class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMember> getMembers() {
-        return members.get();
+        return members().get();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMember> getAllMembers() {
-        return members.getAll();
+        return members().getAll();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaField> getFields() {
-        return members.getFields();
+        return members().getFields();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaField> getAllFields() {
-        return members.getAllFields();
+        return members().getAllFields();
     }
 
     /**
@@ -833,7 +837,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaField getField(String name) {
-        return members.getField(name);
+        return members().getField(name);
     }
 
     /**
@@ -841,12 +845,12 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaField> tryGetField(String name) {
-        return members.tryGetField(name);
+        return members().tryGetField(name);
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaCodeUnit> getCodeUnits() {
-        return members.getCodeUnits();
+        return members().getCodeUnits();
     }
 
     /**
@@ -891,7 +895,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaCodeUnit getCodeUnitWithParameterTypeNames(String name, List<String> parameters) {
-        return members.getCodeUnitWithParameterTypeNames(name, parameters);
+        return members().getCodeUnitWithParameterTypeNames(name, parameters);
     }
 
     /**
@@ -900,7 +904,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaCodeUnit> tryGetCodeUnitWithParameterTypeNames(String name, List<String> parameters) {
-        return members.tryGetCodeUnitWithParameterTypeNames(name, parameters);
+        return members().tryGetCodeUnitWithParameterTypeNames(name, parameters);
     }
 
     /**
@@ -909,7 +913,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaMethod getMethod(String name) {
-        return members.getMethod(name, Collections.emptyList());
+        return members().getMethod(name, Collections.emptyList());
     }
 
     /**
@@ -918,7 +922,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaMethod getMethod(String name, Class<?>... parameters) {
-        return members.getMethod(name, formatNamesOf(parameters));
+        return members().getMethod(name, formatNamesOf(parameters));
     }
 
     /**
@@ -926,7 +930,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaMethod getMethod(String name, String... parameters) {
-        return members.getMethod(name, ImmutableList.copyOf(parameters));
+        return members().getMethod(name, ImmutableList.copyOf(parameters));
     }
 
     /**
@@ -935,7 +939,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaMethod> tryGetMethod(String name) {
-        return members.tryGetMethod(name, Collections.emptyList());
+        return members().tryGetMethod(name, Collections.emptyList());
     }
 
     /**
@@ -944,7 +948,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaMethod> tryGetMethod(String name, Class<?>... parameters) {
-        return members.tryGetMethod(name, formatNamesOf(parameters));
+        return members().tryGetMethod(name, formatNamesOf(parameters));
     }
 
     /**
@@ -952,17 +956,17 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaMethod> tryGetMethod(String name, String... parameters) {
-        return members.tryGetMethod(name, ImmutableList.copyOf(parameters));
+        return members().tryGetMethod(name, ImmutableList.copyOf(parameters));
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethod> getMethods() {
-        return members.getMethods();
+        return members().getMethods();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethod> getAllMethods() {
-        return members.getAllMethods();
+        return members().getAllMethods();
     }
 
     /**
@@ -971,7 +975,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaConstructor getConstructor() {
-        return members.getConstructor(Collections.emptyList());
+        return members().getConstructor(Collections.emptyList());
     }
 
     /**
@@ -985,7 +989,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaConstructor getConstructor(Class<?>... parameters) {
-        return members.getConstructor(formatNamesOf(parameters));
+        return members().getConstructor(formatNamesOf(parameters));
     }
 
     /**
@@ -993,7 +997,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaConstructor getConstructor(String... parameters) {
-        return members.getConstructor(ImmutableList.copyOf(parameters));
+        return members().getConstructor(ImmutableList.copyOf(parameters));
     }
 
     /**
@@ -1002,7 +1006,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaConstructor> tryGetConstructor() {
-        return members.tryGetConstructor(Collections.emptyList());
+        return members().tryGetConstructor(Collections.emptyList());
     }
 
     /**
@@ -1011,7 +1015,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaConstructor> tryGetConstructor(Class<?>... parameters) {
-        return members.tryGetConstructor(formatNamesOf(parameters));
+        return members().tryGetConstructor(formatNamesOf(parameters));
     }
 
     /**
@@ -1019,22 +1023,22 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaConstructor> tryGetConstructor(String... parameters) {
-        return members.tryGetConstructor(ImmutableList.copyOf(parameters));
+        return members().tryGetConstructor(ImmutableList.copyOf(parameters));
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructor> getConstructors() {
-        return members.getConstructors();
+        return members().getConstructors();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructor> getAllConstructors() {
-        return members.getAllConstructors();
+        return members().getAllConstructors();
     }
 
     @PublicAPI(usage = ACCESS)
     public Optional<JavaStaticInitializer> getStaticInitializer() {
-        return members.getStaticInitializer();
+        return members().getStaticInitializer();
     }
 
     /**
@@ -1082,7 +1086,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getFieldAccessesFromSelf() {
-        return members.getFieldAccessesFromSelf();
+        return members().getFieldAccessesFromSelf();
     }
 
     /**
@@ -1134,7 +1138,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getMethodCallsFromSelf() {
-        return members.getMethodCallsFromSelf();
+        return members().getMethodCallsFromSelf();
     }
 
     /**
@@ -1151,7 +1155,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getConstructorCallsFromSelf() {
-        return members.getConstructorCallsFromSelf();
+        return members().getConstructorCallsFromSelf();
     }
 
     /**
@@ -1185,7 +1189,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodReference> getMethodReferencesFromSelf() {
-        return members.getMethodReferencesFromSelf();
+        return members().getMethodReferencesFromSelf();
     }
 
     /**
@@ -1202,7 +1206,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorReference> getConstructorReferencesFromSelf() {
-        return members.getConstructorReferencesFromSelf();
+        return members().getConstructorReferencesFromSelf();
     }
 
     /**
@@ -1211,34 +1215,46 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getDirectDependenciesFromSelf() {
+        completeDeferredMembers();
         return javaClassDependencies.getDirectDependenciesFromClass();
     }
 
     /**
      * Returns the transitive closure of all dependencies originating from this class, i.e. its direct dependencies
      * and the dependencies from all imported target classes.
+     * <br><br>
+     * Note that the first call of this method (or of {@link JavaClasses#getDependencyGraph()}) builds the dependency graph
+     * of the whole import. This creates the members of all classes that were only resolved as dependencies,
+     * which are otherwise only created once they are accessed for the first time.
      * @return all transitive dependencies (including direct dependencies) from this class
      * @see #getDirectDependenciesFromSelf()
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getTransitiveDependenciesFromSelf() {
-        return JavaClassTransitiveDependencies.findTransitiveDependenciesFrom(this);
+        return transitiveDependencies
+                .orElseGet(() -> new JavaClassTransitiveDependencies(() -> JavaClassDependencyGraph.of(singleton(this))))
+                .findTransitiveDependenciesFrom(this);
     }
 
     /**
      * Like {@link #getDirectDependenciesFromSelf()}, but instead returns all dependencies where this class
      * is target.
+     * <br><br>
+     * Note that the first query for dependencies or accesses to any class of an import (e.g. this method,
+     * {@link #getAccessesToSelf()} or {@link JavaPackage#getClassDependenciesToThisPackage()}) needs the members
+     * of all classes of the import. Thus, it creates the members of all classes that were only resolved as dependencies,
+     * one class after another.
      *
      * @return Dependencies where this class is the target.
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getDirectDependenciesToSelf() {
-        return reverseDependencies.getDirectDependenciesTo(this);
+        return reverseDependencies.get().getDirectDependenciesTo(this);
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getFieldAccessesToSelf() {
-        return members.getFieldAccessesToSelf();
+        return members().getFieldAccessesToSelf();
     }
 
     /**
@@ -1270,7 +1286,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getMethodCallsToSelf() {
-        return members.getMethodCallsToSelf();
+        return members().getMethodCallsToSelf();
     }
 
     /**
@@ -1278,7 +1294,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodReference> getMethodReferencesToSelf() {
-        return members.getMethodReferencesToSelf();
+        return members().getMethodReferencesToSelf();
     }
 
     /**
@@ -1286,7 +1302,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getConstructorCallsToSelf() {
-        return members.getConstructorCallsToSelf();
+        return members().getConstructorCallsToSelf();
     }
 
     /**
@@ -1294,7 +1310,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorReference> getConstructorReferencesToSelf() {
-        return members.getConstructorReferencesToSelf();
+        return members().getConstructorReferencesToSelf();
     }
 
     /**
@@ -1310,7 +1326,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaField> getFieldsWithTypeOfSelf() {
-        return reverseDependencies.getFieldsWithTypeOf(this);
+        return reverseDependencies.get().getFieldsWithTypeOf(this);
     }
 
     /**
@@ -1318,7 +1334,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethod> getMethodsWithParameterTypeOfSelf() {
-        return reverseDependencies.getMethodsWithParameterTypeOf(this);
+        return reverseDependencies.get().getMethodsWithParameterTypeOf(this);
     }
 
     /**
@@ -1326,7 +1342,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethod> getMethodsWithReturnTypeOfSelf() {
-        return reverseDependencies.getMethodsWithReturnTypeOf(this);
+        return reverseDependencies.get().getMethodsWithReturnTypeOf(this);
     }
 
     /**
@@ -1334,7 +1350,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<ThrowsDeclaration<JavaMethod>> getMethodThrowsDeclarationsWithTypeOfSelf() {
-        return reverseDependencies.getMethodThrowsDeclarationsWithTypeOf(this);
+        return reverseDependencies.get().getMethodThrowsDeclarationsWithTypeOf(this);
     }
 
     /**
@@ -1342,7 +1358,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<TryCatchBlock> getTryCatchBlocksThatCatchSelf() {
-        return reverseDependencies.getTryCatchBlocksThatCatch(this);
+        return reverseDependencies.get().getTryCatchBlocksThatCatch(this);
     }
 
     /**
@@ -1350,7 +1366,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructor> getConstructorsWithParameterTypeOfSelf() {
-        return reverseDependencies.getConstructorsWithParameterTypeOf(this);
+        return reverseDependencies.get().getConstructorsWithParameterTypeOf(this);
     }
 
     /**
@@ -1358,7 +1374,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<ThrowsDeclaration<JavaConstructor>> getConstructorsWithThrowsDeclarationTypeOfSelf() {
-        return reverseDependencies.getConstructorsWithThrowsDeclarationTypeOf(this);
+        return reverseDependencies.get().getConstructorsWithThrowsDeclarationTypeOf(this);
     }
 
     /**
@@ -1366,7 +1382,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaAnnotation<?>> getAnnotationsWithTypeOfSelf() {
-        return reverseDependencies.getAnnotationsWithTypeOf(this);
+        return reverseDependencies.get().getAnnotationsWithTypeOf(this);
     }
 
     /**
@@ -1374,7 +1390,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaAnnotation<?>> getAnnotationsWithParameterTypeOfSelf() {
-        return reverseDependencies.getAnnotationsWithParameterTypeOf(this);
+        return reverseDependencies.get().getAnnotationsWithParameterTypeOf(this);
     }
 
     /**
@@ -1382,7 +1398,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<InstanceofCheck> getInstanceofChecksWithTypeOfSelf() {
-        return reverseDependencies.getInstanceofChecksWithTypeOf(this);
+        return reverseDependencies.get().getInstanceofChecksWithTypeOf(this);
     }
 
     /**
@@ -1393,6 +1409,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public boolean isFullyImported() {
+        completeDeferredMembers();
         return completionProcess.hasFinished();
     }
 
@@ -1524,11 +1541,66 @@ public final class JavaClass
         completionProcess.markAnnotationsComplete();
     }
 
-    JavaClassDependencies completeFrom(ImportContext context) {
+    /**
+     * Defers {@link #completeMembers(ImportContext)}, {@link #completeAnnotations(ImportContext)} and the completion
+     * of the code units until members or annotations of this class are requested for the first time.
+     * All types these members refer to must already have been resolved by the {@link ImportContext}, since classes resolved
+     * after the import would not be part of the imported {@link JavaClasses}.
+     * All deferred completions of one import are synchronized on the {@link ImportContext}, since they share its state.
+     */
+    void completeMembersLazilyFrom(ImportContext context) {
+        memberCompletionDeferred = true;
+        deferredMemberCompletionContext = context;
+    }
+
+    private void completeDeferredMembers() {
+        ImportContext context = deferredMemberCompletionContext;
+        if (context == null) {
+            return;
+        }
+        synchronized (context) {
+            // a running completion can only be observed by the completing thread itself, which then sees the members completed so far
+            if (deferredMemberCompletionContext == null || deferredMemberCompletionRunning) {
+                return;
+            }
+            deferredMemberCompletionRunning = true;
+            try {
+                completeMembers(context);
+                completeAnnotations(context);
+                completeCodeUnitsFrom(context);
+                members.setReverseDependencies(reverseDependencies);
+                deferredMemberCompletionContext = null;
+            } finally {
+                // if the completion failed, the next access will try again instead of silently seeing incomplete members
+                deferredMemberCompletionRunning = false;
+            }
+        }
+    }
+
+    boolean hasDeferredMembers() {
+        return deferredMemberCompletionContext != null;
+    }
+
+    private JavaClassMembers members() {
+        completeDeferredMembers();
+        return members;
+    }
+
+    private Map<String, JavaAnnotation<JavaClass>> annotations() {
+        completeDeferredMembers();
+        return annotations;
+    }
+
+    void completeFrom(ImportContext context) {
         completeComponentType(context);
+        if (!memberCompletionDeferred) {
+            completeCodeUnitsFrom(context);
+        }
+    }
+
+    private void completeCodeUnitsFrom(ImportContext context) {
         members.completeFrom(context);
         javaClassDependencies = new JavaClassDependencies(this);
-        return javaClassDependencies;
     }
 
     private void completeComponentType(ImportContext context) {
@@ -1540,7 +1612,11 @@ public final class JavaClass
         }
     }
 
-    void setReverseDependencies(ReverseDependencies reverseDependencies) {
+    void setTransitiveDependencies(JavaClassTransitiveDependencies transitiveDependencies) {
+        this.transitiveDependencies = Optional.of(transitiveDependencies);
+    }
+
+    void setReverseDependencies(Supplier<ReverseDependencies> reverseDependencies) {
         this.reverseDependencies = reverseDependencies;
         members.setReverseDependencies(reverseDependencies);
         completionProcess.markDependenciesComplete();
@@ -2363,8 +2439,7 @@ public final class JavaClass
         }
 
         private static DescribedPredicate<JavaClass> resideInAnyPackage(String[] packageIdentifiers, String description) {
-            Set<PackageMatcher> packageMatchers = stream(packageIdentifiers).map(PackageMatcher::of).collect(toSet());
-            return new PackageMatchesPredicate(packageMatchers, description);
+            return new PackageMatchesPredicate(PackageMatchers.of(packageIdentifiers), description);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -2624,16 +2699,16 @@ public final class JavaClass
         }
 
         private static class PackageMatchesPredicate extends DescribedPredicate<JavaClass> {
-            private final Set<PackageMatcher> packageMatchers;
+            private final PackageMatchers packageMatchers;
 
-            PackageMatchesPredicate(Set<PackageMatcher> packageMatchers, String description) {
+            PackageMatchesPredicate(PackageMatchers packageMatchers, String description) {
                 super(description);
                 this.packageMatchers = packageMatchers;
             }
 
             @Override
             public boolean test(JavaClass input) {
-                return packageMatchers.stream().anyMatch(matcher -> matcher.matches(input.getPackageName()));
+                return packageMatchers.test(input.getPackageName());
             }
         }
 
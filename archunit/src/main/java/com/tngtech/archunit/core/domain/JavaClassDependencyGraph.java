@@ -0,0 +1,275 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.PublicAPI;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * An immutable view of the {@link Dependency dependencies} between {@link JavaClass classes} as a graph of primitive ids.
+ * Graph algorithms can use it without traversing {@link JavaClass} objects or creating {@link Dependency} objects again and again.
+ * <br><br>
+ * Every class of the graph is identified by an id from {@code 0} to {@link #size()}{@code - 1}. The graph contains
+ * all classes it has been created from, and all classes these classes transitively depend on. All {@link Dependency dependencies}
+ * from one class to another are aggregated into a single edge between their ids, where dependencies on array types count as
+ * dependencies on their base component type. Each edge carries the kinds of the aggregated dependencies as a combination of the flags
+ * {@link #EDGE_KIND_ACCESS}, {@link #EDGE_KIND_INHERITANCE} and {@link #EDGE_KIND_OTHER}.
+ * <br><br>
+ * The edges are stored in compressed sparse row format, i.e. the outgoing edges of the class with id {@code i} are the entries
+ * {@code 0} to {@link #getNumberOfOutgoingEdges(int) getNumberOfOutgoingEdges(i)}{@code - 1} of the class, and likewise for the incoming edges.
+ * <br><br>
+ * The graph of some {@link JavaClasses} can be obtained via {@link JavaClasses#getDependencyGraph()}. It is only built once
+ * and then shared by all {@link JavaClasses} of the same import.
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class JavaClassDependencyGraph {
+    /**
+     * Flag of an edge that aggregates accesses to fields, calls of methods or constructors, or method or constructor references
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public static final int EDGE_KIND_ACCESS = 1;
+    /**
+     * Flag of an edge from a class to one of its direct superclasses or interfaces
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public static final int EDGE_KIND_INHERITANCE = 1 << 1;
+    /**
+     * Flag of an edge that aggregates any other dependency, e.g. on field types, parameter types or annotations
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public static final int EDGE_KIND_OTHER = 1 << 2;
+
+    private final List<JavaClass> classes;
+    private final Map<JavaClass, Integer> ids;
+    private final Edges outgoingEdges;
+    private final Edges incomingEdges;
+
+    private JavaClassDependencyGraph(List<JavaClass> classes, Map<JavaClass, Integer> ids, Edges outgoingEdges) {
+        this.classes = classes;
+        this.ids = ids;
+        this.outgoingEdges = outgoingEdges;
+        this.incomingEdges = outgoingEdges.reverse();
+    }
+
+    /**
+     * @return The number of classes within this graph
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int size() {
+        return classes.size();
+    }
+
+    /**
+     * @return The class with the given id
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public JavaClass getJavaClass(int id) {
+        return classes.get(id);
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public boolean contains(JavaClass javaClass) {
+        return ids.containsKey(javaClass);
+    }
+
+    /**
+     * @return The id of the given class; throws an exception if the class is not contained in this graph
+     * @see #contains(JavaClass)
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getId(JavaClass javaClass) {
+        Integer id = ids.get(javaClass);
+        checkArgument(id != null, "%s does not contain %s", getClass().getSimpleName(), javaClass.getName());
+        return id;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getNumberOfOutgoingEdges(int id) {
+        return outgoingEdges.getNumberOfEdges(id);
+    }
+
+    /**
+     * @return The id of the target class of the outgoing edge with the given index of the class with the given id
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getOutgoingEdgeTarget(int id, int index) {
+        return outgoingEdges.getOtherEnd(id, index);
+    }
+
+    /**
+     * @return The kinds of the outgoing edge with the given index of the class with the given id,
+     *         i.e. a combination of the flags {@link #EDGE_KIND_ACCESS}, {@link #EDGE_KIND_INHERITANCE} and {@link #EDGE_KIND_OTHER}
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getOutgoingEdgeKinds(int id, int index) {
+        return outgoingEdges.getKinds(id, index);
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getNumberOfIncomingEdges(int id) {
+        return incomingEdges.getNumberOfEdges(id);
+    }
+
+    /**
+     * @return The id of the origin class of the incoming edge with the given index of the class with the given id
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getIncomingEdgeOrigin(int id, int index) {
+        return incomingEdges.getOtherEnd(id, index);
+    }
+
+    /**
+     * @return The kinds of the incoming edge with the given index of the class with the given id
+     * @see #getOutgoingEdgeKinds(int, int)
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getIncomingEdgeKinds(int id, int index) {
+        return incomingEdges.getKinds(id, index);
+    }
+
+    /**
+     * Creates the graph of the given classes and all classes they transitively depend on.
+     * The ids are assigned in the order the classes are iterated, followed by the classes only reached via dependencies.
+     * The outgoing edges of each class are ordered by the first {@link JavaClass#getDirectDependenciesFromSelf() dependency} on the respective target.
+     */
+    static JavaClassDependencyGraph of(Iterable<JavaClass> classes) {
+        List<JavaClass> classesById = new ArrayList<>();
+        Map<JavaClass, Integer> ids = new HashMap<>();
+        for (JavaClass javaClass : classes) {
+            getOrAssignId(javaClass, classesById, ids);
+        }
+
+        EdgesBuilder edges = new EdgesBuilder();
+        // the list grows while we iterate, until all transitively reachable classes have been visited
+        for (int id = 0; id < classesById.size(); id++) {
+            JavaClass origin = classesById.get(id);
+            Map<Integer, Integer> kindsByTarget = new LinkedHashMap<>();
+            for (Dependency dependency : origin.getDirectDependenciesFromSelf()) {
+                JavaClass target = dependency.getTargetClass().getBaseComponentType();
+                if (!target.equals(origin)) {
+                    kindsByTarget.merge(getOrAssignId(target, classesById, ids), kindOf(dependency), (first, second) -> first | second);
+                }
+            }
+            edges.addEdgesOf(id, kindsByTarget);
+        }
+        return new JavaClassDependencyGraph(ImmutableList.copyOf(classesById), ids, edges.build(classesById.size()));
+    }
+
+    private static int getOrAssignId(JavaClass javaClass, List<JavaClass> classesById, Map<JavaClass, Integer> ids) {
+        return ids.computeIfAbsent(javaClass, clazz -> {
+            classesById.add(clazz);
+            return classesById.size() - 1;
+        });
+    }
+
+    private static int kindOf(Dependency dependency) {
+        if (dependency.isFromAccess()) {
+            return EDGE_KIND_ACCESS;
+        }
+        return dependency.isFromInheritance() ? EDGE_KIND_INHERITANCE : EDGE_KIND_OTHER;
+    }
+
+    private static class Edges {
+        // the edges of the class with id i are stored at the indexes offsets[i] until offsets[i + 1] - 1
+        private final int[] offsets;
+        private final int[] otherEnds;
+        private final byte[] kinds;
+
+        Edges(int[] offsets, int[] otherEnds, byte[] kinds) {
+            this.offsets = offsets;
+            this.otherEnds = otherEnds;
+            this.kinds = kinds;
+        }
+
+        int getNumberOfEdges(int id) {
+            return offsets[id + 1] - offsets[id];
+        }
+
+        int getOtherEnd(int id, int index) {
+            return otherEnds[edgeIndex(id, index)];
+        }
+
+        int getKinds(int id, int index) {
+            return kinds[edgeIndex(id, index)];
+        }
+
+        private int edgeIndex(int id, int index) {
+            checkElementIndex(index, getNumberOfEdges(id));
+            return offsets[id] + index;
+        }
+
+        Edges reverse() {
+            int numberOfClasses = offsets.length - 1;
+            int[] reverseOffsets = new int[numberOfClasses + 1];
+            for (int otherEnd : otherEnds) {
+                reverseOffsets[otherEnd + 1]++;
+            }
+            for (int id = 0; id < numberOfClasses; id++) {
+                reverseOffsets[id + 1] += reverseOffsets[id];
+            }
+            int[] nextIndexes = Arrays.copyOf(reverseOffsets, numberOfClasses);
+            int[] reverseOtherEnds = new int[otherEnds.length];
+            byte[] reverseKinds = new byte[kinds.length];
+            for (int id = 0; id < numberOfClasses; id++) {
+                for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+                    int index = nextIndexes[otherEnds[i]]++;
+                    reverseOtherEnds[index] = id;
+                    reverseKinds[index] = kinds[i];
+                }
+            }
+            return new Edges(reverseOffsets, reverseOtherEnds, reverseKinds);
+        }
+    }
+
+    private static class EdgesBuilder {
+        private int[] offsets = new int[16];
+        private int[] otherEnds = new int[16];
+        private byte[] kinds = new byte[16];
+        private int numberOfEdges = 0;
+
+        void addEdgesOf(int id, Map<Integer, Integer> kindsByOtherEnd) {
+            for (Map.Entry<Integer, Integer> edge : kindsByOtherEnd.entrySet()) {
+                if (numberOfEdges == otherEnds.length) {
+                    otherEnds = Arrays.copyOf(otherEnds, 2 * numberOfEdges);
+                    kinds = Arrays.copyOf(kinds, 2 * numberOfEdges);
+                }
+                otherEnds[numberOfEdges] = edge.getKey();
+                kinds[numberOfEdges] = edge.getValue().byteValue();
+                numberOfEdges++;
+            }
+            if (id + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * (id + 2));
+            }
+            offsets[id + 1] = numberOfEdges;
+        }
+
+        Edges build(int numberOfClasses) {
+            return new Edges(Arrays.copyOf(offsets, numberOfClasses + 1), Arrays.copyOf(otherEnds, numberOfEdges), Arrays.copyOf(kinds, numberOfEdges));
+        }
+    }
+}
@@ -20,9 +20,11 @@ import java.util.Objects;
 import java.util.Optional;
 
 import com.google.common.base.CharMatcher;
+import com.google.common.base.MoreObjects;
 import com.google.common.base.Strings;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
@@ -64,8 +66,12 @@ public interface JavaClassDescriptor {
 
     @Internal
     final class From {
+        // Descriptors are equal by name, so evicting a descriptor only means that an equal instance is created again on demand.
+        // The bound keeps long-running processes importing many different code bases one after another from growing without limits.
+        private static final int MAX_CACHED_DESCRIPTORS = 50_000;
+
         private static final LoadingCache<String, JavaClassDescriptor> descriptorCache =
-                CacheBuilder.newBuilder().build(new CacheLoader<String, JavaClassDescriptor>() {
+                CacheBuilder.newBuilder().maximumSize(MAX_CACHED_DESCRIPTORS).recordStats().build(new CacheLoader<String, JavaClassDescriptor>() {
                     @Override
                     public JavaClassDescriptor load(String typeName) {
                         if (primitiveClassesByNameOrDescriptor.containsKey(typeName)) {
@@ -93,6 +99,14 @@ public interface JavaClassDescriptor {
             return descriptorCache.getUnchecked(typeName);
         }
 
+        /**
+         * @return Statistics about how many descriptors have been served from the cache so far, e.g. to measure the benefit of the cache
+         */
+        public static CacheStatistics getCacheStatistics() {
+            CacheStats stats = descriptorCache.stats();
+            return new CacheStatistics(descriptorCache.size(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+        }
+
         private static boolean isArray(String typeName) {
             // We support class name ([Ljava.lang.Object;) and canonical name java.lang.Object[]
             return typeName.startsWith("[") || typeName.endsWith("]");
@@ -127,6 +141,47 @@ public interface JavaClassDescriptor {
             return name(javaClass.getName());
         }
 
+        @Internal
+        public static final class CacheStatistics {
+            private final long size;
+            private final long hitCount;
+            private final long missCount;
+            private final long evictionCount;
+
+            private CacheStatistics(long size, long hitCount, long missCount, long evictionCount) {
+                this.size = size;
+                this.hitCount = hitCount;
+                this.missCount = missCount;
+                this.evictionCount = evictionCount;
+            }
+
+            public long getSize() {
+                return size;
+            }
+
+            public long getHitCount() {
+                return hitCount;
+            }
+
+            public long getMissCount() {
+                return missCount;
+            }
+
+            public long getEvictionCount() {
+                return evictionCount;
+            }
+
+            @Override
+            public String toString() {
+                return MoreObjects.toStringHelper(this)
+                        .add("size", size)
+                        .add("hitCount", hitCount)
+                        .add("missCount", missCount)
+                        .add("evictionCount", evictionCount)
+                        .toString();
+            }
+        }
+
         private abstract static class AbstractClassDescriptor implements JavaClassDescriptor {
             private final String name;
             private final String simpleName;
@@ -332,7 +332,7 @@ class JavaClassMembers {
         }
     }
 
-    void setReverseDependencies(ReverseDependencies reverseDependencies) {
+    void setReverseDependencies(Supplier<ReverseDependencies> reverseDependencies) {
         for (JavaMember member : members) {
             member.setReverseDependencies(reverseDependencies);
         }
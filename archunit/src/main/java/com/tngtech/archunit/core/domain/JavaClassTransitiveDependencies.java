@@ -15,33 +15,238 @@
  */
 package com.tngtech.archunit.core.domain;
 
-import java.util.HashSet;
+import java.lang.ref.SoftReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableSet;
 
+import static java.util.Collections.singleton;
+
+/**
+ * Computes the transitive dependencies of the classes of one import. All classes of an import share one instance,
+ * so the work to traverse the class graph is shared between the classes as well.
+ * <br><br>
+ * The {@link JavaClassDependencyGraph} is partitioned into strongly connected components (i.e. classes that transitively depend on each other)
+ * by an iterative version of Tarjan's algorithm. All classes of a component have the same transitive dependencies,
+ * so these only have to be determined once per component. Since Tarjan's algorithm completes every component after all
+ * components reachable from it, the components reachable from some component can be recorded as a {@link BitSet}
+ * over the ids of the components in the order of their completion. These {@link BitSet}s are reused by all following
+ * queries, as long as there is sufficient memory.
+ * <br><br>
+ * The components are only determined for the part of the class graph reachable from the queried classes.
+ */
 class JavaClassTransitiveDependencies {
-    private JavaClassTransitiveDependencies() {
+    private final Supplier<JavaClassDependencyGraph> graphSupplier;
+    private JavaClassDependencyGraph graph;
+    // indexed by the ids of the dependency graph
+    private int[] componentIds;
+    private int[] tarjanIndexes;
+    private int[] lowLinks;
+    private final List<Component> components = new ArrayList<>();
+    private int nextTarjanIndex = 0;
+
+    JavaClassTransitiveDependencies(Supplier<JavaClassDependencyGraph> graphSupplier) {
+        this.graphSupplier = graphSupplier;
     }
 
-    static Set<Dependency> findTransitiveDependenciesFrom(JavaClass javaClass) {
+    Set<Dependency> findTransitiveDependenciesFrom(JavaClass javaClass) {
         ImmutableSet.Builder<Dependency> transitiveDependencies = ImmutableSet.builder();
-        Set<JavaClass> analyzedClasses = new HashSet<>();  // to avoid infinite recursion for cyclic dependencies
-        addTransitiveDependenciesFrom(javaClass, transitiveDependencies, analyzedClasses);
+        for (JavaClass reachableClass : findReachableClassesFrom(javaClass)) {
+            transitiveDependencies.addAll(reachableClass.getDirectDependenciesFromSelf());
+        }
         return transitiveDependencies.build();
     }
 
-    private static void addTransitiveDependenciesFrom(JavaClass javaClass, ImmutableSet.Builder<Dependency> transitiveDependencies, Set<JavaClass> analyzedClasses) {
-        analyzedClasses.add(javaClass);  // currently being analyzed
-        Set<JavaClass> targetClassesToRecurse = new HashSet<>();
-        for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
-            transitiveDependencies.add(dependency);
-            targetClassesToRecurse.add(dependency.getTargetClass().getBaseComponentType());
+    private List<JavaClass> findReachableClassesFrom(JavaClass javaClass) {
+        if (!getGraph().contains(javaClass)) {
+            // e.g. a class of a different import
+            return new JavaClassTransitiveDependencies(() -> JavaClassDependencyGraph.of(singleton(javaClass))).findReachableClassesFrom(javaClass);
+        }
+        return findReachableClassesFrom(graph.getId(javaClass));
+    }
+
+    private synchronized List<JavaClass> findReachableClassesFrom(int id) {
+        Component component = getComponentOf(id);
+        BitSet reachableComponents = component.getReachableComponents();
+        List<JavaClass> result = new ArrayList<>();
+        for (int componentId = reachableComponents.nextSetBit(0); componentId >= 0; componentId = reachableComponents.nextSetBit(componentId + 1)) {
+            for (int member : components.get(componentId).members) {
+                result.add(graph.getJavaClass(member));
+            }
+        }
+        return result;
+    }
+
+    private synchronized JavaClassDependencyGraph getGraph() {
+        if (graph == null) {
+            graph = graphSupplier.get();
+            componentIds = new int[graph.size()];
+            tarjanIndexes = new int[graph.size()];
+            lowLinks = new int[graph.size()];
+            Arrays.fill(tarjanIndexes, -1);
+        }
+        return graph;
+    }
+
+    private Component getComponentOf(int id) {
+        if (tarjanIndexes[id] < 0) {
+            findComponentsFrom(id);
+        }
+        return components.get(componentIds[id]);
+    }
+
+    /**
+     * Tarjan's algorithm with an explicit stack instead of recursion, to support arbitrarily deep class graphs.
+     * Classes that have already been assigned to a component by a previous run are not visited again.
+     */
+    private void findComponentsFrom(int root) {
+        BitSet onComponentStack = new BitSet(graph.size());
+        IntStack componentStack = new IntStack();
+        IntStack callStack = new IntStack();
+        // the index of the next outgoing edge to follow for each class on the call stack
+        IntStack nextEdges = new IntStack();
+        visit(root, componentStack, onComponentStack, callStack, nextEdges);
+        while (!callStack.isEmpty()) {
+            int current = callStack.peek();
+            int nextEdge = nextEdges.peek();
+            if (nextEdge < graph.getNumberOfOutgoingEdges(current)) {
+                nextEdges.replaceTop(nextEdge + 1);
+                int successor = graph.getOutgoingEdgeTarget(current, nextEdge);
+                if (tarjanIndexes[successor] < 0) {
+                    visit(successor, componentStack, onComponentStack, callStack, nextEdges);
+                } else if (onComponentStack.get(successor)) {
+                    lowLinks[current] = Math.min(lowLinks[current], tarjanIndexes[successor]);
+                }
+            } else {
+                callStack.pop();
+                nextEdges.pop();
+                if (lowLinks[current] == tarjanIndexes[current]) {
+                    completeComponent(current, componentStack, onComponentStack);
+                }
+                if (!callStack.isEmpty()) {
+                    int caller = callStack.peek();
+                    lowLinks[caller] = Math.min(lowLinks[caller], lowLinks[current]);
+                }
+            }
+        }
+    }
+
+    private void visit(int id, IntStack componentStack, BitSet onComponentStack, IntStack callStack, IntStack nextEdges) {
+        tarjanIndexes[id] = nextTarjanIndex++;
+        lowLinks[id] = tarjanIndexes[id];
+        componentStack.push(id);
+        onComponentStack.set(id);
+        callStack.push(id);
+        nextEdges.push(0);
+    }
+
+    private void completeComponent(int root, IntStack componentStack, BitSet onComponentStack) {
+        Component component = new Component(components.size());
+        IntStack members = new IntStack();
+        int member;
+        do {
+            member = componentStack.pop();
+            onComponentStack.clear(member);
+            componentIds[member] = component.id;
+            members.push(member);
+        } while (member != root);
+        component.members = members.toArray();
+
+        Set<Component> successors = new LinkedHashSet<>();
+        for (int id : component.members) {
+            for (int i = 0; i < graph.getNumberOfOutgoingEdges(id); i++) {
+                int targetComponentId = componentIds[graph.getOutgoingEdgeTarget(id, i)];
+                if (targetComponentId != component.id) {
+                    successors.add(components.get(targetComponentId));
+                }
+            }
+        }
+        component.successors = new ArrayList<>(successors);
+        components.add(component);
+    }
+
+    private static class IntStack {
+        private int[] elements = new int[16];
+        private int size = 0;
+
+        void push(int element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, 2 * size);
+            }
+            elements[size++] = element;
+        }
+
+        int pop() {
+            return elements[--size];
+        }
+
+        int peek() {
+            return elements[size - 1];
+        }
+
+        void replaceTop(int element) {
+            elements[size - 1] = element;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(elements, size);
+        }
+    }
+
+    private static class Component {
+        private final int id;
+        private int[] members;
+        private List<Component> successors;
+        private SoftReference<BitSet> reachableComponents = new SoftReference<>(null);
+
+        Component(int id) {
+            this.id = id;
+        }
+
+        /**
+         * @return the ids of all components reachable from this component, including the id of this component itself
+         */
+        BitSet getReachableComponents() {
+            BitSet result = reachableComponents.get();
+            if (result == null) {
+                result = findReachableComponents();
+                reachableComponents = new SoftReference<>(result);
+            }
+            return result;
         }
-        for (JavaClass targetClass : targetClassesToRecurse) {
-            if (!analyzedClasses.contains(targetClass)) {
-                addTransitiveDependenciesFrom(targetClass, transitiveDependencies, analyzedClasses);
+
+        private BitSet findReachableComponents() {
+            BitSet result = new BitSet(id + 1);
+            Deque<Component> toVisit = new ArrayDeque<>();
+            result.set(id);
+            toVisit.push(this);
+            while (!toVisit.isEmpty()) {
+                for (Component successor : toVisit.pop().successors) {
+                    if (result.get(successor.id)) {
+                        continue;
+                    }
+                    BitSet reachableFromSuccessor = successor.reachableComponents.get();
+                    if (reachableFromSuccessor != null) {
+                        result.or(reachableFromSuccessor);
+                    } else {
+                        result.set(successor.id);
+                        toVisit.push(successor);
+                    }
+                }
             }
+            return result;
         }
     }
 }
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
@@ -26,10 +27,12 @@ import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.ForwardingCollection;
+import com.tngtech.archunit.base.Suppliers;
 import com.tngtech.archunit.core.domain.properties.CanOverrideDescription;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static java.util.stream.Collectors.toMap;
 
@@ -38,15 +41,17 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
     private final ImmutableMap<String, JavaClass> classes;
     private final JavaPackage defaultPackage;
     private final String description;
+    private final Supplier<JavaClassDependencyGraph> dependencyGraph;
 
-    private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes) {
-        this(defaultPackage, classes, "classes");
+    private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes, Supplier<JavaClassDependencyGraph> dependencyGraph) {
+        this(defaultPackage, classes, "classes", dependencyGraph);
     }
 
-    private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes, String description) {
+    private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes, String description, Supplier<JavaClassDependencyGraph> dependencyGraph) {
         this.classes = ImmutableMap.copyOf(classes);
         this.defaultPackage = checkNotNull(defaultPackage);
         this.description = checkNotNull(description);
+        this.dependencyGraph = checkNotNull(dependencyGraph);
     }
 
     /**
@@ -59,12 +64,12 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
                 .filter(e -> predicate.test(e.getValue()))
                 .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
         String newDescription = String.format("%s that %s", description, predicate.getDescription());
-        return new JavaClasses(defaultPackage, matchingElements, newDescription);
+        return new JavaClasses(defaultPackage, matchingElements, newDescription, dependencyGraph);
     }
 
     @Override
     public JavaClasses as(String description) {
-        return new JavaClasses(defaultPackage, classes, description);
+        return new JavaClasses(defaultPackage, classes, description, dependencyGraph);
     }
 
     @Override
@@ -151,6 +156,16 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
         return defaultPackage;
     }
 
+    /**
+     * @return the {@link JavaClassDependencyGraph} of the imported classes, i.e. of all classes of the import these classes originate from
+     *         and all classes they transitively depend on. The graph is only built on first access and is shared by all
+     *         {@link JavaClasses} derived from the same import, e.g. via {@link #that(DescribedPredicate)}.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public JavaClassDependencyGraph getDependencyGraph() {
+        return dependencyGraph.get();
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(classes.keySet(), description);
@@ -182,7 +197,7 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
         JavaPackage defaultPackage = !Iterables.isEmpty(classes)
                 ? getRoot(classes.iterator().next().getPackage())
                 : JavaPackage.from(classes);
-        return new JavaClasses(defaultPackage, mapping);
+        return new JavaClasses(defaultPackage, mapping, Suppliers.memoize(() -> JavaClassDependencyGraph.of(classes)));
     }
 
     private static JavaPackage getRoot(JavaPackage javaPackage) {
@@ -196,15 +211,16 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
     static JavaClasses of(
             Map<String, JavaClass> selectedClasses, Collection<JavaClass> allClasses, ImportContext importContext) {
 
-        ReverseDependencies.Creation reverseDependenciesCreation = new ReverseDependencies.Creation();
+        Supplier<JavaClassDependencyGraph> dependencyGraph = Suppliers.memoize(() -> JavaClassDependencyGraph.of(allClasses));
+        JavaClassTransitiveDependencies transitiveDependencies = new JavaClassTransitiveDependencies(dependencyGraph);
         JavaPackage defaultPackage = JavaPackage.from(allClasses);
         for (JavaClass clazz : allClasses) {
             setPackage(clazz, defaultPackage);
-            JavaClassDependencies classDependencies = clazz.completeFrom(importContext);
-            reverseDependenciesCreation.registerDependenciesOf(clazz, classDependencies);
+            clazz.setTransitiveDependencies(transitiveDependencies);
+            clazz.completeFrom(importContext);
         }
-        reverseDependenciesCreation.finish(allClasses);
-        return new JavaClasses(defaultPackage, selectedClasses);
+        ReverseDependencies.createLazilyFor(allClasses, importContext.isCodeImported());
+        return new JavaClasses(defaultPackage, selectedClasses, dependencyGraph);
     }
 
     private static void setPackage(JavaClass clazz, JavaPackage defaultPackage) {
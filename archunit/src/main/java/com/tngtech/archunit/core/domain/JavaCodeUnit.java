@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.ArchUnitException.CodeNotImportedException;
 import com.tngtech.archunit.base.ChainableFunction;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.ForwardingList;
@@ -74,6 +75,7 @@ public abstract class JavaCodeUnit
     private Set<TryCatchBlock> tryCatchBlocks = Collections.emptySet();
     private Set<ReferencedClassObject> referencedClassObjects;
     private Set<InstanceofCheck> instanceofChecks;
+    private boolean codeImported = true;
 
     JavaCodeUnit(JavaCodeUnitBuilder<?, ?> builder) {
         super(builder);
@@ -189,6 +191,7 @@ public abstract class JavaCodeUnit
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getFieldAccesses() {
+        checkCodeImported("field accesses");
         return fieldAccesses;
     }
 
@@ -197,36 +200,43 @@ public abstract class JavaCodeUnit
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getMethodCallsFromSelf() {
+        checkCodeImported("method calls");
         return methodCalls;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getConstructorCallsFromSelf() {
+        checkCodeImported("constructor calls");
         return constructorCalls;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodReference> getMethodReferencesFromSelf() {
+        checkCodeImported("method references");
         return methodReferences;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorReference> getConstructorReferencesFromSelf() {
+        checkCodeImported("constructor references");
         return constructorReferences;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<ReferencedClassObject> getReferencedClassObjects() {
+        checkCodeImported("referenced class objects");
         return referencedClassObjects;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<InstanceofCheck> getInstanceofChecks() {
+        checkCodeImported("instanceof checks");
         return instanceofChecks;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<TryCatchBlock> getTryCatchBlocks() {
+        checkCodeImported("try/catch blocks");
         return tryCatchBlocks;
     }
 
@@ -287,7 +297,18 @@ public abstract class JavaCodeUnit
         return parameters.getAnnotations();
     }
 
+    private void checkCodeImported(String codeElements) {
+        if (!codeImported) {
+            throw new CodeNotImportedException(String.format("the %s of %s", codeElements, getFullName()));
+        }
+    }
+
     void completeFrom(ImportContext context) {
+        if (!context.isCodeImported()) {
+            codeImported = false;
+            return;
+        }
+
         Set<TryCatchBlockBuilder> tryCatchBlockBuilders = context.createTryCatchBlockBuilders(this);
         fieldAccesses = context.createFieldAccessesFor(this, tryCatchBlockBuilders);
         methodCalls = context.createMethodCallsFor(this, tryCatchBlockBuilders);
@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import com.google.common.base.Splitter;
 import com.google.common.collect.HashMultimap;
@@ -40,11 +41,11 @@ import com.tngtech.archunit.core.domain.properties.HasName;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
 import static com.tngtech.archunit.base.DescribedPredicate.equalTo;
+import static com.tngtech.archunit.base.Suppliers.memoize;
 import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_SIMPLE_NAME;
 import static com.tngtech.archunit.core.domain.properties.HasName.Functions.GET_NAME;
 import static java.util.Collections.emptySet;
@@ -93,6 +94,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
     private final Optional<JavaClass> packageInfo;
     private final Map<String, JavaPackage> subpackages;
     private Optional<JavaPackage> parent = Optional.empty();
+    private final Supplier<JavaPackageDependencies> dependencies = memoize(() -> JavaPackageDependencies.of(this));
 
     private JavaPackage(String name, Set<JavaClass> classes, Map<String, JavaPackage> subpackages) {
         this.name = checkNotNull(name);
@@ -495,14 +497,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getClassDependenciesFromThisPackage() {
-        return getClassDependenciesFrom(getClasses());
-    }
-
-    private static Set<Dependency> getClassDependenciesFrom(Set<JavaClass> classes) {
-        return classes.stream()
-                .flatMap(javaClass -> javaClass.getDirectDependenciesFromSelf().stream())
-                .filter(dependency -> !classes.contains(dependency.getTargetClass()))
-                .collect(toImmutableSet());
+        return getDependencies().getDependenciesFromPackage(this).getDependencies();
     }
 
     /**
@@ -513,7 +508,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getClassDependenciesFromThisPackageTree() {
-        return getClassDependenciesFrom(getClassesInPackageTree());
+        return getDependencies().getDependenciesFromPackageTree(this).getDependencies();
     }
 
     /**
@@ -524,14 +519,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getClassDependenciesToThisPackage() {
-        return getClassDependenciesTo(getClasses());
-    }
-
-    private static ImmutableSet<Dependency> getClassDependenciesTo(Set<JavaClass> classes) {
-        return classes.stream()
-                .flatMap(javaClass -> javaClass.getDirectDependenciesToSelf().stream())
-                .filter(dependency -> !classes.contains(dependency.getOriginClass()))
-                .collect(toImmutableSet());
+        return getDependencies().getDependenciesToPackage(this).getDependencies();
     }
 
     /**
@@ -542,7 +530,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getClassDependenciesToThisPackageTree() {
-        return getClassDependenciesTo(getClassesInPackageTree());
+        return getDependencies().getDependenciesToPackageTree(this).getDependencies();
     }
 
     /**
@@ -559,7 +547,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaPackage> getPackageDependenciesFromThisPackage() {
-        return getPackageDependencies(getClassDependenciesFromThisPackage(), Dependency::getTargetClass);
+        return getDependencies().getDependenciesFromPackage(this).getPackages();
     }
 
     /**
@@ -577,7 +565,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaPackage> getPackageDependenciesFromThisPackageTree() {
-        return getPackageDependencies(getClassDependenciesFromThisPackageTree(), Dependency::getTargetClass);
+        return getDependencies().getDependenciesFromPackageTree(this).getPackages();
     }
 
     /**
@@ -594,7 +582,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaPackage> getPackageDependenciesToThisPackage() {
-        return getPackageDependencies(getClassDependenciesToThisPackage(), Dependency::getOriginClass);
+        return getDependencies().getDependenciesToPackage(this).getPackages();
     }
 
     /**
@@ -610,14 +598,15 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaPackage> getPackageDependenciesToThisPackageTree() {
-        return getPackageDependencies(getClassDependenciesToThisPackageTree(), Dependency::getOriginClass);
+        return getDependencies().getDependenciesToPackageTree(this).getPackages();
     }
 
-    private Set<JavaPackage> getPackageDependencies(Set<Dependency> dependencies, Function<Dependency, JavaClass> javaClassFromDependency) {
-        return dependencies.stream()
-                .map(javaClassFromDependency)
-                .map(JavaClass::getPackage)
-                .collect(toImmutableSet());
+    private JavaPackageDependencies getDependencies() {
+        JavaPackage root = this;
+        while (root.parent.isPresent()) {
+            root = root.parent.get();
+        }
+        return root.dependencies.get();
     }
 
     /**
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+
+import static com.tngtech.archunit.base.Suppliers.memoize;
+
+/**
+ * Index of the dependencies between the {@link JavaPackage packages} of one package tree.
+ * The edges of each package are grouped by the package on the other side and only computed on first request.
+ * The edges of a package tree are rolled up bottom-up from the edges of the package itself
+ * and the (already computed) edges of the trees of its subpackages,
+ * so no class of the package tree has to be visited again.
+ */
+class JavaPackageDependencies {
+    private final Map<JavaPackage, Node> nodes;
+
+    private JavaPackageDependencies(JavaPackage root) {
+        ImmutableMap.Builder<JavaPackage, Node> nodes = ImmutableMap.builder();
+        nodes.put(root, new Node(root));
+        for (JavaPackage javaPackage : root.getSubpackagesInTree()) {
+            nodes.put(javaPackage, new Node(javaPackage));
+        }
+        this.nodes = nodes.build();
+    }
+
+    Edges getDependenciesFromPackage(JavaPackage javaPackage) {
+        return nodes.get(javaPackage).dependenciesFromPackage.get();
+    }
+
+    Edges getDependenciesFromPackageTree(JavaPackage javaPackage) {
+        return nodes.get(javaPackage).dependenciesFromPackageTree.get();
+    }
+
+    Edges getDependenciesToPackage(JavaPackage javaPackage) {
+        return nodes.get(javaPackage).dependenciesToPackage.get();
+    }
+
+    Edges getDependenciesToPackageTree(JavaPackage javaPackage) {
+        return nodes.get(javaPackage).dependenciesToPackageTree.get();
+    }
+
+    static JavaPackageDependencies of(JavaPackage root) {
+        return new JavaPackageDependencies(root);
+    }
+
+    private class Node {
+        private final JavaPackage javaPackage;
+        private final Supplier<Edges> dependenciesFromPackage;
+        private final Supplier<Edges> dependenciesFromPackageTree;
+        private final Supplier<Edges> dependenciesToPackage;
+        private final Supplier<Edges> dependenciesToPackageTree;
+
+        Node(JavaPackage javaPackage) {
+            this.javaPackage = javaPackage;
+            dependenciesFromPackage = memoize(() -> edgesOfClasses(JavaClass::getDirectDependenciesFromSelf, Dependency::getTargetClass));
+            dependenciesFromPackageTree = memoize(() -> edgesOfTree(dependenciesFromPackage.get(), child -> child.dependenciesFromPackageTree.get()));
+            dependenciesToPackage = memoize(() -> edgesOfClasses(JavaClass::getDirectDependenciesToSelf, Dependency::getOriginClass));
+            dependenciesToPackageTree = memoize(() -> edgesOfTree(dependenciesToPackage.get(), child -> child.dependenciesToPackageTree.get()));
+        }
+
+        private Edges edgesOfClasses(Function<JavaClass, Set<Dependency>> getDependencies, Function<Dependency, JavaClass> getOtherSide) {
+            ImmutableSetMultimap.Builder<JavaPackage, Dependency> result = ImmutableSetMultimap.builder();
+            for (JavaClass javaClass : javaPackage.getClasses()) {
+                for (Dependency dependency : getDependencies.apply(javaClass)) {
+                    JavaPackage otherPackage = getOtherSide.apply(dependency).getPackage();
+                    if (!otherPackage.equals(javaPackage)) {
+                        result.put(otherPackage, dependency);
+                    }
+                }
+            }
+            return new Edges(result.build());
+        }
+
+        private Edges edgesOfTree(Edges edgesOfPackage, Function<Node, Edges> getEdgesOfChildTree) {
+            ImmutableSetMultimap.Builder<JavaPackage, Dependency> result = ImmutableSetMultimap.builder();
+            addEdgesLeavingTree(result, edgesOfPackage);
+            for (JavaPackage subpackage : javaPackage.getSubpackages()) {
+                addEdgesLeavingTree(result, getEdgesOfChildTree.apply(nodes.get(subpackage)));
+            }
+            return new Edges(result.build());
+        }
+
+        private void addEdgesLeavingTree(ImmutableSetMultimap.Builder<JavaPackage, Dependency> result, Edges edges) {
+            for (Map.Entry<JavaPackage, Collection<Dependency>> edge : edges.dependenciesByPackage.asMap().entrySet()) {
+                if (!isWithinTree(edge.getKey())) {
+                    result.putAll(edge.getKey(), edge.getValue());
+                }
+            }
+        }
+
+        private boolean isWithinTree(JavaPackage candidate) {
+            Optional<JavaPackage> current = Optional.of(candidate);
+            while (current.isPresent()) {
+                if (current.get().equals(javaPackage)) {
+                    return true;
+                }
+                current = current.get().getParent();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The {@link Dependency dependencies} between one package (tree) and all other packages,
+     * grouped by the package on the other side of the dependency.
+     */
+    static class Edges {
+        private final ImmutableSetMultimap<JavaPackage, Dependency> dependenciesByPackage;
+        private final Set<Dependency> dependencies;
+
+        private Edges(ImmutableSetMultimap<JavaPackage, Dependency> dependenciesByPackage) {
+            this.dependenciesByPackage = dependenciesByPackage;
+            this.dependencies = ImmutableSet.copyOf(dependenciesByPackage.values());
+        }
+
+        Set<JavaPackage> getPackages() {
+            return dependenciesByPackage.keySet();
+        }
+
+        Set<Dependency> getDependencies() {
+            return dependencies;
+        }
+    }
+}
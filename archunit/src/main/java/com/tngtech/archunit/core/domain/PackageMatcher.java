@@ -29,6 +29,7 @@ import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -98,12 +99,14 @@ public final class PackageMatcher {
 
     private final String packageIdentifier;
     private final Pattern packagePattern;
+    private final PackageNameMemo<Optional<Result>> results;
 
     private PackageMatcher(String packageIdentifier) {
         validate(packageIdentifier);
 
         this.packageIdentifier = packageIdentifier;
         this.packagePattern = Pattern.compile(convertToRegex(packageIdentifier));
+        this.results = new PackageNameMemo<>(this::matchPattern);
     }
 
     private void validate(String packageIdentifier) {
@@ -179,7 +182,7 @@ public final class PackageMatcher {
 
     @PublicAPI(usage = ACCESS)
     public boolean matches(String aPackage) {
-        return packagePattern.matcher(aPackage).matches();
+        return match(aPackage).isPresent();
     }
 
     /**
@@ -193,10 +196,21 @@ public final class PackageMatcher {
      */
     @PublicAPI(usage = ACCESS)
     public Optional<Result> match(String aPackage) {
+        return results.get(aPackage);
+    }
+
+    private Optional<Result> matchPattern(String aPackage) {
         Matcher matcher = packagePattern.matcher(aPackage);
         return matcher.matches() ? Optional.of(new Result(matcher)) : Optional.empty();
     }
 
+    /**
+     * @return the regular expression equivalent to the package identifier of this {@link PackageMatcher}
+     */
+    String getRegex() {
+        return packagePattern.pattern();
+    }
+
     @Override
     public String toString() {
         return "PackageMatcher{" + packageIdentifier + '}';
@@ -208,15 +222,18 @@ public final class PackageMatcher {
 
     @PublicAPI(usage = ACCESS)
     public static final class Result {
-        private final Matcher matcher;
+        // group 0 is the whole match, like for Matcher.group(0)
+        private final List<String> groups;
 
         private Result(Matcher matcher) {
-            this.matcher = matcher;
+            this.groups = unmodifiableList(IntStream.rangeClosed(0, matcher.groupCount())
+                    .mapToObj(matcher::group)
+                    .collect(toList()));
         }
 
         @PublicAPI(usage = ACCESS)
         public int getNumberOfGroups() {
-            return matcher.groupCount();
+            return groups.size() - 1;
         }
 
         /**
@@ -226,7 +243,10 @@ public final class PackageMatcher {
          */
         @PublicAPI(usage = ACCESS)
         public String getGroup(int number) {
-            return matcher.group(number);
+            if (number < 0 || number >= groups.size()) {
+                throw new IndexOutOfBoundsException("No group " + number);
+            }
+            return groups.get(number);
         }
     }
 
@@ -17,6 +17,7 @@ package com.tngtech.archunit.core.domain;
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
@@ -24,18 +25,20 @@ import com.tngtech.archunit.base.DescribedPredicate;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.core.domain.Formatters.joinSingleQuoted;
+import static java.util.stream.Collectors.joining;
 
 @PublicAPI(usage = ACCESS)
 public final class PackageMatchers extends DescribedPredicate<String> {
-    private final Set<PackageMatcher> packageMatchers;
+    private final Pattern anyPackagePattern;
+    private final PackageNameMemo<Boolean> results;
 
     private PackageMatchers(Set<String> packageIdentifiers) {
         super("matches any of [%s]", joinSingleQuoted(packageIdentifiers));
-        ImmutableSet.Builder<PackageMatcher> matchers = ImmutableSet.builder();
-        for (String identifier : packageIdentifiers) {
-            matchers.add(PackageMatcher.of(identifier));
-        }
-        packageMatchers = matchers.build();
+        // all identifiers are combined into one alternation, so a package name is only matched once against all of them
+        anyPackagePattern = Pattern.compile(packageIdentifiers.stream()
+                .map(identifier -> "(?:" + PackageMatcher.of(identifier).getRegex() + ")")
+                .collect(joining("|")));
+        results = new PackageNameMemo<>(aPackage -> !packageIdentifiers.isEmpty() && anyPackagePattern.matcher(aPackage).matches());
     }
 
     @PublicAPI(usage = ACCESS)
@@ -51,10 +54,6 @@ public final class PackageMatchers extends DescribedPredicate<String> {
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean test(String aPackage) {
-        boolean matches = false;
-        for (PackageMatcher matcher : packageMatchers) {
-            matches = matches || matcher.matches(aPackage);
-        }
-        return matches;
+        return results.get(aPackage);
     }
 }
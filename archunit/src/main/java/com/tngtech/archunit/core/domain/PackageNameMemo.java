@@ -0,0 +1,48 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Memoizes some function of package names, like the result of matching a package name against a {@link PackageMatcher}.
+ * The number of distinct package names is usually tiny compared to the number of classes and dependencies that are matched,
+ * so almost all matches can be answered from memory. To never grow without bounds (e.g. if arbitrary strings are matched),
+ * results are not memoized anymore once {@value #MAX_MEMOIZED_PACKAGE_NAMES} package names have been memoized.
+ */
+class PackageNameMemo<T> {
+    private static final int MAX_MEMOIZED_PACKAGE_NAMES = 10_000;
+
+    private final Map<String, T> valuesByPackageName = new ConcurrentHashMap<>();
+    private final Function<String, T> function;
+
+    PackageNameMemo(Function<String, T> function) {
+        this.function = function;
+    }
+
+    T get(String packageName) {
+        T result = valuesByPackageName.get(packageName);
+        if (result == null) {
+            result = function.apply(packageName);
+            if (valuesByPackageName.size() < MAX_MEMOIZED_PACKAGE_NAMES) {
+                valuesByPackageName.put(packageName, result);
+            }
+        }
+        return result;
+    }
+}
@@ -16,6 +16,7 @@
 package com.tngtech.archunit.core.domain;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -28,6 +29,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
+import com.tngtech.archunit.base.ArchUnitException.CodeNotImportedException;
 import com.tngtech.archunit.base.Suppliers;
 
 final class ReverseDependencies {
@@ -48,6 +50,7 @@ final class ReverseDependencies {
     private final SetMultimap<JavaClass, JavaAnnotation<?>> annotationParameterTypeDependencies;
     private final SetMultimap<JavaClass, InstanceofCheck> instanceofCheckDependencies;
     private final Supplier<SetMultimap<JavaClass, Dependency>> directDependenciesToClass;
+    private final boolean codeImported;
 
     private ReverseDependencies(ReverseDependencies.Creation creation) {
         accessToFieldCache = CacheBuilder.newBuilder().build(new ResolvingAccessLoader<>(creation.fieldAccessDependencies.build()));
@@ -65,14 +68,15 @@ final class ReverseDependencies {
         this.annotationTypeDependencies = creation.annotationTypeDependencies.build();
         this.annotationParameterTypeDependencies = creation.annotationParameterTypeDependencies.build();
         this.instanceofCheckDependencies = creation.instanceofCheckDependencies.build();
-        this.directDependenciesToClass = createDirectDependenciesToClassSupplier(creation.allDependencies);
+        this.directDependenciesToClass = createDirectDependenciesToClassSupplier(creation.allClasses);
+        this.codeImported = creation.codeImported;
     }
 
-    private static Supplier<SetMultimap<JavaClass, Dependency>> createDirectDependenciesToClassSupplier(List<JavaClassDependencies> allDependencies) {
+    private static Supplier<SetMultimap<JavaClass, Dependency>> createDirectDependenciesToClassSupplier(List<JavaClass> allClasses) {
         return Suppliers.memoize(() -> {
             ImmutableSetMultimap.Builder<JavaClass, Dependency> result = ImmutableSetMultimap.builder();
-            for (JavaClassDependencies dependencies : allDependencies) {
-                for (Dependency dependency : dependencies.getDirectDependenciesFromClass()) {
+            for (JavaClass javaClass : allClasses) {
+                for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
                     result.put(dependency.getTargetClass(), dependency);
                 }
             }
@@ -81,22 +85,27 @@ final class ReverseDependencies {
     }
 
     Set<JavaFieldAccess> getAccessesTo(JavaField field) {
+        checkCodeImported("the accesses to %s", field.getFullName());
         return accessToFieldCache.getUnchecked(field);
     }
 
     Set<JavaMethodCall> getCallsTo(JavaMethod method) {
+        checkCodeImported("the calls to %s", method.getFullName());
         return callToMethodCache.getUnchecked(method);
     }
 
     Set<JavaMethodReference> getReferencesTo(JavaMethod method) {
+        checkCodeImported("the references to %s", method.getFullName());
         return referenceToMethodCache.getUnchecked(method);
     }
 
     Set<JavaConstructorCall> getCallsTo(JavaConstructor constructor) {
+        checkCodeImported("the calls to %s", constructor.getFullName());
         return callToConstructorCache.getUnchecked(constructor);
     }
 
     Set<JavaConstructorReference> getReferencesTo(JavaConstructor constructor) {
+        checkCodeImported("the references to %s", constructor.getFullName());
         return referenceToConstructorCache.getUnchecked(constructor);
     }
 
@@ -117,6 +126,7 @@ final class ReverseDependencies {
     }
 
     Set<TryCatchBlock> getTryCatchBlocksThatCatch(JavaClass clazz) {
+        checkCodeImported("the try/catch blocks that catch %s", clazz.getName());
         return tryCatchBlockDependencies.get(clazz);
     }
 
@@ -137,16 +147,40 @@ final class ReverseDependencies {
     }
 
     Set<InstanceofCheck> getInstanceofChecksWithTypeOf(JavaClass clazz) {
+        checkCodeImported("the instanceof checks with type %s", clazz.getName());
         return instanceofCheckDependencies.get(clazz);
     }
 
     Set<Dependency> getDirectDependenciesTo(JavaClass clazz) {
+        checkCodeImported("the dependencies to %s", clazz.getName());
         return directDependenciesToClass.get().get(clazz);
     }
 
-    static final ReverseDependencies EMPTY = new ReverseDependencies(new Creation());
+    private void checkCodeImported(String missingInformationTemplate, Object... args) {
+        if (!codeImported) {
+            throw new CodeNotImportedException(String.format(missingInformationTemplate, args));
+        }
+    }
+
+    static final ReverseDependencies EMPTY = new ReverseDependencies(new Creation(true));
+
+    /**
+     * Sets the {@link ReverseDependencies} of all given classes. These are only created once they are requested
+     * for the first time, because this needs the members of all classes, including the ones whose completion
+     * has been deferred (compare {@link JavaClass#completeMembersLazilyFrom(ImportContext)}).
+     */
+    static void createLazilyFor(Collection<JavaClass> classes, boolean codeImported) {
+        Supplier<ReverseDependencies> reverseDependencies = Suppliers.memoize(() -> {
+            Creation creation = new Creation(codeImported);
+            classes.forEach(creation::registerDependenciesOf);
+            return new ReverseDependencies(creation);
+        });
+        for (JavaClass clazz : classes) {
+            clazz.setReverseDependencies(reverseDependencies);
+        }
+    }
 
-    static class Creation {
+    private static class Creation {
         private final ImmutableSetMultimap.Builder<JavaClass, JavaFieldAccess> fieldAccessDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, JavaMethodCall> methodCallDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, JavaMethodReference> methodReferenceDependencies = ImmutableSetMultimap.builder();
@@ -162,16 +196,23 @@ final class ReverseDependencies {
         private final ImmutableSetMultimap.Builder<JavaClass, JavaAnnotation<?>> annotationTypeDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, JavaAnnotation<?>> annotationParameterTypeDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, InstanceofCheck> instanceofCheckDependencies = ImmutableSetMultimap.builder();
-        private final List<JavaClassDependencies> allDependencies = new ArrayList<>();
+        private final List<JavaClass> allClasses = new ArrayList<>();
+        private final boolean codeImported;
 
-        public void registerDependenciesOf(JavaClass clazz, JavaClassDependencies classDependencies) {
-            registerAccesses(clazz);
+        Creation(boolean codeImported) {
+            this.codeImported = codeImported;
+        }
+
+        void registerDependenciesOf(JavaClass clazz) {
+            if (codeImported) {
+                registerAccesses(clazz);
+            }
             registerFields(clazz);
             registerMethods(clazz);
             registerConstructors(clazz);
             registerAnnotations(clazz);
             registerStaticInitializer(clazz);
-            allDependencies.add(classDependencies);
+            allClasses.add(clazz);
         }
 
         private void registerAccesses(JavaClass clazz) {
@@ -207,14 +248,7 @@ final class ReverseDependencies {
                 for (ThrowsDeclaration<JavaMethod> throwsDeclaration : method.getThrowsClause()) {
                     methodsThrowsDeclarationDependencies.put(throwsDeclaration.getRawType(), throwsDeclaration);
                 }
-                for (TryCatchBlock tryCatchBlock : method.getTryCatchBlocks()) {
-                    for (JavaClass caughtThrowable : tryCatchBlock.getCaughtThrowables()) {
-                        tryCatchBlockDependencies.put(caughtThrowable.toErasure(), tryCatchBlock);
-                    }
-                }
-                for (InstanceofCheck instanceofCheck : method.getInstanceofChecks()) {
-                    instanceofCheckDependencies.put(instanceofCheck.getRawType(), instanceofCheck);
-                }
+                registerCodeOf(method);
             }
         }
 
@@ -226,14 +260,7 @@ final class ReverseDependencies {
                 for (ThrowsDeclaration<JavaConstructor> throwsDeclaration : constructor.getThrowsClause()) {
                     constructorThrowsDeclarationDependencies.put(throwsDeclaration.getRawType(), throwsDeclaration);
                 }
-                for (TryCatchBlock tryCatchBlock : constructor.getTryCatchBlocks()) {
-                    for (JavaClass caughtThrowable : tryCatchBlock.getCaughtThrowables()) {
-                        tryCatchBlockDependencies.put(caughtThrowable.toErasure(), tryCatchBlock);
-                    }
-                }
-                for (InstanceofCheck instanceofCheck : constructor.getInstanceofChecks()) {
-                    instanceofCheckDependencies.put(instanceofCheck.getRawType(), instanceofCheck);
-                }
+                registerCodeOf(constructor);
             }
         }
 
@@ -269,22 +296,21 @@ final class ReverseDependencies {
         }
 
         private void registerStaticInitializer(JavaClass clazz) {
-            clazz.getStaticInitializer().ifPresent(staticInitializer -> {
-                for (TryCatchBlock tryCatchBlock : staticInitializer.getTryCatchBlocks()) {
-                    for (JavaClass caughtThrowable : tryCatchBlock.getCaughtThrowables()) {
-                        tryCatchBlockDependencies.put(caughtThrowable.toErasure(), tryCatchBlock);
-                    }
-                }
-                for (InstanceofCheck instanceofCheck : staticInitializer.getInstanceofChecks()) {
-                    instanceofCheckDependencies.put(instanceofCheck.getRawType(), instanceofCheck);
-                }
-            });
+            clazz.getStaticInitializer().ifPresent(this::registerCodeOf);
         }
 
-        void finish(Iterable<JavaClass> classes) {
-            ReverseDependencies reverseDependencies = new ReverseDependencies(this);
-            for (JavaClass clazz : classes) {
-                clazz.setReverseDependencies(reverseDependencies);
+        private void registerCodeOf(JavaCodeUnit codeUnit) {
+            if (!codeImported) {
+                return;
+            }
+
+            for (TryCatchBlock tryCatchBlock : codeUnit.getTryCatchBlocks()) {
+                for (JavaClass caughtThrowable : tryCatchBlock.getCaughtThrowables()) {
+                    tryCatchBlockDependencies.put(caughtThrowable.toErasure(), tryCatchBlock);
+                }
+            }
+            for (InstanceofCheck instanceofCheck : codeUnit.getInstanceofChecks()) {
+                instanceofCheckDependencies.put(instanceofCheck.getRawType(), instanceofCheck);
             }
         }
     }
@@ -50,9 +50,13 @@ public final class Source {
     private final Md5sum md5sum;
 
     Source(URI uri, Optional<String> fileName, boolean md5InClassSourcesEnabled) {
+        this(uri, fileName, md5InClassSourcesEnabled ? Md5sum.of(uri) : Md5sum.DISABLED);
+    }
+
+    Source(URI uri, Optional<String> fileName, Md5sum md5sum) {
         this.uri = checkNotNull(uri);
         this.fileName = checkNotNull(fileName);
-        md5sum = md5InClassSourcesEnabled ? Md5sum.of(uri) : Md5sum.DISABLED;
+        this.md5sum = checkNotNull(md5sum);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -108,7 +112,8 @@ public final class Source {
          */
         static final Md5sum DISABLED = new Md5sum("DISABLED");
 
-        private static final MessageDigest MD5_DIGEST = getMd5Digest();
+        // MessageDigest is not thread-safe, so every thread (e.g. of a parallel import) uses its own instance
+        private static final ThreadLocal<MessageDigest> MD5_DIGEST = ThreadLocal.withInitial(Md5sum::getMd5Digest);
 
         private final byte[] md5Bytes;
         private final String text;
@@ -170,12 +175,13 @@ public final class Source {
         }
 
         private static Md5sum of(URI uri) {
-            if (MD5_DIGEST == null) {
-                return NOT_SUPPORTED;
-            }
-
             Optional<byte[]> bytesFromUri = read(uri);
-            return bytesFromUri.map(bytes -> new Md5sum(bytes, MD5_DIGEST)).orElse(UNDETERMINED);
+            return bytesFromUri.map(Md5sum::of).orElse(UNDETERMINED);
+        }
+
+        static Md5sum of(byte[] input) {
+            MessageDigest md5Digest = MD5_DIGEST.get();
+            return md5Digest != null ? new Md5sum(input, md5Digest) : NOT_SUPPORTED;
         }
 
         private static Optional<byte[]> read(URI uri) {
@@ -15,6 +15,8 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -78,6 +80,8 @@ class ClassFileImportRecord {
     private final SetMultimap<String, JavaAnnotationBuilder> annotationsByOwner = HashMultimap.create();
     private final Map<String, JavaAnnotationBuilder.ValueBuilder> annotationDefaultValuesByOwner = new HashMap<>();
     private final EnclosingDeclarationsByInnerClasses enclosingDeclarationsByOwner = new EnclosingDeclarationsByInnerClasses();
+    private final SetMultimap<String, String> declaredTypeNamesByOwner = HashMultimap.create();
+    private final Set<String> classesWithDerivedMemberTypes = new HashSet<>();
 
     private final Set<RawAccessRecord.ForField> rawFieldAccessRecords = new HashSet<>();
     private final Set<RawAccessRecord> rawMethodCallRecords = new HashSet<>();
@@ -157,6 +161,18 @@ class ClassFileImportRecord {
         enclosingDeclarationsByOwner.registerEnclosingCodeUnit(ownerName, enclosingCodeUnit);
     }
 
+    void addDeclaredTypeName(String ownerName, String typeName) {
+        declaredTypeNamesByOwner.put(ownerName, typeName);
+    }
+
+    void addDeclaredTypeNames(String ownerName, Collection<String> typeNames) {
+        declaredTypeNamesByOwner.putAll(ownerName, typeNames);
+    }
+
+    void addClassWithDerivedMemberTypes(String ownerName) {
+        classesWithDerivedMemberTypes.add(ownerName);
+    }
+
     void addTryCatchBlocks(Set<RawTryCatchBlock> tryCatchBlocks) {
         rawTryCatchBlocks.addAll(tryCatchBlocks);
     }
@@ -224,6 +240,22 @@ class ClassFileImportRecord {
         return enclosingDeclarationsByOwner.getEnclosingCodeUnit(ownerName);
     }
 
+    /**
+     * @return The names of all types the members and annotations of the class with name {@code ownerName} refer to,
+     * i.e. all types that need to be present to complete these members and annotations
+     */
+    Set<String> getDeclaredTypeNamesFor(String ownerName) {
+        return declaredTypeNamesByOwner.get(ownerName);
+    }
+
+    /**
+     * @return {@code true}, if the members or annotations of the class with name {@code ownerName} refer to types
+     * that are not declared by name, but derived while creating them (e.g. arrays of type variables within generic types)
+     */
+    boolean hasDerivedMemberTypes(String ownerName) {
+        return classesWithDerivedMemberTypes.contains(ownerName);
+    }
+
     void registerFieldAccess(RawAccessRecord.ForField record) {
         if (!isSyntheticEnumSwitchMapFieldName(record.getTarget().name)) {
             rawFieldAccessRecords.add(record);
@@ -328,6 +360,64 @@ class ClassFileImportRecord {
         return classes;
     }
 
+    /**
+     * Merges all records of {@code other} into this record. The classes recorded by {@code other}
+     * must be disjoint from the classes recorded by this record (i.e. each class must only have been
+     * processed by one of the records).
+     */
+    void addAll(ClassFileImportRecord other) {
+        checkArgument(Collections.disjoint(classes.keySet(), other.classes.keySet()),
+                "Can't merge import records of overlapping classes, this is most likely a bug");
+
+        classes.putAll(other.classes);
+        superclassNamesByOwner.putAll(other.superclassNamesByOwner);
+        interfaceNamesByOwner.putAll(other.interfaceNamesByOwner);
+        permittedSubclassNamesByOwner.putAll(other.permittedSubclassNamesByOwner);
+        typeParametersBuilderByOwner.putAll(other.typeParametersBuilderByOwner);
+        genericSuperclassBuilderByOwner.putAll(other.genericSuperclassBuilderByOwner);
+        genericInterfaceBuildersByOwner.putAll(other.genericInterfaceBuildersByOwner);
+        fieldBuildersByOwner.putAll(other.fieldBuildersByOwner);
+        methodBuildersByOwner.putAll(other.methodBuildersByOwner);
+        constructorBuildersByOwner.putAll(other.constructorBuildersByOwner);
+        staticInitializerBuildersByOwner.putAll(other.staticInitializerBuildersByOwner);
+        annotationsByOwner.putAll(other.annotationsByOwner);
+        annotationDefaultValuesByOwner.putAll(other.annotationDefaultValuesByOwner);
+        enclosingDeclarationsByOwner.addAll(other.enclosingDeclarationsByOwner);
+        declaredTypeNamesByOwner.putAll(other.declaredTypeNamesByOwner);
+        classesWithDerivedMemberTypes.addAll(other.classesWithDerivedMemberTypes);
+
+        rawFieldAccessRecords.addAll(other.rawFieldAccessRecords);
+        rawMethodCallRecords.addAll(other.rawMethodCallRecords);
+        rawConstructorCallRecords.addAll(other.rawConstructorCallRecords);
+        rawMethodReferenceRecords.addAll(other.rawMethodReferenceRecords);
+        rawConstructorReferenceRecords.addAll(other.rawConstructorReferenceRecords);
+        rawReferencedClassObjects.addAll(other.rawReferencedClassObjects);
+        rawInstanceofChecks.addAll(other.rawInstanceofChecks);
+        rawTryCatchBlocks.addAll(other.rawTryCatchBlocks);
+        syntheticLambdaAccessRecorder.addAll(other.syntheticLambdaAccessRecorder);
+        syntheticPrivateAccessRecorder.addAll(other.syntheticPrivateAccessRecorder);
+    }
+
+    /**
+     * Releases all records of code and all declared type names once they have been processed. The declarations are kept,
+     * since the members of classes resolved as dependencies are only completed on demand.
+     */
+    void clearRecordsNotNeededForLazyCompletion() {
+        declaredTypeNamesByOwner.clear();
+        classesWithDerivedMemberTypes.clear();
+        rawFieldAccessRecords.clear();
+        rawMethodCallRecords.clear();
+        rawConstructorCallRecords.clear();
+        rawMethodReferenceRecords.clear();
+        rawConstructorReferenceRecords.clear();
+        rawReferencedClassObjects.clear();
+        rawInstanceofChecks.clear();
+        rawTryCatchBlocks.clear();
+        syntheticLambdaAccessRecorder.clear();
+        syntheticPrivateAccessRecorder.clear();
+        syntheticallyResolvedAccessRecords.clear();
+    }
+
     private static final Function<RawAccessRecord, RawAccessRecord.Builder> COPY_RAW_ACCESS_RECORD =
             access -> copyInto(new RawAccessRecord.Builder(), access);
 
@@ -400,6 +490,11 @@ class ClassFileImportRecord {
             innerClassNameToEnclosingCodeUnit.put(innerName, codeUnit);
         }
 
+        void addAll(EnclosingDeclarationsByInnerClasses other) {
+            other.innerClassNameToEnclosingClassName.forEach(this::registerEnclosingClass);
+            other.innerClassNameToEnclosingCodeUnit.forEach(this::registerEnclosingCodeUnit);
+        }
+
         Optional<String> getEnclosingClassName(String ownerName) {
             return Optional.ofNullable(innerClassNameToEnclosingClassName.get(ownerName));
         }
@@ -426,6 +521,14 @@ class ClassFileImportRecord {
             rawSyntheticMethodInvocationRecordsByTarget.put(getMemberKey(record.getTarget()), record);
         }
 
+        void addAll(SyntheticAccessRecorder other) {
+            rawSyntheticMethodInvocationRecordsByTarget.putAll(other.rawSyntheticMethodInvocationRecordsByTarget);
+        }
+
+        void clear() {
+            rawSyntheticMethodInvocationRecordsByTarget.clear();
+        }
+
         <ACCESS extends HasRawCodeUnitOrigin> Set<ACCESS> fixSyntheticAccess(
                 ACCESS access,
                 Function<ACCESS, ? extends HasRawCodeUnitOrigin.Builder<ACCESS>> copyAccess
@@ -493,6 +596,10 @@ class ClassFileImportRecord {
             return (Map) resolvedAccessRecords;
         }
 
+        void clear() {
+            resolvedAccessRecords.clear();
+        }
+
         /**
          * Encapsulates a performance hack to not store any set of (original) accesses in case nothing was resolved.
          * I.e. for every method that is not synthetic we don't want to store additional objects to save memory.
@@ -39,7 +39,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.SCANNING_LOCATIONS;
 import static java.util.Arrays.stream;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toSet;
@@ -61,6 +63,13 @@ import static java.util.stream.Collectors.toSet;
  * and then import that class, thus acquiring more information like superclasses and interfaces.
  * However, it will not transitively go on to resolve access targets of these classes.
  * <br><br>
+ * The members of classes that are only resolved as dependencies are created the first time they are accessed.
+ * This saves time for rules that only check the names, packages or supertypes of such classes.
+ * However, the types these members refer to are still resolved during the import, and all information needed to create
+ * the members is kept in memory until they have been created. Queries about dependencies to a class
+ * (e.g. {@link JavaClass#getDirectDependenciesToSelf()}), about transitive dependencies, or about the dependency graph
+ * of the import create the members of all such classes at once, one class after another.
+ * <br><br>
  * The resolution behavior, i.e. what the importer does if a class is missing from the context,
  * can be configured by providing a respective {@link ClassResolver}. To use the simplest {@link ClassResolver} possible,
  * namely one that does not import any further classes, simply configure
@@ -83,19 +92,23 @@ public final class ClassFileImporter {
     private static final Logger LOG = LoggerFactory.getLogger(ClassFileImporter.class);
 
     private final ImportOptions importOptions;
+    private final ImmutableList<ImportListener> importListeners;
+    private final DetailLevel detailLevel;
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter() {
-        this(new ImportOptions());
+        this(new ImportOptions(), ImmutableList.of(), DetailLevel.FULL);
     }
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter(Collection<ImportOption> importOptions) {
-        this(new ImportOptions().with(importOptions));
+        this(new ImportOptions().with(importOptions), ImmutableList.of(), DetailLevel.FULL);
     }
 
-    private ClassFileImporter(ImportOptions importOptions) {
+    private ClassFileImporter(ImportOptions importOptions, ImmutableList<ImportListener> importListeners, DetailLevel detailLevel) {
         this.importOptions = importOptions;
+        this.importListeners = importListeners;
+        this.detailLevel = detailLevel;
     }
 
     /**
@@ -107,7 +120,7 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter withImportOption(ImportOption option) {
-        return new ClassFileImporter(importOptions.with(option));
+        return new ClassFileImporter(importOptions.with(option), importListeners, detailLevel);
     }
 
     /**
@@ -115,7 +128,35 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter withImportOptions(Collection<ImportOption> options) {
-        return new ClassFileImporter(importOptions.with(options));
+        return new ClassFileImporter(importOptions.with(options), importListeners, detailLevel);
+    }
+
+    /**
+     * Registers an {@link ImportListener} that will be notified with the {@link ImportStatistics} of every import
+     * of the returned {@link ClassFileImporter}, e.g. {@link ImportListener.Predefined#LOG_SUMMARY} to log where the
+     * time of the import goes. Note that this object will not be modified, but instead a copy with adjusted behavior will be returned.
+     *
+     * @param listener An {@link ImportListener} to notify about finished imports
+     * @return A {@link ClassFileImporter} which notifies the given listener in addition to all listeners registered before
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public ClassFileImporter withImportListener(ImportListener listener) {
+        return new ClassFileImporter(importOptions, ImmutableList.<ImportListener>builder().addAll(importListeners).add(listener).build(), detailLevel);
+    }
+
+    /**
+     * Defines how much of the class files the returned {@link ClassFileImporter} imports. By default, classes are imported
+     * with {@link DetailLevel#FULL}, which is necessary for any rule about accesses or dependencies.
+     * Rules that only check signatures (e.g. names, annotations, inheritance or field types) can use
+     * {@link DetailLevel#SIGNATURES} instead, which is considerably faster and needs less memory.
+     * Note that this object will not be modified, but instead a copy with adjusted behavior will be returned.
+     *
+     * @param detailLevel The {@link DetailLevel} to import classes with
+     * @return A {@link ClassFileImporter} which imports classes with the given {@link DetailLevel}
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public ClassFileImporter withDetailLevel(DetailLevel detailLevel) {
+        return new ClassFileImporter(importOptions, importListeners, detailLevel);
     }
 
     /**
@@ -318,16 +359,29 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importLocations(Collection<Location> locations) {
-        List<ClassFileSource> sources = new ArrayList<>();
-        for (Location location : locations) {
-            tryAdd(sources, location);
-        }
-        return new ClassFileProcessor().process(unify(sources));
+        ImportStatistics.Recorder statistics = new ImportStatistics.Recorder();
+        PersistentClassFileCache persistentClassFileCache = PersistentClassFileCache.fromConfiguration();
+        List<ClassFileSource> sources = statistics.time(SCANNING_LOCATIONS, () -> {
+            List<ClassFileSource> result = new ArrayList<>();
+            for (Location location : locations) {
+                tryAdd(result, location, persistentClassFileCache);
+            }
+            return result;
+        });
+        return process(sources, statistics);
     }
 
-    private void tryAdd(List<ClassFileSource> sources, Location location) {
+    private JavaClasses process(List<ClassFileSource> sources, ImportStatistics.Recorder statistics) {
+        JavaClasses result = new ClassFileProcessor(detailLevel, statistics).process(unify(sources));
+        ImportStatistics importStatistics = statistics.finish();
+        LOG.debug("{}", importStatistics);
+        importListeners.forEach(listener -> listener.onImportFinished(importStatistics));
+        return result;
+    }
+
+    private void tryAdd(List<ClassFileSource> sources, Location location, PersistentClassFileCache persistentClassFileCache) {
         try {
-            sources.add(location.asClassFileSource(importOptions));
+            sources.add(location.asClassFileSource(importOptions, persistentClassFileCache));
         } catch (Exception e) {
             LOG.warn(String.format("Couldn't derive %s from %s",
                     ClassFileSource.class.getSimpleName(), location), e);
@@ -337,4 +391,28 @@ public final class ClassFileImporter {
     private ClassFileSource unify(List<ClassFileSource> sources) {
         return Iterables.concat(sources)::iterator;
     }
+
+    /**
+     * Defines which parts of the class files are imported. Compare {@link #withDetailLevel(DetailLevel)}.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public enum DetailLevel {
+        /**
+         * Imports the complete class files, including the code of all methods, constructors and static initializers.
+         * This is the default.
+         */
+        @PublicAPI(usage = ACCESS)
+        FULL,
+
+        /**
+         * Imports only the signatures of classes and their members, i.e. declarations like supertypes, fields,
+         * method signatures and annotations, but skips the code of methods, constructors and static initializers.
+         * Thus, there are no accesses (like field accesses, method calls or method references), no try/catch blocks,
+         * no instanceof checks and no referenced class objects. Any attempt to query these or the dependencies
+         * of classes, e.g. by a rule that checks accesses or dependencies, fails with an exception.
+         * Line numbers of code units are also unknown.
+         */
+        @PublicAPI(usage = ACCESS)
+        SIGNATURES
+    }
 }
@@ -16,17 +16,31 @@
 package com.tngtech.archunit.core.importer;
 
 import java.io.InputStream;
+import java.math.RoundingMode;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.io.ByteStreams;
+import com.google.common.math.IntMath;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClassDescriptor;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
+import com.tngtech.archunit.core.importer.ClassFileImporter.DetailLevel;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaAnnotationBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassTypeParametersBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorBuilder;
@@ -45,34 +59,132 @@ import org.objectweb.asm.Label;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
 import static com.tngtech.archunit.core.domain.JavaConstructor.CONSTRUCTOR_NAME;
+import static com.tngtech.archunit.core.importer.ClassFileImporter.DetailLevel.SIGNATURES;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.PARSING_CLASS_FILES;
+import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.isLambdaMethodName;
+import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.isSyntheticAccessMethodName;
 import static java.util.stream.Collectors.toSet;
+import static org.objectweb.asm.ClassReader.SKIP_CODE;
 import static org.objectweb.asm.Opcodes.ASM9;
 
 class ClassFileProcessor {
     private static final Logger LOG = LoggerFactory.getLogger(ClassFileProcessor.class);
 
     static final int ASM_API_VERSION = ASM9;
+    // more chunks than threads to balance the load if some chunks contain bigger class files than others
+    private static final int CHUNKS_PER_THREAD = 4;
 
     private final boolean md5InClassSourcesEnabled = ArchConfiguration.get().md5InClassSourcesEnabled();
+    private final int importParallelism = ArchConfiguration.get().getImportParallelism();
     private final ClassResolver.Factory classResolverFactory = new ClassResolver.Factory();
+    private final DetailLevel detailLevel;
+    private final int parsingOptions;
+    private final ImportStatistics.Recorder statistics;
+
+    ClassFileProcessor(DetailLevel detailLevel, ImportStatistics.Recorder statistics) {
+        this.detailLevel = detailLevel;
+        this.parsingOptions = detailLevel == SIGNATURES ? SKIP_CODE : 0;
+        this.statistics = statistics;
+    }
 
     JavaClasses process(ClassFileSource source) {
-        ClassFileImportRecord importRecord = new ClassFileImportRecord();
-        DependencyResolutionProcess dependencyResolutionProcess = new DependencyResolutionProcess();
-        RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord, dependencyResolutionProcess);
-        ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord, dependencyResolutionProcess);
-        for (ClassFileLocation location : source) {
+        ClassFileImportRun importRun = new ClassFileImportRun();
+        statistics.time(PARSING_CLASS_FILES, () -> {
+            if (importParallelism > 1) {
+                processInParallel(source, importRun);
+            } else {
+                source.forEach(importRun::process);
+            }
+        });
+        statistics.onClassesParsed(importRun.importRecord.getClasses().size());
+        JavaClasses result = new ClassGraphCreator(importRun.importRecord, importRun.dependencyResolutionProcess, getClassResolver(importRun.classDetailsRecorder), detailLevel, statistics)
+                .complete();
+        LOG.debug("Statistics of the JavaClassDescriptor cache after import: {}", JavaClassDescriptor.From.getCacheStatistics());
+        return result;
+    }
+
+    /**
+     * Parses the class files in chunks on a pool of worker threads, each chunk into its own {@link ClassFileImportRun}.
+     * The chunk results are merged in the order of the {@link ClassFileSource}, so the result is the same as of a sequential import.
+     * In particular, if a class is contained multiple times within the source, the first occurrence wins. In the rare
+     * case that a chunk contains a class that has already been merged from a previous chunk, we simply process
+     * this chunk again sequentially, which will then skip the already imported classes.
+     */
+    private void processInParallel(ClassFileSource source, ClassFileImportRun importRun) {
+        List<ClassFileLocation> locations = ImmutableList.copyOf(source);
+        int chunkSize = Math.max(1, IntMath.divide(locations.size(), importParallelism * CHUNKS_PER_THREAD, RoundingMode.CEILING));
+        List<List<ClassFileLocation>> chunks = Lists.partition(locations, chunkSize);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(importParallelism, chunks.size()), ImportThreadFactory.INSTANCE);
+        try {
+            List<Future<ClassFileImportRun>> chunkRuns = new ArrayList<>();
+            for (List<ClassFileLocation> chunk : chunks) {
+                // the import run reads the current ArchConfiguration, which might be thread local, so we create it on the calling thread
+                ClassFileImportRun chunkRun = new ClassFileImportRun();
+                chunkRuns.add(executor.submit(() -> {
+                    chunk.forEach(chunkRun::process);
+                    return chunkRun;
+                }));
+            }
+            for (int i = 0; i < chunks.size(); i++) {
+                ClassFileImportRun chunkRun = getUninterruptibly(chunkRuns.get(i));
+                if (importRun.canMerge(chunkRun)) {
+                    importRun.merge(chunkRun);
+                } else {
+                    chunks.get(i).forEach(importRun::process);
+                }
+            }
+        } catch (ExecutionException e) {
+            throwIfUnchecked(e.getCause());
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private class ClassFileImportRun {
+        private final ClassFileImportRecord importRecord = new ClassFileImportRecord();
+        private final DependencyResolutionProcess dependencyResolutionProcess = new DependencyResolutionProcess();
+        private final ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord, dependencyResolutionProcess);
+        private final RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord, dependencyResolutionProcess);
+
+        void process(ClassFileLocation location) {
             try (InputStream s = location.openStream()) {
+                byte[] classFile = ByteStreams.toByteArray(s);
+                statistics.onBytesRead(classFile.length);
                 JavaClassProcessor javaClassProcessor =
-                        new JavaClassProcessor(new SourceDescriptor(location.getUri(), md5InClassSourcesEnabled), classDetailsRecorder, accessHandler);
-                new ClassReader(s).accept(javaClassProcessor, 0);
+                        new JavaClassProcessor(SourceDescriptor.of(location.getUri(), classFile, md5InClassSourcesEnabled), classDetailsRecorder, accessHandler);
+                new ClassReader(classFile).accept(javaClassProcessor, parsingOptions);
                 javaClassProcessor.createJavaClass().ifPresent(importRecord::add);
             } catch (Exception e) {
                 LOG.warn(String.format("Couldn't import class from %s", location.getUri()), e);
             }
         }
-        return new ClassGraphCreator(importRecord, dependencyResolutionProcess, getClassResolver(classDetailsRecorder)).complete();
+
+        boolean canMerge(ClassFileImportRun other) {
+            return Collections.disjoint(importRecord.getClasses().keySet(), other.importRecord.getClasses().keySet());
+        }
+
+        void merge(ClassFileImportRun other) {
+            importRecord.addAll(other.importRecord);
+            dependencyResolutionProcess.registerAll(other.dependencyResolutionProcess);
+        }
+    }
+
+    static class ImportThreadFactory implements ThreadFactory {
+        static final ImportThreadFactory INSTANCE = new ImportThreadFactory();
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "archunit-import-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 
     private static class ClassDetailsRecorder implements DeclarationHandler {
@@ -125,18 +237,25 @@ class ClassFileProcessor {
         @Override
         public void onDeclaredField(JavaFieldBuilder fieldBuilder, String fieldTypeName) {
             importRecord.addField(ownerName, fieldBuilder);
+            importRecord.addDeclaredTypeName(ownerName, fieldTypeName);
             dependencyResolutionProcess.registerMemberType(fieldTypeName);
         }
 
         @Override
         public void onDeclaredConstructor(JavaConstructorBuilder constructorBuilder, Collection<String> rawParameterTypeNames) {
             importRecord.addConstructor(ownerName, constructorBuilder);
+            importRecord.addDeclaredTypeNames(ownerName, rawParameterTypeNames);
             dependencyResolutionProcess.registerMemberTypes(rawParameterTypeNames);
         }
 
         @Override
         public void onDeclaredMethod(JavaMethodBuilder methodBuilder, Collection<String> rawParameterTypeNames, String rawReturnTypeName) {
             importRecord.addMethod(ownerName, methodBuilder);
+            // lambda and synthetic access methods will never become members of the class
+            if (!isLambdaMethodName(methodBuilder.getName()) && !isSyntheticAccessMethodName(methodBuilder.getName())) {
+                importRecord.addDeclaredTypeNames(ownerName, rawParameterTypeNames);
+                importRecord.addDeclaredTypeName(ownerName, rawReturnTypeName);
+            }
             dependencyResolutionProcess.registerMemberTypes(rawParameterTypeNames);
             dependencyResolutionProcess.registerMemberType(rawReturnTypeName);
         }
@@ -166,9 +285,16 @@ class ClassFileProcessor {
 
         @Override
         public void onDeclaredAnnotationValueType(String valueTypeName) {
+            importRecord.addDeclaredTypeName(ownerName, valueTypeName);
             dependencyResolutionProcess.registerAnnotationType(valueTypeName);
         }
 
+        @Override
+        public void onDeclaredEmptyAnnotationArray() {
+            // the component type is derived from the annotation method return type when the annotation is created
+            importRecord.addClassWithDerivedMemberTypes(ownerName);
+        }
+
         @Override
         public void onDeclaredAnnotationDefaultValue(String methodName, String methodDescriptor, JavaAnnotationBuilder.ValueBuilder valueBuilder) {
             importRecord.addAnnotationDefaultValue(ownerName, methodName, methodDescriptor, valueBuilder);
@@ -197,13 +323,21 @@ class ClassFileProcessor {
 
         @Override
         public void onDeclaredThrowsClause(Collection<String> exceptionTypeNames) {
+            importRecord.addDeclaredTypeNames(ownerName, exceptionTypeNames);
             dependencyResolutionProcess.registerMemberTypes(exceptionTypeNames);
         }
 
         @Override
         public void onDeclaredGenericSignatureType(String typeName) {
+            importRecord.addDeclaredTypeName(ownerName, typeName);
             dependencyResolutionProcess.registerGenericSignatureType(typeName);
         }
+
+        @Override
+        public void onDeclaredGenericArrayType() {
+            // the array type is derived from the erasure of the component type when the generic type is created
+            importRecord.addClassWithDerivedMemberTypes(ownerName);
+        }
     }
 
     private static class RecordAccessHandler implements AccessHandler, TryCatchBlocksFinishedListener {
@@ -336,24 +470,33 @@ class ClassFileProcessor {
 
     private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder) {
         ClassResolver classResolver = classResolverFactory.create();
-        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, md5InClassSourcesEnabled));
+        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, md5InClassSourcesEnabled, parsingOptions, ResolvedClassFileCache.fromConfiguration(), statistics));
         return classResolver;
     }
 
     private static class UriImporterOfProcessor implements ClassUriImporter {
         private final DeclarationHandler declarationHandler;
         private final boolean md5InClassSourcesEnabled;
+        private final int parsingOptions;
+        private final ResolvedClassFileCache resolvedClassFileCache;
+        private final ImportStatistics.Recorder statistics;
 
-        UriImporterOfProcessor(DeclarationHandler declarationHandler, boolean md5InClassSourcesEnabled) {
+        UriImporterOfProcessor(DeclarationHandler declarationHandler, boolean md5InClassSourcesEnabled, int parsingOptions,
+                ResolvedClassFileCache resolvedClassFileCache, ImportStatistics.Recorder statistics) {
             this.declarationHandler = declarationHandler;
             this.md5InClassSourcesEnabled = md5InClassSourcesEnabled;
+            this.parsingOptions = parsingOptions;
+            this.resolvedClassFileCache = resolvedClassFileCache;
+            this.statistics = statistics;
         }
 
         @Override
         public Optional<JavaClass> tryImport(URI uri) {
-            try (InputStream inputStream = uri.toURL().openStream()) {
-                JavaClassProcessor classProcessor = new JavaClassProcessor(new SourceDescriptor(uri, md5InClassSourcesEnabled), declarationHandler);
-                new ClassReader(inputStream).accept(classProcessor, 0);
+            try (InputStream inputStream = resolvedClassFileCache.openStream(uri)) {
+                byte[] classFile = ByteStreams.toByteArray(inputStream);
+                statistics.onBytesRead(classFile.length);
+                JavaClassProcessor classProcessor = new JavaClassProcessor(SourceDescriptor.of(uri, classFile, md5InClassSourcesEnabled), declarationHandler);
+                new ClassReader(classFile).accept(classProcessor, parsingOptions);
                 return classProcessor.createJavaClass();
             } catch (Exception e) {
                 LOG.warn(String.format("Error during import from %s, falling back to simple import", uri), e);
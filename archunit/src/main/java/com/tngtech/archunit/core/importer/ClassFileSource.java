@@ -28,6 +28,7 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -35,6 +36,7 @@ import java.util.function.Supplier;
 import java.util.jar.JarEntry;
 
 import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.core.importer.PersistentClassFileCache.CachedJar;
 
 import static java.util.stream.Collectors.toList;
 
@@ -91,17 +93,26 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
         private final Iterable<ClassFileLocation> classFileLocations;
 
         FromJar(URL jarUrl, String path, ImportOptions importOptions) {
-            this(jarUrl, NormalizedResourceName.from(path), importOptions);
+            this(jarUrl, path, importOptions, PersistentClassFileCache.fromConfiguration());
         }
 
-        FromJar(URL jarUrl, NormalizedResourceName path, ImportOptions importOptions) {
+        FromJar(URL jarUrl, String path, ImportOptions importOptions, PersistentClassFileCache persistentClassFileCache) {
+            this(jarUrl, NormalizedResourceName.from(path), importOptions, persistentClassFileCache);
+        }
+
+        FromJar(URL jarUrl, NormalizedResourceName path, ImportOptions importOptions, PersistentClassFileCache persistentClassFileCache) {
             try {
                 JarURLConnection connection = (JarURLConnection) jarUrl.openConnection();
-                classFileLocations = Collections.list(connection.getJarFile().entries()).stream()
+                List<ClassFileInJar> classFilesInJar = Collections.list(connection.getJarFile().entries()).stream()
                         .filter(classFilesBeneath(path))
                         .map(toClassFilesInJarOf(connection))
                         .filter(by(importOptions))
-                        .map(toInputStreamSupplier())
+                        .collect(toList());
+                CachedJar cachedJar = classFilesInJar.isEmpty()
+                        ? CachedJar.EMPTY
+                        : persistentClassFileCache.forJar(connection.getJarFile());
+                classFileLocations = classFilesInJar.stream()
+                        .map(toInputStreamSupplier(cachedJar))
                         .collect(toList());
             } catch (IOException e) {
                 throw new RuntimeException(e);
@@ -121,11 +132,11 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
             return input -> input.isIncludedIn(importOptions);
         }
 
-        private Function<ClassFileInJar, ClassFileLocation> toInputStreamSupplier() {
+        private Function<ClassFileInJar, ClassFileLocation> toInputStreamSupplier(CachedJar cachedJar) {
             return input -> new InputStreamSupplierClassFileLocation(input.getUri(), new InputStreamSupplier() {
                 @Override
                 InputStream getInputStream() throws IOException {
-                    return input.openStream();
+                    return input.openStream(cachedJar);
                 }
             });
         }
@@ -154,8 +165,13 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
                 return uri;
             }
 
-            InputStream openStream() throws IOException {
-                return connection.getJarFile().getInputStream(jarEntry);
+            InputStream openStream(CachedJar cachedJar) {
+                return cachedJar.openStream(jarEntry, new InputStreamSupplier() {
+                    @Override
+                    InputStream getInputStream() throws IOException {
+                        return connection.getJarFile().getInputStream(jarEntry);
+                    }
+                });
             }
 
             boolean isIncludedIn(ImportOptions importOptions) {
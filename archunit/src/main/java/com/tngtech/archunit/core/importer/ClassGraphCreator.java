@@ -54,6 +54,7 @@ import com.tngtech.archunit.core.domain.JavaType;
 import com.tngtech.archunit.core.domain.JavaTypeVariable;
 import com.tngtech.archunit.core.domain.ReferencedClassObject;
 import com.tngtech.archunit.core.importer.AccessRecord.FieldAccessRecord;
+import com.tngtech.archunit.core.importer.ClassFileImporter.DetailLevel;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassTypeParametersBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorCallBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorReferenceBuilder;
@@ -73,12 +74,16 @@ import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.compl
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeGenericInterfaces;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeGenericSuperclass;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeMembers;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeMembersLazily;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeTypeParameters;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createInstanceofCheck;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createJavaClasses;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createReferencedClassObject;
 import static com.tngtech.archunit.core.importer.DomainBuilders.BuilderWithBuildParameter.BuildFinisher.build;
 import static com.tngtech.archunit.core.importer.DomainBuilders.buildAnnotations;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.COMPLETING_CLASSES;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.CREATING_JAVA_CLASSES;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.RESOLVING_DEPENDENCIES;
 import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.isLambdaMethodName;
 import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.isSyntheticAccessMethodName;
 
@@ -87,6 +92,8 @@ class ClassGraphCreator implements ImportContext {
 
     private final ClassFileImportRecord importRecord;
     private final DependencyResolutionProcess dependencyResolutionProcess;
+    private final DetailLevel detailLevel;
+    private final ImportStatistics.Recorder statistics;
 
     private final SetMultimap<JavaCodeUnit, FieldAccessRecord> processedFieldAccessRecords = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, AccessRecord<MethodCallTarget>> processedMethodCallRecords = HashMultimap.create();
@@ -97,17 +104,43 @@ class ClassGraphCreator implements ImportContext {
     private final SetMultimap<JavaCodeUnit, InstanceofCheck> processedInstanceofChecks = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, TryCatchBlockBuilder> processedTryCatchBlocks = HashMultimap.create();
 
-    ClassGraphCreator(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess, ClassResolver classResolver) {
+    ClassGraphCreator(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess, ClassResolver classResolver,
+            DetailLevel detailLevel, ImportStatistics.Recorder statistics) {
         this.importRecord = importRecord;
         this.dependencyResolutionProcess = dependencyResolutionProcess;
-        classes = new ImportedClasses(importRecord.getClasses(), classResolver, this::getMethodReturnType);
+        this.detailLevel = detailLevel;
+        this.statistics = statistics;
+        classes = new ImportedClasses(importRecord.getClasses(), classResolver, this::getMethodReturnType, statistics);
     }
 
     JavaClasses complete() {
-        dependencyResolutionProcess.resolve(classes);
-        completeClasses();
-        completeCodeUnitDependencies();
-        return createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), this);
+        statistics.time(RESOLVING_DEPENDENCIES, () -> dependencyResolutionProcess.resolve(classes, statistics));
+        statistics.time(COMPLETING_CLASSES, () -> {
+            completeClasses();
+            if (isCodeImported()) {
+                completeCodeUnitDependencies();
+            }
+        });
+        JavaClasses result = statistics.time(CREATING_JAVA_CLASSES,
+                () -> createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), this));
+        releaseCodeRecords();
+        return result;
+    }
+
+    /**
+     * Classes completed lazily keep this {@link ImportContext} reachable, so we release everything that has been
+     * needed for the code of the directly imported classes only.
+     */
+    private void releaseCodeRecords() {
+        importRecord.clearRecordsNotNeededForLazyCompletion();
+        processedFieldAccessRecords.clear();
+        processedMethodCallRecords.clear();
+        processedConstructorCallRecords.clear();
+        processedMethodReferenceRecords.clear();
+        processedConstructorReferenceRecords.clear();
+        processedReferencedClassObjects.clear();
+        processedInstanceofChecks.clear();
+        processedTryCatchBlocks.clear();
     }
 
     private void completeClasses() {
@@ -117,8 +150,21 @@ class ClassGraphCreator implements ImportContext {
             completeTypeParameters(javaClass, this);
             completeGenericSuperclass(javaClass, this);
             completeGenericInterfaces(javaClass, this);
-            completeMembers(javaClass, this);
-            completeAnnotations(javaClass, this);
+            if (classes.isDirectlyImported(javaClass) || importRecord.hasDerivedMemberTypes(javaClass.getName())) {
+                completeMembers(javaClass, this);
+                completeAnnotations(javaClass, this);
+            } else {
+                // classes only resolved as dependencies are mostly checked by name, package or supertypes,
+                // so we only resolve all types their members refer to now and create the members on demand
+                resolveDeclaredTypes(javaClass);
+                completeMembersLazily(javaClass, this);
+            }
+        }
+    }
+
+    private void resolveDeclaredTypes(JavaClass javaClass) {
+        for (String typeName : ImmutableList.copyOf(importRecord.getDeclaredTypeNamesFor(javaClass.getName()))) {
+            classes.getOrResolve(typeName);
         }
     }
 
@@ -411,6 +457,11 @@ class ClassGraphCreator implements ImportContext {
         return classes.getOrResolve(fullyQualifiedClassName);
     }
 
+    @Override
+    public boolean isCodeImported() {
+        return detailLevel == DetailLevel.FULL;
+    }
+
     private Optional<JavaClass> getMethodReturnType(String declaringClassName, String methodName) {
         for (JavaMethodBuilder methodBuilder : importRecord.getMethodBuildersFor(declaringClassName)) {
             if (methodBuilder.getName().equals(methodName) && methodBuilder.hasNoParameters()) {
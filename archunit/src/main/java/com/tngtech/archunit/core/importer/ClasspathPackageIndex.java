@@ -0,0 +1,164 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.ArchUnitException.LocationException;
+import com.tngtech.archunit.core.importer.ClassFileProcessor.ImportThreadFactory;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Indexes which {@link Location locations} of a classpath contain entries beneath which folders,
+ * so that looking up the locations of a package or class doesn't need to stream the entries of every location of the classpath.
+ * <br><br>
+ * The index is a trie over the folder segments of all entries. Each node knows the locations
+ * with entries anywhere beneath its folder and the locations with entries directly within its folder.
+ * Since the index is derived from the same cached entries as {@link Location#streamEntries()}, it is created only once
+ * per classpath and then reused for the lifetime of the JVM. The entries of the locations are read in parallel
+ * if the {@link ArchConfiguration#getImportParallelism() import parallelism} is greater than 1.
+ */
+class ClasspathPackageIndex {
+    private static final Cache<List<Location>, ClasspathPackageIndex> INDEX_CACHE = CacheBuilder.newBuilder().softValues().build();
+
+    private final List<Location> locations;
+    private final Node root = new Node();
+
+    private ClasspathPackageIndex(List<Location> locations, List<Set<String>> foldersByLocation) {
+        this.locations = locations;
+        for (int i = 0; i < locations.size(); i++) {
+            for (String folder : foldersByLocation.get(i)) {
+                add(i, folder);
+            }
+        }
+    }
+
+    private void add(int locationIndex, String folder) {
+        Node node = root;
+        node.locationsWithEntriesBeneath.set(locationIndex);
+        for (String segment : segmentsOf(folder)) {
+            node = node.children.computeIfAbsent(segment, __ -> new Node());
+            node.locationsWithEntriesBeneath.set(locationIndex);
+        }
+        node.locationsWithDirectEntries.set(locationIndex);
+    }
+
+    /**
+     * @return All locations of the classpath with an entry that {@link NormalizedResourceName#startsWith(NormalizedResourceName) starts with}
+     *         the given resource name, i.e. the entry is either equal to the resource name or contained in the respective folder
+     */
+    Set<Location> getLocationsContaining(NormalizedResourceName resourceName) {
+        String name = resourceName.toString();
+        BitSet result = new BitSet();
+        find(name).ifPresent(node -> result.or(node.locationsWithEntriesBeneath));
+        if (!name.isEmpty()) {
+            find(folderOf(name)).ifPresent(folder -> folder.locationsWithDirectEntries.stream()
+                    .filter(i -> !result.get(i) && containsEntry(locations.get(i), resourceName))
+                    .forEach(result::set));
+        }
+        return result.stream().mapToObj(locations::get).collect(toSet());
+    }
+
+    private Optional<Node> find(String folder) {
+        Node node = root;
+        for (String segment : segmentsOf(folder)) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(node);
+    }
+
+    private static boolean containsEntry(Location location, NormalizedResourceName resourceName) {
+        return location.streamEntries().anyMatch(resourceName::equals);
+    }
+
+    static ClasspathPackageIndex of(Iterable<URL> classpath) {
+        List<Location> locations = ImmutableList.copyOf(Locations.of(classpath));
+        try {
+            return INDEX_CACHE.get(locations, () -> new ClasspathPackageIndex(locations, readFolders(locations)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throwIfUnchecked(e.getCause());
+            throw new LocationException(e);
+        }
+    }
+
+    private static List<Set<String>> readFolders(List<Location> locations) {
+        int parallelism = ArchConfiguration.get().getImportParallelism();
+        if (parallelism <= 1 || locations.size() <= 1) {
+            return locations.stream().map(ClasspathPackageIndex::readFolders).collect(toList());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, locations.size()), ImportThreadFactory.INSTANCE);
+        try {
+            List<Future<Set<String>>> folders = new ArrayList<>();
+            for (Location location : locations) {
+                folders.add(executor.submit(() -> readFolders(location)));
+            }
+            List<Set<String>> result = new ArrayList<>();
+            for (Future<Set<String>> locationFolders : folders) {
+                result.add(getUninterruptibly(locationFolders));
+            }
+            return result;
+        } catch (ExecutionException e) {
+            throwIfUnchecked(e.getCause());
+            throw new LocationException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Set<String> readFolders(Location location) {
+        return location.streamEntries().map(entry -> folderOf(entry.toString())).collect(toImmutableSet());
+    }
+
+    private static String folderOf(String resourceName) {
+        int lastSlashIndex = resourceName.lastIndexOf('/');
+        return lastSlashIndex >= 0 ? resourceName.substring(0, lastSlashIndex) : "";
+    }
+
+    private static String[] segmentsOf(String folder) {
+        return folder.isEmpty() ? new String[0] : folder.split("/");
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final BitSet locationsWithEntriesBeneath = new BitSet();
+        private final BitSet locationsWithDirectEntries = new BitSet();
+    }
+}
@@ -49,6 +49,8 @@ interface DeclarationHandler {
 
     void onDeclaredAnnotationValueType(String valueTypeName);
 
+    void onDeclaredEmptyAnnotationArray();
+
     void onDeclaredAnnotationDefaultValue(String methodName, String methodDescriptor, DomainBuilders.JavaAnnotationBuilder.ValueBuilder valueBuilder);
 
     void registerEnclosingClass(String ownerName, String enclosingClassName);
@@ -62,4 +64,6 @@ interface DeclarationHandler {
     void onDeclaredThrowsClause(Collection<String> exceptionTypeNames);
 
     void onDeclaredGenericSignatureType(String typeName);
+
+    void onDeclaredGenericArrayType();
 }
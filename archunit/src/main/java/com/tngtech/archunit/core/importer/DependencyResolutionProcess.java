@@ -133,10 +133,16 @@ class DependencyResolutionProcess {
         }
     }
 
-    void resolve(ImportedClasses classes) {
+    void registerAll(DependencyResolutionProcess other) {
+        currentTypeNames.addAll(other.currentTypeNames);
+    }
+
+    void resolve(ImportedClasses classes, ImportStatistics.Recorder statistics) {
         logConfiguration();
         do {
+            long start = System.nanoTime();
             executeRun(classes);
+            statistics.onResolutionRound(System.nanoTime() - start);
         } while (shouldContinue);
     }
 
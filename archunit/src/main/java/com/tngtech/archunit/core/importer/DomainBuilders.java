@@ -468,7 +468,7 @@ public final class DomainBuilders {
         }
 
         public Optional<Source> getSource() {
-            return sourceDescriptor.map(value -> createSource(value.getUri(), sourceFileName, value.isMd5InClassSourcesEnabled()));
+            return sourceDescriptor.map(value -> createSource(value.getUri(), sourceFileName, value.getMd5sum()));
         }
 
         public JavaClassDescriptor getDescriptor() {
@@ -76,6 +76,9 @@ class GenericMemberTypeProcessor<T extends HasDescription> extends SignatureVisi
 
     @Override
     public void visitTypeVariable(String name) {
+        if (typeFinisher != JavaTypeFinisher.IDENTITY) {
+            declarationHandler.onDeclaredGenericArrayType();
+        }
         typeCreationProcess = new ReferenceCreationProcess<>(name, typeFinisher);
     }
 
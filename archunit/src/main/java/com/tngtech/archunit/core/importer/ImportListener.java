@@ -0,0 +1,53 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import com.tngtech.archunit.PublicAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
+
+/**
+ * Will be notified about every import of a {@link ClassFileImporter} it has been registered with
+ * via {@link ClassFileImporter#withImportListener(ImportListener)}.
+ * Note that listeners are called synchronously on the importing thread, so they should return quickly.
+ */
+@PublicAPI(usage = INHERITANCE, state = EXPERIMENTAL)
+public interface ImportListener {
+    /**
+     * @param statistics the {@link ImportStatistics} of the finished import
+     */
+    void onImportFinished(ImportStatistics statistics);
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    enum Predefined implements ImportListener {
+        /**
+         * Logs a summary of the {@link ImportStatistics} of each import on level INFO
+         */
+        @PublicAPI(usage = ACCESS)
+        LOG_SUMMARY {
+            @Override
+            public void onImportFinished(ImportStatistics statistics) {
+                LOG.info("{}", statistics);
+            }
+        };
+
+        private static final Logger LOG = LoggerFactory.getLogger(ImportListener.class);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.tngtech.archunit.PublicAPI;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.lang.System.lineSeparator;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Statistics about a single import of a {@link ClassFileImporter}, i.e. how much wall time has been spent in which
+ * {@link Phase} of the import and how many classes have been parsed, resolved or stubbed.
+ * These statistics can help to tune the configuration of the import, e.g. whether to resolve missing dependencies
+ * from the classpath and how many iterations to use for the automatic dependency resolution.
+ *
+ * @see ImportListener
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class ImportStatistics {
+    private final ImmutableMap<Phase, Duration> durations;
+    private final ImmutableList<Duration> resolutionRoundDurations;
+    private final int numberOfParsedClasses;
+    private final int numberOfResolvedClasses;
+    private final int numberOfStubbedClasses;
+    private final long numberOfBytesRead;
+
+    private ImportStatistics(Recorder recorder) {
+        durations = ImmutableMap.copyOf(Maps.transformValues(recorder.nanosByPhase, Duration::ofNanos));
+        resolutionRoundDurations = ImmutableList.copyOf(recorder.resolutionRoundNanos.stream().map(Duration::ofNanos).collect(toList()));
+        numberOfParsedClasses = recorder.numberOfParsedClasses;
+        numberOfResolvedClasses = recorder.numberOfResolvedClasses;
+        numberOfStubbedClasses = recorder.numberOfStubbedClasses;
+        numberOfBytesRead = recorder.numberOfBytesRead.sum();
+    }
+
+    /**
+     * @param phase a {@link Phase} of the import
+     * @return the wall time spent in the given {@link Phase}
+     */
+    @PublicAPI(usage = ACCESS)
+    public Duration getDuration(Phase phase) {
+        return durations.getOrDefault(phase, Duration.ZERO);
+    }
+
+    /**
+     * @return the wall time spent in all {@link Phase phases} of the import
+     */
+    @PublicAPI(usage = ACCESS)
+    public Duration getTotalDuration() {
+        return durations.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * @return the wall time of each round of the automatic dependency resolution
+     *         (compare {@link Phase#RESOLVING_DEPENDENCIES}) in the order of execution
+     */
+    @PublicAPI(usage = ACCESS)
+    public List<Duration> getResolutionRoundDurations() {
+        return resolutionRoundDurations;
+    }
+
+    /**
+     * @return the number of rounds of the automatic dependency resolution
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfResolutionRounds() {
+        return resolutionRoundDurations.size();
+    }
+
+    /**
+     * @return the number of classes parsed from the class files at the imported locations
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfParsedClasses() {
+        return numberOfParsedClasses;
+    }
+
+    /**
+     * @return the number of classes missing from the imported locations that have been resolved
+     *         by the configured {@link com.tngtech.archunit.core.importer.resolvers.ClassResolver ClassResolver},
+     *         e.g. from the classpath
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfResolvedClasses() {
+        return numberOfResolvedClasses;
+    }
+
+    /**
+     * @return the number of classes missing from the imported locations that could not be resolved
+     *         and have thus been replaced by a stub only containing the information known from the referring classes
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfStubbedClasses() {
+        return numberOfStubbedClasses;
+    }
+
+    /**
+     * @return the number of bytes of all class files read during the import, including class files
+     *         read to resolve missing dependencies
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getNumberOfBytesRead() {
+        return numberOfBytesRead;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("Imported ")
+                .append(numberOfParsedClasses).append(" classes (")
+                .append(numberOfResolvedClasses).append(" resolved, ")
+                .append(numberOfStubbedClasses).append(" stubbed, ")
+                .append(numberOfBytesRead).append(" bytes read) in ")
+                .append(getTotalDuration().toMillis()).append(" ms");
+        for (Phase phase : Phase.values()) {
+            result.append(lineSeparator()).append("  ").append(phase).append(": ").append(getDuration(phase).toMillis()).append(" ms");
+            if (phase == Phase.RESOLVING_DEPENDENCIES) {
+                result.append(" in ").append(getNumberOfResolutionRounds()).append(" rounds");
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * The phases of an import in the order of execution.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public enum Phase {
+        /**
+         * Determining the class files to import from the given {@link Location Locations},
+         * e.g. by traversing directories or the entries of JAR files
+         */
+        @PublicAPI(usage = ACCESS)
+        SCANNING_LOCATIONS,
+        /**
+         * Reading and parsing the class files to import
+         */
+        @PublicAPI(usage = ACCESS)
+        PARSING_CLASS_FILES,
+        /**
+         * Automatically resolving the dependencies of the imported classes that are missing from the imported locations
+         */
+        @PublicAPI(usage = ACCESS)
+        RESOLVING_DEPENDENCIES,
+        /**
+         * Completing the hierarchy, members, annotations and accesses of all classes
+         */
+        @PublicAPI(usage = ACCESS)
+        COMPLETING_CLASSES,
+        /**
+         * Creating the {@link com.tngtech.archunit.core.domain.JavaClasses JavaClasses},
+         * including the dependencies and reverse dependencies of all classes
+         */
+        @PublicAPI(usage = ACCESS)
+        CREATING_JAVA_CLASSES
+    }
+
+    static class Recorder {
+        private final Map<Phase, Long> nanosByPhase = new EnumMap<>(Phase.class);
+        private final List<Long> resolutionRoundNanos = new ArrayList<>();
+        private final LongAdder numberOfBytesRead = new LongAdder();
+        private int numberOfParsedClasses;
+        private int numberOfResolvedClasses;
+        private int numberOfStubbedClasses;
+
+        <T> T time(Phase phase, Supplier<T> action) {
+            long start = System.nanoTime();
+            try {
+                return action.get();
+            } finally {
+                nanosByPhase.merge(phase, System.nanoTime() - start, Long::sum);
+            }
+        }
+
+        void time(Phase phase, Runnable action) {
+            time(phase, () -> {
+                action.run();
+                return null;
+            });
+        }
+
+        void onResolutionRound(long nanos) {
+            resolutionRoundNanos.add(nanos);
+        }
+
+        void onBytesRead(int numberOfBytes) {
+            numberOfBytesRead.add(numberOfBytes);
+        }
+
+        void onClassesParsed(int numberOfClasses) {
+            numberOfParsedClasses = numberOfClasses;
+        }
+
+        void onClassResolved() {
+            numberOfResolvedClasses++;
+        }
+
+        void onClassStubbed() {
+            numberOfStubbedClasses++;
+        }
+
+        ImportStatistics finish() {
+            return new ImportStatistics(this);
+        }
+    }
+}
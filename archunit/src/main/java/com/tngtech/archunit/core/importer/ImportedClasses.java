@@ -50,18 +50,25 @@ class ImportedClasses {
     private final Map<String, JavaClass> allClasses = new HashMap<>();
     private final ClassResolver resolver;
     private final MethodReturnTypeGetter getMethodReturnType;
+    private final ImportStatistics.Recorder statistics;
 
-    ImportedClasses(Map<String, JavaClass> directlyImported, ClassResolver resolver, MethodReturnTypeGetter methodReturnTypeGetter) {
+    ImportedClasses(Map<String, JavaClass> directlyImported, ClassResolver resolver, MethodReturnTypeGetter methodReturnTypeGetter,
+            ImportStatistics.Recorder statistics) {
         this.directlyImported = ImmutableMap.copyOf(directlyImported);
         allClasses.putAll(directlyImported);
         this.resolver = resolver;
         this.getMethodReturnType = methodReturnTypeGetter;
+        this.statistics = statistics;
     }
 
     Map<String, JavaClass> getDirectlyImported() {
         return directlyImported;
     }
 
+    boolean isDirectlyImported(JavaClass javaClass) {
+        return directlyImported.containsKey(javaClass.getName());
+    }
+
     JavaClass getOrResolve(String typeName) {
         JavaClass javaClass = allClasses.get(typeName);
         return javaClass != null ? javaClass : resolve(typeName);
@@ -78,7 +85,14 @@ class ImportedClasses {
 
     private JavaClass resolve(String typeName) {
         Optional<JavaClass> resolved = resolver.tryResolve(typeName);
-        JavaClass javaClass = resolved.isPresent() ? resolved.get() : stubClassOf(typeName);
+        JavaClass javaClass;
+        if (resolved.isPresent()) {
+            statistics.onClassResolved();
+            javaClass = resolved.get();
+        } else {
+            statistics.onClassStubbed();
+            javaClass = stubClassOf(typeName);
+        }
         if (javaClass.isArray()) {
             ensureAllComponentTypesPresent(javaClass);
         }
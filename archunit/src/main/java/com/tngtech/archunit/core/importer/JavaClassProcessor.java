@@ -260,7 +260,6 @@ class JavaClassProcessor extends ClassVisitor {
         JavaCodeUnitSignature codeUnitSignature = JavaCodeUnitSignatureImporter.parseAsmMethodSignature(signature, declarationHandler);
         List<JavaClassDescriptor> throwsDeclarations = typesFrom(exceptions);
         codeUnitBuilder
-                .withName(name)
                 .withModifiers(JavaModifier.getModifiersForMethod(access))
                 .withTypeParameters(codeUnitSignature.getTypeParameterBuilders())
                 .withParameterTypes(codeUnitSignature.getParameterTypes(), codeUnit.getRawParameterTypes())
@@ -288,7 +287,7 @@ class JavaClassProcessor extends ClassVisitor {
 
     private DomainBuilders.JavaCodeUnitBuilder<?, ?> addCodeUnitBuilder(String name, Collection<String> rawParameterTypeNames, String rawReturnTypeName) {
         if (CONSTRUCTOR_NAME.equals(name)) {
-            DomainBuilders.JavaConstructorBuilder builder = new DomainBuilders.JavaConstructorBuilder();
+            DomainBuilders.JavaConstructorBuilder builder = new DomainBuilders.JavaConstructorBuilder().withName(name);
             declarationHandler.onDeclaredConstructor(builder, rawParameterTypeNames);
             return builder;
         } else if (STATIC_INITIALIZER_NAME.equals(name)) {
@@ -296,7 +295,7 @@ class JavaClassProcessor extends ClassVisitor {
             declarationHandler.onDeclaredStaticInitializer(builder);
             return builder;
         } else {
-            DomainBuilders.JavaMethodBuilder builder = new DomainBuilders.JavaMethodBuilder();
+            DomainBuilders.JavaMethodBuilder builder = new DomainBuilders.JavaMethodBuilder().withName(name);
             declarationHandler.onDeclaredMethod(builder, rawParameterTypeNames, rawReturnTypeName);
             return builder;
         }
@@ -736,6 +735,9 @@ class JavaClassProcessor extends ClassVisitor {
 
         @Override
         public void visitEnd() {
+            if (derivedComponentType == null) {
+                declarationHandler.onDeclaredEmptyAnnotationArray();
+            }
             annotationArrayContext.setArrayResult(new ArrayValueBuilder());
         }
 
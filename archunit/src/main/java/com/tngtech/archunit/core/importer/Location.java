@@ -86,6 +86,10 @@ public abstract class Location {
 
     abstract ClassFileSource asClassFileSource(ImportOptions importOptions);
 
+    ClassFileSource asClassFileSource(ImportOptions importOptions, PersistentClassFileCache persistentClassFileCache) {
+        return asClassFileSource(importOptions);
+    }
+
     /**
      * @param part A part to check the respective location {@link URI} for
      * @return {@code true}, if the respective {@link URI} contains the given part, {@code false} otherwise
@@ -270,9 +274,14 @@ public abstract class Location {
 
         @Override
         ClassFileSource asClassFileSource(ImportOptions importOptions) {
+            return asClassFileSource(importOptions, PersistentClassFileCache.fromConfiguration());
+        }
+
+        @Override
+        ClassFileSource asClassFileSource(ImportOptions importOptions, PersistentClassFileCache persistentClassFileCache) {
             try {
                 ParsedUri parsedUri = ParsedUri.from(uri);
-                return new ClassFileSource.FromJar(new URL(parsedUri.base), parsedUri.path, importOptions);
+                return new ClassFileSource.FromJar(new URL(parsedUri.base), parsedUri.path, importOptions, persistentClassFileCache);
             } catch (IOException e) {
                 throw new LocationException(e);
             }
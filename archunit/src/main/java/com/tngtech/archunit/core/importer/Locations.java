@@ -121,14 +121,14 @@ public final class Locations {
      * E.g. loading the package via
      * <pre><code>importPackage("java.io") -> classLoader.getResources("/java/io")</code></pre>
      * does not behave correctly for older Java versions,
-     * because the folder entry {@code /java/io} is missing from {@code rt.jar}.
+     * because the folder entry {@code /java/io} is missing from {@code rt.jar}.<br>
+     * Thus, we additionally look up all locations of the classpath containing entries with the respective prefix
+     * in the {@link ClasspathPackageIndex}.
      */
     private static Collection<Location> getResourceLocations(ClassLoader loader, NormalizedResourceName resourceName, Iterable<URL> classpath) {
         Set<Location> result = newHashSet(Locations.of(getResources(loader, resourceName)));
-        for (Location location : Locations.of(classpath)) {
-            if (containsEntryWithPrefix(location, resourceName)) {
-                result.add(location.append(resourceName.toString()));
-            }
+        for (Location location : ClasspathPackageIndex.of(classpath).getLocationsContaining(resourceName)) {
+            result.add(location.append(resourceName.toString()));
         }
         return result;
     }
@@ -140,8 +140,4 @@ public final class Locations {
             throw new LocationException(e);
         }
     }
-
-    private static boolean containsEntryWithPrefix(Location location, NormalizedResourceName searchedJarEntryPrefix) {
-        return location.streamEntries().anyMatch(name -> name.startsWith(searchedJarEntryPrefix));
-    }
 }
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.importer.ClassFileSource.FileToImport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * An opt-in cache that persists the class files of imported JARs across JVMs, so that unchanged JARs
+ * (e.g. 3rd party libraries) don't have to be read and unzipped on every import again.
+ * For every JAR the cache stores the {@link ReducedClassFile reduced class files} of all its entries,
+ * i.e. the import only needs to process the parts of the class files that are relevant to ArchUnit.
+ * <br><br>
+ * A cache entry is identified by the path of the JAR and is valid as long as the last modified time and the size
+ * of the JAR are unchanged. If either of them changed, the entry is still reused if the SHA-256 hash of the
+ * JAR content is the same as at the time the entry was created (and the new last modified time and size are stored),
+ * otherwise the entry is recreated.
+ * <br><br>
+ * An instance is meant to be used for a single import, where each cache entry is read at most once,
+ * no matter how many {@link Location locations} of the import point into the same JAR.
+ * <br><br>
+ * The cache is configured via
+ * <pre><code>
+ * {@value #PERSISTENT_CACHE_PROPERTY_PREFIX}.{@value #ENABLED_PROPERTY_NAME}=true
+ * {@value #PERSISTENT_CACHE_PROPERTY_PREFIX}.{@value #DIRECTORY_PROPERTY_NAME}=/some/cache/dir
+ * </code></pre>
+ * where the directory defaults to {@code ${user.home}/.archunit/cache}.
+ * The cache is not used if {@link ArchConfiguration#ENABLE_MD5_IN_CLASS_SOURCES MD5 sums} are enabled,
+ * since these must be calculated from the original class files.
+ */
+class PersistentClassFileCache {
+    private static final Logger LOG = LoggerFactory.getLogger(PersistentClassFileCache.class);
+
+    static final String PERSISTENT_CACHE_PROPERTY_PREFIX = "import.persistentCache";
+    static final String ENABLED_PROPERTY_NAME = "enabled";
+    static final String DIRECTORY_PROPERTY_NAME = "directory";
+
+    static final int CACHE_FORMAT_VERSION = 1;
+    private static final int MAGIC_NUMBER = 0xA2C4CAC3;
+
+    private static final PersistentClassFileCache DISABLED = new PersistentClassFileCache(Optional.empty());
+
+    private final Optional<Path> cacheDirectory;
+    private final Map<Path, CachedJar> cachedJarsByPath = new HashMap<>();
+
+    private PersistentClassFileCache(Optional<Path> cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    static PersistentClassFileCache fromConfiguration() {
+        Properties properties = ArchConfiguration.get().getSubProperties(PERSISTENT_CACHE_PROPERTY_PREFIX);
+        // MD5 sums must be calculated from the original class files, not from the reduced ones
+        if (!Boolean.parseBoolean(properties.getProperty(ENABLED_PROPERTY_NAME, Boolean.FALSE.toString()))
+                || ArchConfiguration.get().md5InClassSourcesEnabled()) {
+            return DISABLED;
+        }
+        String directory = properties.getProperty(DIRECTORY_PROPERTY_NAME,
+                Paths.get(System.getProperty("user.home"), ".archunit", "cache").toString());
+        return new PersistentClassFileCache(Optional.of(Paths.get(directory)));
+    }
+
+    synchronized CachedJar forJar(JarFile jarFile) {
+        if (!cacheDirectory.isPresent()) {
+            return CachedJar.EMPTY;
+        }
+
+        Path jarPath = Paths.get(jarFile.getName()).toAbsolutePath();
+        if (!Files.isRegularFile(jarPath)) {
+            return CachedJar.EMPTY;
+        }
+
+        return cachedJarsByPath.computeIfAbsent(jarPath, path -> tryLoadOrCreate(cacheDirectory.get(), path, jarFile));
+    }
+
+    private static CachedJar tryLoadOrCreate(Path cacheDirectory, Path jarPath, JarFile jarFile) {
+        try {
+            return loadOrCreate(cacheDirectory, jarPath, jarFile);
+        } catch (Exception e) {
+            LOG.warn(String.format("Couldn't use persistent class file cache for %s, falling back to reading the JAR", jarPath), e);
+            return CachedJar.EMPTY;
+        }
+    }
+
+    private static CachedJar loadOrCreate(Path cacheDirectory, Path jarPath, JarFile jarFile) throws IOException {
+        Path cacheFile = cacheDirectory.resolve(Hashing.sha256().hashString(jarPath.toString(), UTF_8) + ".cache");
+        JarFingerprint fingerprint = JarFingerprint.of(jarPath);
+
+        Optional<CachedJar> cached = CachedJar.tryRead(cacheFile, jarPath, fingerprint);
+        if (cached.isPresent()) {
+            LOG.debug("Using persistent class file cache {} for {}", cacheFile, jarPath);
+            return refreshLastModifiedAndSize(cached.get(), fingerprint, cacheFile, jarPath);
+        }
+
+        LOG.debug("Creating persistent class file cache {} for {}", cacheFile, jarPath);
+        CachedJar created = CachedJar.create(jarFile, fingerprint.withContentHash(jarPath));
+        created.write(cacheFile, jarPath);
+        return created;
+    }
+
+    // if only the content hash matched, we store the current last modified time and size, so the next import doesn't need to hash the JAR again
+    private static CachedJar refreshLastModifiedAndSize(CachedJar cachedJar, JarFingerprint currentFingerprint, Path cacheFile, Path jarPath) {
+        if (cachedJar.fingerprint.hasSameLastModifiedAndSize(currentFingerprint)) {
+            return cachedJar;
+        }
+
+        LOG.debug("Updating last modified time and size of unchanged JAR {} in persistent class file cache {}", jarPath, cacheFile);
+        CachedJar refreshed = cachedJar.withLastModifiedAndSizeOf(currentFingerprint);
+        refreshed.write(cacheFile, jarPath);
+        return refreshed;
+    }
+
+    private static class JarFingerprint {
+        private final long lastModified;
+        private final long size;
+        private final Supplier<byte[]> contentHash;
+
+        private JarFingerprint(long lastModified, long size, Supplier<byte[]> contentHash) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.contentHash = contentHash;
+        }
+
+        static JarFingerprint of(Path jarPath) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(jarPath, BasicFileAttributes.class);
+            return new JarFingerprint(attributes.lastModifiedTime().toMillis(), attributes.size(), () -> hashContent(jarPath));
+        }
+
+        JarFingerprint withContentHash(Path jarPath) {
+            byte[] hash = hashContent(jarPath);
+            return new JarFingerprint(lastModified, size, () -> hash);
+        }
+
+        boolean hasSameLastModifiedAndSize(long otherLastModified, long otherSize) {
+            return lastModified == otherLastModified && size == otherSize;
+        }
+
+        boolean hasSameLastModifiedAndSize(JarFingerprint other) {
+            return hasSameLastModifiedAndSize(other.lastModified, other.size);
+        }
+
+        JarFingerprint withLastModifiedAndSizeOf(JarFingerprint other) {
+            return new JarFingerprint(other.lastModified, other.size, contentHash);
+        }
+
+        private static byte[] hashContent(Path jarPath) {
+            try {
+                return com.google.common.io.Files.asByteSource(jarPath.toFile()).hash(Hashing.sha256()).asBytes();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    static class CachedJar {
+        static final CachedJar EMPTY = new CachedJar(null, Collections.emptyMap());
+
+        private final JarFingerprint fingerprint;
+        private final Map<String, byte[]> reducedClassFilesByEntryName;
+
+        private CachedJar(JarFingerprint fingerprint, Map<String, byte[]> reducedClassFilesByEntryName) {
+            this.fingerprint = fingerprint;
+            this.reducedClassFilesByEntryName = reducedClassFilesByEntryName;
+        }
+
+        /**
+         * @return The cached (reduced) class file of the {@link JarEntry}, if present,
+         *         otherwise the stream supplied by {@code readFromJar}
+         */
+        InputStream openStream(JarEntry entry, ClassFileSource.InputStreamSupplier readFromJar) {
+            byte[] reducedClassFile = reducedClassFilesByEntryName.get(entry.getName());
+            return reducedClassFile != null ? new ByteArrayInputStream(reducedClassFile) : readFromJar.get();
+        }
+
+        CachedJar withLastModifiedAndSizeOf(JarFingerprint otherFingerprint) {
+            return new CachedJar(fingerprint.withLastModifiedAndSizeOf(otherFingerprint), reducedClassFilesByEntryName);
+        }
+
+        static CachedJar create(JarFile jarFile, JarFingerprint fingerprint) throws IOException {
+            Map<String, byte[]> reducedClassFiles = new HashMap<>();
+            for (JarEntry entry : Collections.list(jarFile.entries())) {
+                if (FileToImport.isRelevant(entry.getName())) {
+                    tryReduce(jarFile, entry).ifPresent(reduced -> reducedClassFiles.put(entry.getName(), reduced));
+                }
+            }
+            return new CachedJar(fingerprint, reducedClassFiles);
+        }
+
+        // if we can't process a class file here, we leave it to the import to read it from the JAR and report the problem
+        private static Optional<byte[]> tryReduce(JarFile jarFile, JarEntry entry) {
+            try (InputStream in = jarFile.getInputStream(entry)) {
+                return Optional.of(ReducedClassFile.reduce(ByteStreams.toByteArray(in)));
+            } catch (Exception e) {
+                LOG.debug("Couldn't reduce class file {} of {}", entry.getName(), jarFile.getName(), e);
+                return Optional.empty();
+            }
+        }
+
+        static Optional<CachedJar> tryRead(Path cacheFile, Path jarPath, JarFingerprint fingerprint) {
+            if (!Files.isRegularFile(cacheFile)) {
+                return Optional.empty();
+            }
+
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+                if (in.readInt() != MAGIC_NUMBER || in.readInt() != CACHE_FORMAT_VERSION || !in.readUTF().equals(jarPath.toString())) {
+                    return Optional.empty();
+                }
+                long lastModified = in.readLong();
+                long size = in.readLong();
+                byte[] contentHash = new byte[in.readInt()];
+                in.readFully(contentHash);
+                if (!fingerprint.hasSameLastModifiedAndSize(lastModified, size) && !Arrays.equals(contentHash, fingerprint.contentHash.get())) {
+                    return Optional.empty();
+                }
+
+                int numberOfEntries = in.readInt();
+                Map<String, byte[]> reducedClassFiles = new HashMap<>(numberOfEntries * 2);
+                for (int i = 0; i < numberOfEntries; i++) {
+                    String entryName = in.readUTF();
+                    byte[] reducedClassFile = new byte[in.readInt()];
+                    in.readFully(reducedClassFile);
+                    reducedClassFiles.put(entryName, reducedClassFile);
+                }
+                return Optional.of(new CachedJar(new JarFingerprint(lastModified, size, () -> contentHash), reducedClassFiles));
+            } catch (IOException e) {
+                LOG.warn(String.format("Couldn't read persistent class file cache %s, will recreate it", cacheFile), e);
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * Writes to a temporary file first and then moves it into place, so concurrent JVMs
+         * sharing the cache directory never see a partially written cache file.
+         */
+        void write(Path cacheFile, Path jarPath) {
+            try {
+                Files.createDirectories(cacheFile.getParent());
+                Path tempFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                    out.writeInt(MAGIC_NUMBER);
+                    out.writeInt(CACHE_FORMAT_VERSION);
+                    out.writeUTF(jarPath.toString());
+                    out.writeLong(fingerprint.lastModified);
+                    out.writeLong(fingerprint.size);
+                    byte[] contentHash = fingerprint.contentHash.get();
+                    out.writeInt(contentHash.length);
+                    out.write(contentHash);
+                    out.writeInt(reducedClassFilesByEntryName.size());
+                    for (Map.Entry<String, byte[]> entry : reducedClassFilesByEntryName.entrySet()) {
+                        out.writeUTF(entry.getKey());
+                        out.writeInt(entry.getValue().length);
+                        out.write(entry.getValue());
+                    }
+                }
+                Files.move(tempFile, cacheFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (IOException e) {
+                LOG.warn(String.format("Couldn't write persistent class file cache %s", cacheFile), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.Attribute;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.TypePath;
+
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.NOP;
+
+/**
+ * Reduces a class file to the parts that {@link JavaClassProcessor} actually evaluates, i.e. the declarations
+ * of the class and its members, annotations, line numbers and those instructions that ArchUnit imports as accesses
+ * or dependencies (like field accesses, method calls or {@code instanceof} checks). All other instructions,
+ * stack map frames, local variables, type annotations and unknown attributes are dropped.
+ * <br><br>
+ * Importing a reduced class file yields exactly the same result as importing the original class file.
+ * Thus, whenever {@link JavaClassProcessor} starts to evaluate further parts of the class file,
+ * this class must be adjusted accordingly (and {@link PersistentClassFileCache#CACHE_FORMAT_VERSION} be increased).
+ */
+class ReducedClassFile {
+    private ReducedClassFile() {
+    }
+
+    static byte[] reduce(byte[] classFile) {
+        ClassWriter classWriter = new ClassWriter(0);
+        new ClassReader(classFile).accept(new ReducingClassVisitor(classWriter), 0);
+        return classWriter.toByteArray();
+    }
+
+    private static class ReducingClassVisitor extends ClassVisitor {
+        ReducingClassVisitor(ClassVisitor classVisitor) {
+            super(ASM_API_VERSION, classVisitor);
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            return new ReducingFieldVisitor(super.visitField(access, name, descriptor, signature, value));
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            return new ReducingMethodVisitor(super.visitMethod(access, name, descriptor, signature, exceptions));
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+        }
+    }
+
+    private static class ReducingFieldVisitor extends FieldVisitor {
+        ReducingFieldVisitor(FieldVisitor fieldVisitor) {
+            super(ASM_API_VERSION, fieldVisitor);
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+        }
+    }
+
+    private static class ReducingMethodVisitor extends MethodVisitor {
+        ReducingMethodVisitor(MethodVisitor methodVisitor) {
+            super(ASM_API_VERSION, methodVisitor);
+        }
+
+        @Override
+        public void visitCode() {
+            super.visitCode();
+            // ensures that the code of a method is never empty, even if we drop all instructions
+            super.visitInsn(NOP);
+        }
+
+        /**
+         * {@link ClassReader} creates one {@link Label} per bytecode offset. Since we drop instructions,
+         * labels that had different offsets in the original class file could end up at the same offset
+         * and thus be merged into a single label on import. To preserve the sequence of labels we therefore
+         * add a {@code NOP} after every label.
+         */
+        @Override
+        public void visitLabel(Label label) {
+            super.visitLabel(label);
+            super.visitInsn(NOP);
+        }
+
+        @Override
+        public void visitLdcInsn(Object value) {
+            if (value instanceof Type) {
+                super.visitLdcInsn(value);
+            }
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            if (opcode == INSTANCEOF) {
+                super.visitTypeInsn(opcode, type);
+            }
+        }
+
+        @Override
+        public void visitParameter(String name, int access) {
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+        }
+
+        @Override
+        public void visitFrame(int type, int numLocal, Object[] local, int numStack, Object[] stack) {
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int varIndex) {
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+        }
+
+        @Override
+        public void visitIincInsn(int varIndex, int increment) {
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+        }
+
+        @Override
+        public AnnotationVisitor visitInsnAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitTryCatchAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end, int index) {
+        }
+
+        @Override
+        public AnnotationVisitor visitLocalVariableAnnotation(int typeRef, TypePath typePath, Label[] start, Label[] end, int[] index, String descriptor, boolean visible) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.ByteStreams;
+import com.tngtech.archunit.ArchConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A process-wide in-memory cache of class files that have been resolved from the classpath as dependencies of
+ * an import (compare {@link com.tngtech.archunit.core.importer.resolvers.ClassResolverFromClasspath}).
+ * Thus, following imports, e.g. for different test classes, don't need to read and decode classes like
+ * {@link String} or classes of 3rd party libraries again.
+ * <br><br>
+ * Like the {@link PersistentClassFileCache} the cache holds {@link ReducedClassFile reduced class files}, since the imported
+ * {@link com.tngtech.archunit.core.domain.JavaClass JavaClasses} themselves are bound to the class graph of a single import.
+ * Only class files from immutable locations are cached, i.e. from the JRT file system or from JAR files. Entries of JAR files
+ * are only reused as long as the last modified time and the size of the JAR are unchanged.
+ * <br><br>
+ * The cache is bounded by the total size of the cached class files and evicts the least recently used class files first.
+ * It is configured via
+ * <pre><code>
+ * {@value #RESOLUTION_CACHE_PROPERTY_PREFIX}.{@value #ENABLED_PROPERTY_NAME}=true
+ * {@value #RESOLUTION_CACHE_PROPERTY_PREFIX}.{@value #MAX_SIZE_IN_MEGABYTES_PROPERTY_NAME}={@value #MAX_SIZE_IN_MEGABYTES_DEFAULT}
+ * </code></pre>
+ * Configuring a different maximum size will discard all class files cached so far.
+ * The cache is not used if {@link ArchConfiguration#ENABLE_MD5_IN_CLASS_SOURCES MD5 sums} are enabled,
+ * since these must be calculated from the original class files.
+ */
+class ResolvedClassFileCache {
+    private static final Logger LOG = LoggerFactory.getLogger(ResolvedClassFileCache.class);
+
+    static final String RESOLUTION_CACHE_PROPERTY_PREFIX = "import.resolutionCache";
+    static final String ENABLED_PROPERTY_NAME = "enabled";
+    static final String MAX_SIZE_IN_MEGABYTES_PROPERTY_NAME = "maxSizeInMegabytes";
+    static final String MAX_SIZE_IN_MEGABYTES_DEFAULT = "64";
+
+    private static final ResolvedClassFileCache DISABLED = new ResolvedClassFileCache(0);
+    private static volatile ResolvedClassFileCache instance = DISABLED;
+
+    private final long maxSizeInBytes;
+    private final Cache<CacheKey, byte[]> reducedClassFiles;
+
+    private ResolvedClassFileCache(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.reducedClassFiles = CacheBuilder.newBuilder()
+                .maximumWeight(maxSizeInBytes)
+                .weigher((CacheKey key, byte[] classFile) -> classFile.length)
+                .build();
+    }
+
+    static ResolvedClassFileCache fromConfiguration() {
+        Properties properties = ArchConfiguration.get().getSubProperties(RESOLUTION_CACHE_PROPERTY_PREFIX);
+        // MD5 sums must be calculated from the original class files, not from the reduced ones
+        if (!Boolean.parseBoolean(properties.getProperty(ENABLED_PROPERTY_NAME, Boolean.TRUE.toString()))
+                || ArchConfiguration.get().md5InClassSourcesEnabled()) {
+            return DISABLED;
+        }
+        long maxSizeInBytes = Long.parseLong(properties.getProperty(MAX_SIZE_IN_MEGABYTES_PROPERTY_NAME, MAX_SIZE_IN_MEGABYTES_DEFAULT)) * 1024 * 1024;
+        return maxSizeInBytes > 0 ? getInstanceWithMaxSize(maxSizeInBytes) : DISABLED;
+    }
+
+    private static synchronized ResolvedClassFileCache getInstanceWithMaxSize(long maxSizeInBytes) {
+        if (instance.maxSizeInBytes != maxSizeInBytes) {
+            instance = new ResolvedClassFileCache(maxSizeInBytes);
+        }
+        return instance;
+    }
+
+    /**
+     * @return A stream of the (possibly reduced) class file at the given {@link URI}. If the location of the class file
+     *         is immutable, the reduced class file is cached, or taken from the cache if it has been read before.
+     */
+    InputStream openStream(URI uri) throws IOException {
+        Optional<CacheKey> cacheKey = this != DISABLED ? CacheKey.of(uri) : Optional.empty();
+        if (!cacheKey.isPresent()) {
+            return uri.toURL().openStream();
+        }
+
+        byte[] cached = reducedClassFiles.getIfPresent(cacheKey.get());
+        if (cached != null) {
+            return new ByteArrayInputStream(cached);
+        }
+
+        byte[] classFile;
+        try (InputStream in = uri.toURL().openStream()) {
+            classFile = ByteStreams.toByteArray(in);
+        }
+        try {
+            byte[] reduced = ReducedClassFile.reduce(classFile);
+            reducedClassFiles.put(cacheKey.get(), reduced);
+            return new ByteArrayInputStream(reduced);
+        } catch (RuntimeException e) {
+            LOG.debug("Couldn't reduce class file {}, not caching it", uri, e);
+            return new ByteArrayInputStream(classFile);
+        }
+    }
+
+    long size() {
+        return reducedClassFiles.size();
+    }
+
+    void invalidateAll() {
+        reducedClassFiles.invalidateAll();
+    }
+
+    private static class CacheKey {
+        private final URI uri;
+        private final long lastModified;
+        private final long length;
+
+        private CacheKey(URI uri, long lastModified, long length) {
+            this.uri = uri;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        static Optional<CacheKey> of(URI uri) throws IOException {
+            if ("jrt".equals(uri.getScheme())) {
+                return Optional.of(new CacheKey(uri, 0, 0));
+            }
+            if ("jar".equals(uri.getScheme())) {
+                return jarFileOf(uri.toURL()).map(jarFile -> new CacheKey(uri, jarFile.lastModified(), jarFile.length()));
+            }
+            return Optional.empty();
+        }
+
+        private static Optional<File> jarFileOf(URL url) throws IOException {
+            URL jarFileUrl = ((JarURLConnection) url.openConnection()).getJarFileURL();
+            if (!"file".equals(jarFileUrl.getProtocol())) {
+                return Optional.empty();
+            }
+            try {
+                File jarFile = new File(jarFileUrl.toURI());
+                return jarFile.isFile() ? Optional.of(jarFile) : Optional.empty();
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uri, lastModified, length);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return Objects.equals(this.uri, other.uri)
+                    && this.lastModified == other.lastModified
+                    && this.length == other.length;
+        }
+    }
+}
@@ -89,6 +89,7 @@ class SignatureTypeArgumentProcessor<TYPE extends HasDescription> extends Signat
 
     @Override
     public SignatureVisitor visitArrayType() {
+        declarationHandler.onDeclaredGenericArrayType();
         return new SignatureTypeArgumentProcessor<>(typeArgumentType, parameterizedType, typeFinisher.after(ARRAY_CREATOR), declarationHandler);
     }
 
@@ -16,21 +16,30 @@
 package com.tngtech.archunit.core.importer;
 
 import java.net.URI;
+import java.util.Optional;
+
+import com.tngtech.archunit.core.domain.Source.Md5sum;
+
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createMd5sum;
 
 class SourceDescriptor {
     private final URI sourceUri;
-    private final boolean md5InClassSourcesEnabled;
+    private final Optional<Md5sum> md5sum;
 
-    SourceDescriptor(URI sourceUri, boolean md5InClassSourcesEnabled) {
+    private SourceDescriptor(URI sourceUri, Optional<Md5sum> md5sum) {
         this.sourceUri = sourceUri;
-        this.md5InClassSourcesEnabled = md5InClassSourcesEnabled;
+        this.md5sum = md5sum;
     }
 
     URI getUri() {
         return sourceUri;
     }
 
-    boolean isMd5InClassSourcesEnabled() {
-        return md5InClassSourcesEnabled;
+    Optional<Md5sum> getMd5sum() {
+        return md5sum;
+    }
+
+    static SourceDescriptor of(URI sourceUri, byte[] classFile, boolean md5InClassSourcesEnabled) {
+        return new SourceDescriptor(sourceUri, md5InClassSourcesEnabled ? Optional.of(createMd5sum(classFile)) : Optional.empty());
     }
 }
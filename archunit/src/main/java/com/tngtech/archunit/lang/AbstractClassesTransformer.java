@@ -15,6 +15,7 @@
  */
 package com.tngtech.archunit.lang;
 
+import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -43,6 +44,15 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
 
     public abstract Iterable<T> doTransform(JavaClasses collection);
 
+    /**
+     * @return A key that is equal for all transformers that select the same objects, assuming that transformers
+     *         of the same type with the same description transform classes in the same way and that predicates
+     *         with the same description accept the same objects (compare {@link ArchRuleBatch})
+     */
+    Object getSelectionKey() {
+        return ImmutableList.of(getClass(), description);
+    }
+
     @Override
     public final ClassesTransformer<T> that(DescribedPredicate<? super T> predicate) {
         return new AbstractClassesTransformer<T>(description + " that " + predicate.getDescription()) {
@@ -51,6 +61,11 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
                 Iterable<T> transformed = AbstractClassesTransformer.this.doTransform(collection);
                 return stream(transformed.spliterator(), false).filter(predicate).collect(toList());
             }
+
+            @Override
+            Object getSelectionKey() {
+                return ImmutableList.of(AbstractClassesTransformer.this.getSelectionKey(), predicate.getDescription());
+            }
         };
     }
 
@@ -66,6 +81,11 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
             public Iterable<T> doTransform(JavaClasses collection) {
                 return AbstractClassesTransformer.this.doTransform(collection);
             }
+
+            @Override
+            Object getSelectionKey() {
+                return AbstractClassesTransformer.this.getSelectionKey();
+            }
         };
     }
 
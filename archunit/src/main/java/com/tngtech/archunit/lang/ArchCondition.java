@@ -57,6 +57,22 @@ public abstract class ArchCondition<T> {
     public void finish(ConditionEvents events) {
     }
 
+    /**
+     * Declares whether {@link #check(Object, ConditionEvents)} may be called concurrently from multiple threads.
+     * If the rule evaluation is configured to be parallel (compare {@link com.tngtech.archunit.ArchConfiguration#getRuleEvaluationParallelism()}),
+     * ArchUnit will only split the objects to check among several threads, if the condition is thread-safe.<br>
+     * {@link #init(Collection)} and {@link #finish(ConditionEvents)} are always called on the evaluating thread,
+     * before respectively after all objects have been checked. Thus, a condition that only reads state prepared within
+     * {@link #init(Collection)} can still be thread-safe. On the other hand, a condition that collects state within
+     * {@link #check(Object, ConditionEvents)} (e.g. to report violations within {@link #finish(ConditionEvents)})
+     * must not declare itself thread-safe.
+     *
+     * @return {@code true}, if {@link #check(Object, ConditionEvents)} can safely be called concurrently, {@code false} otherwise (the default)
+     */
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     public ArchCondition<T> and(ArchCondition<? super T> condition) {
         return ArchConditions.and(this, condition.forSubtype());
     }
@@ -98,6 +114,11 @@ public abstract class ArchCondition<T> {
             public void finish(ConditionEvents events) {
                 ArchCondition.this.finish(events);
             }
+
+            @Override
+            public boolean isThreadSafe() {
+                return ArchCondition.this.isThreadSafe();
+            }
         };
     }
 
@@ -207,6 +228,14 @@ public abstract class ArchCondition<T> {
             events.add(new SimpleConditionEvent(object, satisfied, message));
         }
 
+        /**
+         * @return {@code true}, since the condition only evaluates the predicate, which is expected to be free of side effects
+         */
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+
         /**
          * Defines how to describe a single {@link ConditionEvent}. E.g. how to describe the concrete violation of some class
          * {@code com.Example} that violates the {@link ConditionByPredicate}.
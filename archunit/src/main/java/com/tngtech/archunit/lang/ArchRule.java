@@ -18,10 +18,9 @@ package com.tngtech.archunit.lang;
 import java.util.Collection;
 import java.util.Optional;
 
-import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
-import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.properties.CanOverrideDescription;
@@ -177,23 +176,29 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
             @Override
             public EvaluationResult evaluate(JavaClasses classes) {
-                Collection<T> allObjects = toCollection(classesTransformer.transform(classes));
+                long start = System.nanoTime();
+                Collection<T> allObjects = SharedSelections.select(classesTransformer, classes);
+                long transformed = System.nanoTime();
                 verifyNoEmptyShouldIfEnabled(allObjects);
 
                 condition.init(allObjects);
+                long initialized = System.nanoTime();
                 ConditionEvents events = ConditionEvents.Factory.create();
-                for (T object : allObjects) {
-                    condition.check(object, events);
+                ParallelConditionCheck parallelCheck = new ParallelConditionCheck(ArchConfiguration.get().getRuleEvaluationParallelism());
+                if (parallelCheck.canCheck(condition, allObjects)) {
+                    parallelCheck.check(condition, allObjects, events);
+                } else {
+                    for (T object : allObjects) {
+                        condition.check(object, events);
+                    }
                 }
+                long checked = System.nanoTime();
                 condition.finish(events);
-                return new EvaluationResult(this, events, priority);
-            }
+                long finished = System.nanoTime();
 
-            @SuppressWarnings("unchecked")
-            private Collection<T> toCollection(DescribedIterable<T> iterable) {
-                return iterable instanceof Collection
-                        ? (Collection<T>) iterable
-                        : ImmutableList.copyOf(iterable);
+                EvaluationProfile profile = new EvaluationProfile(transformed - start, initialized - transformed, checked - initialized, finished - checked,
+                        allObjects.size(), events.getViolating().size());
+                return new EvaluationResult(this, events, priority, profile);
             }
 
             private void verifyNoEmptyShouldIfEnabled(Iterable<T> allObjects) {
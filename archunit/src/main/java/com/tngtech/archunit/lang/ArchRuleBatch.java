@@ -0,0 +1,60 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Evaluates many {@link ArchRule ArchRules} against the same {@link JavaClasses} together. Typically, many rules select
+ * the same objects to check, e.g. {@code classes().that().resideInAPackage("..service..")}. Evaluated one by one,
+ * every rule would transform all classes and filter them by its {@code that()} clause again. Evaluated together,
+ * each distinct selection is only made once and the selected objects are passed on to the conditions of all respective rules.
+ * <br><br>
+ * Two rules share their selection if their {@link ClassesTransformer ClassesTransformers} are based on the same
+ * {@link AbstractClassesTransformer} (i.e. the same type with the same description) and were narrowed
+ * by {@link DescribedPredicate DescribedPredicates} with the same descriptions. Thus, predicates and transformers
+ * must not have the same description if they select different objects. Rules based on other {@link ClassesTransformer ClassesTransformers}
+ * are evaluated as usual.
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class ArchRuleBatch {
+    private ArchRuleBatch() {
+    }
+
+    /**
+     * Evaluates all the given rules against the given classes, sharing the selection of objects between the rules
+     * as far as possible.
+     *
+     * @param classes The classes to evaluate the rules against
+     * @param rules The rules to evaluate
+     * @return The {@link EvaluationResult} of each rule, in the same order as the rules were passed
+     */
+    @PublicAPI(usage = ACCESS)
+    public static List<EvaluationResult> evaluateAll(JavaClasses classes, Collection<? extends ArchRule> rules) {
+        return SharedSelections.shareWhile(classes, () -> rules.stream()
+                .map(rule -> rule.evaluate(classes))
+                .collect(toImmutableList()));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.time.Duration;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Records where the wall time of evaluating an {@link ArchRule} via {@link ArchRule#evaluate(JavaClasses)} has been spent,
+ * i.e. transforming the {@link JavaClasses} into the objects to check (compare {@link ClassesTransformer#transform(JavaClasses)}),
+ * {@link ArchCondition#init(java.util.Collection) initializing} the {@link ArchCondition}, checking all objects
+ * and {@link ArchCondition#finish(ConditionEvents) finishing} the {@link ArchCondition}.
+ * For rules composed of several rules (e.g. a {@link CompositeArchRule}) the profiles of all parts are summed up.
+ *
+ * @see EvaluationResult#getProfile()
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class EvaluationProfile {
+    static final EvaluationProfile EMPTY = new EvaluationProfile(0, 0, 0, 0, 0, 0);
+
+    private final long transformationNanos;
+    private final long initNanos;
+    private final long checkNanos;
+    private final long finishNanos;
+    private final int numberOfCheckedObjects;
+    private final int numberOfViolations;
+
+    EvaluationProfile(long transformationNanos, long initNanos, long checkNanos, long finishNanos, int numberOfCheckedObjects, int numberOfViolations) {
+        this.transformationNanos = transformationNanos;
+        this.initNanos = initNanos;
+        this.checkNanos = checkNanos;
+        this.finishNanos = finishNanos;
+        this.numberOfCheckedObjects = numberOfCheckedObjects;
+        this.numberOfViolations = numberOfViolations;
+    }
+
+    /**
+     * @return the wall time spent transforming the {@link JavaClasses} into the objects to check
+     */
+    @PublicAPI(usage = ACCESS)
+    public Duration getTransformationDuration() {
+        return Duration.ofNanos(transformationNanos);
+    }
+
+    /**
+     * @return the wall time spent in {@link ArchCondition#init(java.util.Collection)}
+     */
+    @PublicAPI(usage = ACCESS)
+    public Duration getInitDuration() {
+        return Duration.ofNanos(initNanos);
+    }
+
+    /**
+     * @return the wall time spent checking all objects via {@link ArchCondition#check(Object, ConditionEvents)}
+     */
+    @PublicAPI(usage = ACCESS)
+    public Duration getCheckDuration() {
+        return Duration.ofNanos(checkNanos);
+    }
+
+    /**
+     * @return the wall time spent in {@link ArchCondition#finish(ConditionEvents)}
+     */
+    @PublicAPI(usage = ACCESS)
+    public Duration getFinishDuration() {
+        return Duration.ofNanos(finishNanos);
+    }
+
+    /**
+     * @return the wall time of the whole evaluation, i.e. the sum of all phases
+     */
+    @PublicAPI(usage = ACCESS)
+    public Duration getTotalDuration() {
+        return Duration.ofNanos(transformationNanos + initNanos + checkNanos + finishNanos);
+    }
+
+    /**
+     * @return the number of objects that have been checked against the {@link ArchCondition}
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfCheckedObjects() {
+        return numberOfCheckedObjects;
+    }
+
+    /**
+     * @return the number of violating {@link ConditionEvent ConditionEvents} the evaluation has produced
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfViolations() {
+        return numberOfViolations;
+    }
+
+    EvaluationProfile plus(EvaluationProfile other) {
+        return new EvaluationProfile(
+                transformationNanos + other.transformationNanos,
+                initNanos + other.initNanos,
+                checkNanos + other.checkNanos,
+                finishNanos + other.finishNanos,
+                numberOfCheckedObjects + other.numberOfCheckedObjects,
+                numberOfViolations + other.numberOfViolations);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{"
+                + "transformation=" + getTransformationDuration()
+                + ", init=" + getInitDuration()
+                + ", check=" + getCheckDuration()
+                + ", finish=" + getFinishDuration()
+                + ", numberOfCheckedObjects=" + numberOfCheckedObjects
+                + ", numberOfViolations=" + numberOfViolations
+                + '}';
+    }
+}
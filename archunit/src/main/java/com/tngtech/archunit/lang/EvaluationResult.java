@@ -66,27 +66,35 @@ public final class EvaluationResult {
     private final ArrayList<ConditionEvent> violations;
     private final Optional<String> informationAboutNumberOfViolations;
     private final Priority priority;
+    private EvaluationProfile profile;
 
     @PublicAPI(usage = ACCESS)
     public EvaluationResult(HasDescription rule, Priority priority) {
-        this(rule, new ArrayList<>(), Optional.empty(), priority);
+        this(rule, new ArrayList<>(), Optional.empty(), priority, EvaluationProfile.EMPTY);
     }
 
     @PublicAPI(usage = ACCESS)
     public EvaluationResult(HasDescription rule, ConditionEvents events, Priority priority) {
+        this(rule, events, priority, EvaluationProfile.EMPTY);
+    }
+
+    EvaluationResult(HasDescription rule, ConditionEvents events, Priority priority, EvaluationProfile profile) {
         this(
                 rule,
                 new ArrayList<>(events.getViolating()),
                 events.getInformationAboutNumberOfViolations(),
-                priority
+                priority,
+                profile
         );
     }
 
-    private EvaluationResult(HasDescription rule, ArrayList<ConditionEvent> violations, Optional<String> informationAboutNumberOfViolations, Priority priority) {
+    private EvaluationResult(HasDescription rule, ArrayList<ConditionEvent> violations, Optional<String> informationAboutNumberOfViolations, Priority priority,
+            EvaluationProfile profile) {
         this.rule = rule;
         this.violations = createViolations(violations);
         this.informationAboutNumberOfViolations = informationAboutNumberOfViolations;
         this.priority = priority;
+        this.profile = profile;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -102,6 +110,7 @@ public final class EvaluationResult {
     @PublicAPI(usage = ACCESS)
     public void add(EvaluationResult part) {
         violations.addAll(part.violations);
+        profile = profile.plus(part.profile);
     }
 
     /**
@@ -181,6 +190,16 @@ public final class EvaluationResult {
         return priority;
     }
 
+    /**
+     * @return the {@link EvaluationProfile} of the evaluation that has led to this result, i.e. where the time of the evaluation
+     *         has been spent. If this result has been {@link #add(EvaluationResult) composed} of several results, the profile
+     *         is the sum of the profiles of all parts.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public EvaluationProfile getProfile() {
+        return profile;
+    }
+
     /**
      * Filters all recorded {@link ConditionEvent ConditionEvents} by their textual description.
      * I.e. the lines of the description of an event are passed to the supplied predicate to
@@ -191,7 +210,15 @@ public final class EvaluationResult {
     @PublicAPI(usage = ACCESS)
     public EvaluationResult filterDescriptionsMatching(Predicate<String> linePredicate) {
         ArrayList<ConditionEvent> filtered = filterEvents(violations, linePredicate);
-        return new EvaluationResult(rule, filtered, Optional.empty(), priority);
+        return new EvaluationResult(rule, filtered, Optional.empty(), priority, profile);
+    }
+
+    /**
+     * @return A new {@link EvaluationResult} of the same rule with the same {@link #getProfile() profile}, but without any violations
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public EvaluationResult withoutViolations() {
+        return new EvaluationResult(rule, new ArrayList<>(), Optional.empty(), priority, profile);
     }
 
     private static ArrayList<ConditionEvent> filterEvents(Collection<ConditionEvent> violations, Predicate<String> linePredicate) {
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.math.IntMath;
+import com.tngtech.archunit.base.ParallelTasks;
+
+import static java.math.RoundingMode.CEILING;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Checks the objects of a rule against an {@link ArchCondition} on multiple threads. The objects are split into
+ * consecutive chunks, each chunk is checked with its own thread confined {@link ConditionEvents} and the events of all chunks
+ * are merged in the original order of the objects. Thus, the resulting events are the same as if the objects had been checked sequentially.
+ */
+class ParallelConditionCheck {
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final int parallelism;
+
+    ParallelConditionCheck(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    boolean canCheck(ArchCondition<?> condition, Collection<?> objects) {
+        return parallelism > 1 && objects.size() > 1 && condition.isThreadSafe();
+    }
+
+    <T> void check(ArchCondition<T> condition, Collection<T> objects, ConditionEvents events) {
+        List<T> objectList = ImmutableList.copyOf(objects);
+        int chunkSize = IntMath.divide(objectList.size(), parallelism * CHUNKS_PER_THREAD, CEILING);
+        List<Callable<ConditionEvents>> chunkChecks = Lists.partition(objectList, chunkSize).stream()
+                .<Callable<ConditionEvents>>map(chunk -> () -> checkChunk(condition, chunk))
+                .collect(toList());
+
+        for (ConditionEvents chunkEvents : ParallelTasks.invokeAll(parallelism, chunkChecks)) {
+            chunkEvents.getViolating().forEach(events::add);
+            chunkEvents.getInformationAboutNumberOfViolations().ifPresent(events::setInformationAboutNumberOfViolations);
+        }
+    }
+
+    private static <T> ConditionEvents checkChunk(ArchCondition<T> condition, List<T> chunk) {
+        ConditionEvents events = ConditionEvents.Factory.create();
+        for (T object : chunk) {
+            condition.check(object, events);
+        }
+        return events;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.base.DescribedIterable;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+/**
+ * Shares the objects selected by {@link ClassesTransformer ClassesTransformers} between all rules that are evaluated
+ * together via {@link ArchRuleBatch#evaluateAll(JavaClasses, Collection)}. Outside such an evaluation
+ * (or for other {@link JavaClasses}) every rule simply transforms the classes by itself.
+ */
+class SharedSelections {
+    private static final ThreadLocal<Optional<SharedSelections>> current = ThreadLocal.withInitial(Optional::empty);
+
+    private final JavaClasses classes;
+    private final Map<Object, Collection<?>> selectedObjectsByKey = new HashMap<>();
+
+    private SharedSelections(JavaClasses classes) {
+        this.classes = classes;
+    }
+
+    static <T> T shareWhile(JavaClasses classes, Supplier<T> evaluation) {
+        Optional<SharedSelections> previous = current.get();
+        current.set(Optional.of(new SharedSelections(classes)));
+        try {
+            return evaluation.get();
+        } finally {
+            current.set(previous);
+        }
+    }
+
+    static <T> Collection<T> select(ClassesTransformer<T> transformer, JavaClasses classes) {
+        Optional<SharedSelections> shared = current.get().filter(selections -> selections.classes == classes);
+        return shared.isPresent() && transformer instanceof AbstractClassesTransformer<?>
+                ? shared.get().getOrSelect((AbstractClassesTransformer<T>) transformer)
+                : toCollection(transformer.transform(classes));
+    }
+
+    @SuppressWarnings("unchecked") // transformers with the same selection key select the same objects
+    private <T> Collection<T> getOrSelect(AbstractClassesTransformer<T> transformer) {
+        return (Collection<T>) selectedObjectsByKey.computeIfAbsent(transformer.getSelectionKey(),
+                __ -> toCollection(transformer.transform(classes)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Collection<T> toCollection(DescribedIterable<T> iterable) {
+        return iterable instanceof Collection
+                ? (Collection<T>) iterable
+                : ImmutableList.copyOf(iterable);
+    }
+}
@@ -35,6 +35,11 @@ abstract class AllAttributesMatchCondition<ATTRIBUTE, OWNER> extends ArchConditi
         containOnlyElementsThat(condition).check(relevantAttributes(item), events);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return condition.isThreadSafe();
+    }
+
     abstract Collection<? extends ATTRIBUTE> relevantAttributes(OWNER item);
 
     @Override
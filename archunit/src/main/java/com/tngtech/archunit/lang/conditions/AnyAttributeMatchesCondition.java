@@ -40,6 +40,11 @@ abstract class AnyAttributeMatchesCondition<T> extends ArchCondition<JavaClass>
         containAnyElementThat(condition).check(relevantAttributes(item), events);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return condition.isThreadSafe();
+    }
+
     abstract Collection<T> relevantAttributes(JavaClass item);
 
     @Override
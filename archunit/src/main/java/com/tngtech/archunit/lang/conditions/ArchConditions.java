@@ -1294,6 +1294,11 @@ public final class ArchConditions {
                             events.add(new SimpleConditionEvent(field, satisfied, access.getDescription()));
                         });
             }
+
+            @Override
+            public boolean isThreadSafe() {
+                return true;
+            }
         };
     }
 
@@ -33,4 +33,9 @@ class DependencyCondition extends ArchCondition<Dependency> {
     public void check(Dependency item, ConditionEvents events) {
         events.add(new SimpleConditionEvent(item, conditionPredicate.test(item), item.getDescription()));
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
@@ -39,6 +39,11 @@ class FieldAccessCondition extends ArchCondition<JavaFieldAccess> {
         events.add(new SimpleConditionEvent(item, fieldAccessIdentifier.test(item), item.getDescription()));
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     static class FieldGetAccessCondition extends FieldAccessCondition {
         FieldGetAccessCondition(DescribedPredicate<? super JavaFieldAccess> predicate) {
             super(predicate.<JavaFieldAccess>forSubtype().and(accessType(GET)));
@@ -33,4 +33,9 @@ class JavaAccessCondition<T extends JavaAccess<?>> extends ArchCondition<T> {
     public void check(T item, ConditionEvents events) {
         events.add(new SimpleConditionEvent(item, predicate.test(item), item.getDescription()));
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
@@ -56,6 +56,11 @@ abstract class JoinCondition<T> extends ArchCondition<T> {
         }
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return conditions.stream().allMatch(ArchCondition::isThreadSafe);
+    }
+
     List<ConditionWithEvents<T>> evaluateConditions(T item) {
         return conditions.stream().map(condition -> new ConditionWithEvents<>(condition, item)).collect(toList());
     }
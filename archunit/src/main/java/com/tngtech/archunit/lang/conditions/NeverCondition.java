@@ -44,6 +44,11 @@ class NeverCondition<T> extends ArchCondition<T> {
         condition.check(item, new InvertingConditionEvents(events));
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return condition.isThreadSafe();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -15,10 +15,14 @@
  */
 package com.tngtech.archunit.lang.conditions;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -43,6 +47,8 @@ public final class TransitiveDependencyCondition extends ArchCondition<JavaClass
     private final DescribedPredicate<? super JavaClass> conditionPredicate;
     private final TransitiveDependencyPath transitiveDependencyPath = new TransitiveDependencyPath();
     private Set<JavaClass> allClasses;
+    // classes from which no matching class can be reached; shared by all checks, since the searched graph stays the same
+    private Set<JavaClass> classesWithoutPathToMatchingClass;
 
     public TransitiveDependencyCondition(DescribedPredicate<? super JavaClass> conditionPredicate) {
         super("transitively depend on classes that " + conditionPredicate.getDescription());
@@ -53,6 +59,7 @@ public final class TransitiveDependencyCondition extends ArchCondition<JavaClass
     @Override
     public void init(Collection<JavaClass> allObjectsToTest) {
         this.allClasses = ImmutableSet.copyOf(allObjectsToTest);
+        this.classesWithoutPathToMatchingClass = ConcurrentHashMap.newKeySet();
     }
 
     @Override
@@ -70,6 +77,15 @@ public final class TransitiveDependencyCondition extends ArchCondition<JavaClass
         }
     }
 
+    /**
+     * @return {@code true}, since {@link #check(JavaClass, ConditionEvents)} only reads the classes recorded by {@link #init(Collection)}
+     *         and records classes without path to a matching class in a concurrent set
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     private static ConditionEvent newTransitiveDependencyPathFoundEvent(JavaClass javaClass, List<JavaClass> transitiveDependencyPath) {
         String message = String.format("%sdepends on <%s>",
                 transitiveDependencyPath.size() > 1 ? "transitively " : "",
@@ -98,32 +114,54 @@ public final class TransitiveDependencyCondition extends ArchCondition<JavaClass
          * @return some outgoing transitive dependency path to the supplied class or empty if there is none
          */
         List<JavaClass> findPathTo(JavaClass clazz) {
-            ImmutableList.Builder<JavaClass> transitivePath = ImmutableList.builder();
-            addDependenciesToPathFrom(clazz, transitivePath, new HashSet<>());
-            return transitivePath.build().reverse();
-        }
-
-        private boolean addDependenciesToPathFrom(
-                JavaClass clazz,
-                ImmutableList.Builder<JavaClass> dependencyPath,
-                Set<JavaClass> analyzedClasses
-        ) {
             if (conditionPredicate.test(clazz)) {
-                dependencyPath.add(clazz);
-                return true;
+                return ImmutableList.of(clazz);
+            }
+            if (classesWithoutPathToMatchingClass.contains(clazz)) {
+                return ImmutableList.of();
             }
 
+            // depth-first search with an explicit stack instead of recursion, to support arbitrarily deep class graphs
+            Set<JavaClass> analyzedClasses = new HashSet<>();
+            Deque<PathElement> dependencyPath = new ArrayDeque<>();
             analyzedClasses.add(clazz);
-
-            for (JavaClass directDependency : getDirectDependencyTargetsOutsideOfAnalyzedClasses(clazz)) {
-                if (!analyzedClasses.contains(directDependency)
-                        && addDependenciesToPathFrom(directDependency, dependencyPath, analyzedClasses)) {
-                    dependencyPath.add(clazz);
-                    return true;
+            dependencyPath.push(new PathElement(clazz));
+            while (!dependencyPath.isEmpty()) {
+                PathElement current = dependencyPath.peek();
+                if (!current.directDependencies.hasNext()) {
+                    dependencyPath.pop();
+                    continue;
+                }
+                JavaClass directDependency = current.directDependencies.next();
+                if (analyzedClasses.contains(directDependency) || classesWithoutPathToMatchingClass.contains(directDependency)) {
+                    continue;
                 }
+                if (conditionPredicate.test(directDependency)) {
+                    return toList(dependencyPath, directDependency);
+                }
+                analyzedClasses.add(directDependency);
+                dependencyPath.push(new PathElement(directDependency));
             }
 
-            return false;
+            // the search has exhausted all classes reachable from the analyzed classes without finding a matching class
+            classesWithoutPathToMatchingClass.addAll(analyzedClasses);
+            return ImmutableList.of();
+        }
+
+        private List<JavaClass> toList(Deque<PathElement> dependencyPath, JavaClass matchingClass) {
+            ImmutableList.Builder<JavaClass> result = ImmutableList.builder();
+            dependencyPath.descendingIterator().forEachRemaining(pathElement -> result.add(pathElement.javaClass));
+            return result.add(matchingClass).build();
+        }
+    }
+
+    private class PathElement {
+        private final JavaClass javaClass;
+        private final Iterator<JavaClass> directDependencies;
+
+        PathElement(JavaClass javaClass) {
+            this.javaClass = javaClass;
+            this.directDependencies = getDirectDependencyTargetsOutsideOfAnalyzedClasses(javaClass).iterator();
         }
     }
 }
@@ -455,6 +455,11 @@ public final class Architectures {
                                 events.add(violated(javaClass, String.format("Class <%s> is not contained in architecture", javaClass.getName())));
                             }
                         }
+
+                        @Override
+                        public boolean isThreadSafe() {
+                            return true;
+                        }
                     };
                 }
             }
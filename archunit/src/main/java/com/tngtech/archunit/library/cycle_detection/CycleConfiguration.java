@@ -27,16 +27,45 @@ public final class CycleConfiguration {
     @Internal
     public static final String MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME = "cycles.maxNumberToDetect";
     private static final String MAX_NUMBER_OF_CYCLES_TO_DETECT_DEFAULT_VALUE = "100";
+    /**
+     * Configures the number of threads used by {@link CycleDetector} to search independent strongly connected components
+     * of the graph for cycles. A value {@code <= 0} will use as many threads as there are
+     * {@link Runtime#availableProcessors() available processors}. The detected cycles do not depend on this number.
+     */
+    @Internal
+    public static final String PARALLELISM_PROPERTY_NAME = "cycles.parallelism";
+    private static final String PARALLELISM_DEFAULT_VALUE = "1";
+    /**
+     * Configures {@link CycleDetector} to stop its search once the first cycle has been found. This is sufficient if only
+     * the information whether the graph is free of cycles matters, and it is considerably faster for graphs with many cycles.
+     */
+    @Internal
+    public static final String STOP_AFTER_FIRST_CYCLE_PROPERTY_NAME = "cycles.stopAfterFirstCycle";
+    private static final String STOP_AFTER_FIRST_CYCLE_DEFAULT_VALUE = "false";
 
     private final int maxCyclesToDetect;
+    private final int parallelism;
+    private final boolean stopAfterFirstCycle;
 
     CycleConfiguration() {
-        String configuredMaxCyclesToDetect = ArchConfiguration.get()
+        ArchConfiguration configuration = ArchConfiguration.get();
+        String configuredMaxCyclesToDetect = configuration
                 .getPropertyOrDefault(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, MAX_NUMBER_OF_CYCLES_TO_DETECT_DEFAULT_VALUE);
         maxCyclesToDetect = Integer.parseInt(configuredMaxCyclesToDetect);
+        int configuredParallelism = Integer.parseInt(configuration.getPropertyOrDefault(PARALLELISM_PROPERTY_NAME, PARALLELISM_DEFAULT_VALUE));
+        parallelism = configuredParallelism > 0 ? configuredParallelism : Runtime.getRuntime().availableProcessors();
+        stopAfterFirstCycle = Boolean.parseBoolean(configuration.getPropertyOrDefault(STOP_AFTER_FIRST_CYCLE_PROPERTY_NAME, STOP_AFTER_FIRST_CYCLE_DEFAULT_VALUE));
     }
 
     int getMaxNumberOfCyclesToDetect() {
         return maxCyclesToDetect;
     }
+
+    int getParallelism() {
+        return parallelism;
+    }
+
+    boolean stopAfterFirstCycle() {
+        return stopAfterFirstCycle;
+    }
 }
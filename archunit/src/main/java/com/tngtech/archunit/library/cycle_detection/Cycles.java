@@ -34,4 +34,12 @@ public interface Cycles<EDGE extends Edge<?>> extends Collection<Cycle<EDGE>> {
      */
     @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
     boolean maxNumberOfCyclesReached();
+
+    /**
+     * @return {@code true}, if the detection stopped after the first cycle had been found, because the {@code archunit.properties}
+     *         property {@value CycleConfiguration#STOP_AFTER_FIRST_CYCLE_PROPERTY_NAME} is set.
+     *         I.e. if {@code true} there could be more cycles in the examined graph that are omitted from the result.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    boolean stoppedAfterFirstCycle();
 }
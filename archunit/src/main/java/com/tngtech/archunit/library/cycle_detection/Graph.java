@@ -52,7 +52,7 @@ class Graph<NODE, EDGE extends Edge<NODE>> {
     Cycles<EDGE> findCycles() {
         JohnsonCycleFinder johnsonCycleFinder = new JohnsonCycleFinder(createPrimitiveGraph());
         JohnsonCycleFinder.Result rawCycles = johnsonCycleFinder.findCycles();
-        return new CyclesInternal<>(mapToCycles(rawCycles), rawCycles.maxNumberOfCyclesReached());
+        return new CyclesInternal<>(mapToCycles(rawCycles), rawCycles.maxNumberOfCyclesReached(), rawCycles.stoppedAfterFirstCycle());
     }
 
     private PrimitiveGraph createPrimitiveGraph() {
@@ -115,10 +115,12 @@ class Graph<NODE, EDGE extends Edge<NODE>> {
     private static class CyclesInternal<EDGE extends Edge<?>> extends ForwardingCollection<Cycle<EDGE>> implements Cycles<EDGE> {
         private final Collection<Cycle<EDGE>> cycles;
         private final boolean maxNumberOfCyclesReached;
+        private final boolean stoppedAfterFirstCycle;
 
-        private CyclesInternal(Collection<Cycle<EDGE>> cycles, boolean maxNumberOfCyclesReached) {
+        private CyclesInternal(Collection<Cycle<EDGE>> cycles, boolean maxNumberOfCyclesReached, boolean stoppedAfterFirstCycle) {
             this.cycles = cycles;
             this.maxNumberOfCyclesReached = maxNumberOfCyclesReached;
+            this.stoppedAfterFirstCycle = stoppedAfterFirstCycle;
         }
 
         @Override
@@ -126,6 +128,11 @@ class Graph<NODE, EDGE extends Edge<NODE>> {
             return maxNumberOfCyclesReached;
         }
 
+        @Override
+        public boolean stoppedAfterFirstCycle() {
+            return stoppedAfterFirstCycle;
+        }
+
         @Override
         protected Collection<Cycle<EDGE>> delegate() {
             return cycles;
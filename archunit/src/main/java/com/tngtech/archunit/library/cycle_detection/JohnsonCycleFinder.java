@@ -18,12 +18,18 @@ package com.tngtech.archunit.library.cycle_detection;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import com.tngtech.archunit.base.ParallelTasks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.tngtech.archunit.library.cycle_detection.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.cycle_detection.TarjanComponentFinder.NO_COMPONENT_FOUND;
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toList;
 
 /**
  * An implementation of Johnson's algorithm to find cycles within an uni-directed graph
@@ -54,11 +60,14 @@ import static com.tngtech.archunit.library.cycle_detection.TarjanComponentFinder
  *         We then also never need to unblock this node, if all its descendants cannot lead
  *         back to the starting node)</li>
  * </ul>
+ * Since every cycle lies within a single strongly connected component of the whole graph, we first determine these components
+ * and then apply the procedure above to each of them separately. Independent components can thus be searched on multiple threads
+ * (compare {@link CycleConfiguration#PARALLELISM_PROPERTY_NAME}), while the reported cycles are still the same as the ones
+ * of a sequential search of the whole graph, in the same order.
  */
 class JohnsonCycleFinder {
     private static final Logger log = LoggerFactory.getLogger(JohnsonCycleFinder.class);
 
-    private int nodeToProcess = 0;
     private final PrimitiveGraph primitiveGraph;
 
     JohnsonCycleFinder(PrimitiveGraph primitiveGraph) {
@@ -66,10 +75,43 @@ class JohnsonCycleFinder {
     }
 
     Result findCycles() {
-        Result result = new Result();
-        TarjanComponentFinder componentFinder = new TarjanComponentFinder(primitiveGraph);
-        JohnsonComponent johnsonComponent = JohnsonComponent.within(primitiveGraph);
-        while (nodeToProcess < primitiveGraph.getSize()) {
+        CycleConfiguration configuration = new CycleConfiguration();
+        log.trace("Maximum number of cycles to detect is set to {}; "
+                        + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
+                configuration.getMaxNumberOfCyclesToDetect(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME);
+
+        List<int[]> components = new TarjanComponentFinder(primitiveGraph).findNonTrivialStronglyConnectedComponents();
+        if (configuration.stopAfterFirstCycle()) {
+            return components.isEmpty()
+                    ? new Result(0)
+                    : findCyclesWithin(components.get(0), Result.stoppingAfterFirstCycle());
+        }
+
+        ComponentResults componentResults = new ComponentResults(configuration.getMaxNumberOfCyclesToDetect());
+        if (configuration.getParallelism() > 1 && components.size() > 1) {
+            List<Callable<Void>> tasks = components.stream()
+                    .<Callable<Void>>map(component -> () -> {
+                        componentResults.findCyclesWithin(component);
+                        return null;
+                    })
+                    .collect(toList());
+            ParallelTasks.invokeAll(configuration.getParallelism(), tasks);
+        } else {
+            components.forEach(componentResults::findCyclesWithin);
+        }
+        return componentResults.merge();
+    }
+
+    /**
+     * Runs Johnson's algorithm on the sub graph induced by a single strongly connected component.
+     * The cycles of the result will consist of the node indexes of {@link #primitiveGraph}.
+     */
+    private Result findCyclesWithin(int[] sortedStronglyConnectedComponent, Result result) {
+        PrimitiveGraph componentGraph = primitiveGraph.inducedBy(sortedStronglyConnectedComponent);
+        TarjanComponentFinder componentFinder = new TarjanComponentFinder(componentGraph);
+        JohnsonComponent johnsonComponent = JohnsonComponent.within(componentGraph);
+        int nodeToProcess = 0;
+        while (nodeToProcess < componentGraph.getSize()) {
             int[] nextStronglyConnectedComponent = componentFinder.findNonTrivialStronglyConnectedComponentWithLowestNodeIndexAbove(nodeToProcess);
             if (nextStronglyConnectedComponent == NO_COMPONENT_FOUND) {
                 break;
@@ -79,6 +121,11 @@ class JohnsonCycleFinder {
             findCycles(result, johnsonComponent.getStartNodeIndex(), johnsonComponent);
             nodeToProcess = johnsonComponent.getStartNodeIndex() + 1;
         }
+        for (int[] cycle : result) {
+            for (int i = 0; i < cycle.length; i++) {
+                cycle[i] = sortedStronglyConnectedComponent[cycle[i]];
+            }
+        }
         return result;
     }
 
@@ -113,41 +160,118 @@ class JohnsonCycleFinder {
         return foundCycle;
     }
 
+    /**
+     * Collects the cycles of the strongly connected components of the graph, each of which can be searched independently.
+     * Every cycle is reported for its lowest node, which is the start node of Johnson's algorithm. Thus, the cycles
+     * of the whole graph ordered by their start node are exactly the cycles a sequential search of the whole graph would report,
+     * and the first cycles up to the maximum number of cycles to detect can be determined by merging the results of all components.
+     * <br><br>
+     * For the same reason a component can be skipped completely if components searched before already reported the maximum
+     * number of cycles with start nodes lower than all nodes of this component.
+     */
+    private class ComponentResults {
+        private final int maxNumberOfCycles;
+        private final Queue<Result> results = new ConcurrentLinkedQueue<>();
+
+        ComponentResults(int maxNumberOfCycles) {
+            this.maxNumberOfCycles = maxNumberOfCycles;
+        }
+
+        void findCyclesWithin(int[] sortedStronglyConnectedComponent) {
+            int lowestNodeIndex = sortedStronglyConnectedComponent[0];
+            if (countCyclesWithStartNodeBelow(lowestNodeIndex) >= maxNumberOfCycles) {
+                // every component contains at least one cycle, which would exceed the maximum number of cycles
+                results.add(Result.withMaxNumberOfCyclesReached());
+                return;
+            }
+            results.add(JohnsonCycleFinder.this.findCyclesWithin(sortedStronglyConnectedComponent, new Result(maxNumberOfCycles)));
+        }
+
+        private int countCyclesWithStartNodeBelow(int nodeIndex) {
+            int result = 0;
+            for (Result componentResult : results) {
+                for (int[] cycle : componentResult) {
+                    if (cycle[0] < nodeIndex) {
+                        result++;
+                    }
+                }
+            }
+            return result;
+        }
+
+        Result merge() {
+            List<int[]> cycles = new ArrayList<>();
+            boolean maxNumberOfCyclesReached = false;
+            for (Result componentResult : results) {
+                componentResult.forEach(cycles::add);
+                maxNumberOfCyclesReached |= componentResult.maxNumberOfCyclesReached();
+            }
+            // stable sort keeping the order of cycles with the same start node, which all stem from the same component
+            cycles.sort(comparingInt(cycle -> cycle[0]));
+
+            Result result = new Result(maxNumberOfCycles);
+            cycles.forEach(result::add);
+            result.maxNumberOfCyclesReached |= maxNumberOfCyclesReached;
+            return result;
+        }
+    }
+
     static class Result implements Iterable<int[]> {
-        private final CycleConfiguration configuration = new CycleConfiguration();
+        private final int maxNumberOfCycles;
+        private final boolean stopAfterFirstCycle;
         private final List<int[]> cycles = new ArrayList<>();
         private boolean maxNumberOfCyclesReached = false;
+        private boolean stoppedAfterFirstCycle = false;
 
-        private Result() {
-            log.trace("Maximum number of cycles to detect is set to {}; "
-                            + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
-                    configuration.getMaxNumberOfCyclesToDetect(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME);
+        private Result(int maxNumberOfCycles) {
+            this(maxNumberOfCycles, false);
+        }
+
+        private Result(int maxNumberOfCycles, boolean stopAfterFirstCycle) {
+            this.maxNumberOfCycles = maxNumberOfCycles;
+            this.stopAfterFirstCycle = stopAfterFirstCycle;
         }
 
         private boolean canAcceptMoreCycles() {
-            return !maxNumberOfCyclesReached;
+            return !maxNumberOfCyclesReached && !stoppedAfterFirstCycle;
         }
 
         boolean maxNumberOfCyclesReached() {
             return maxNumberOfCyclesReached;
         }
 
+        boolean stoppedAfterFirstCycle() {
+            return stoppedAfterFirstCycle;
+        }
+
         void add(int[] cycle) {
-            if (maxNumberOfCyclesReached) {
+            if (!canAcceptMoreCycles()) {
                 return;
             }
 
-            if (this.cycles.size() >= configuration.getMaxNumberOfCyclesToDetect()) {
+            if (this.cycles.size() >= maxNumberOfCycles) {
                 maxNumberOfCyclesReached = true;
                 return;
             }
 
             this.cycles.add(cycle);
+            // if we stop right away, we do not know if there are further cycles, so we have to assume there are
+            stoppedAfterFirstCycle = stopAfterFirstCycle;
         }
 
         @Override
         public Iterator<int[]> iterator() {
             return cycles.iterator();
         }
+
+        private static Result stoppingAfterFirstCycle() {
+            return new Result(1, true);
+        }
+
+        private static Result withMaxNumberOfCyclesReached() {
+            Result result = new Result(0);
+            result.maxNumberOfCyclesReached = true;
+            return result;
+        }
     }
 }
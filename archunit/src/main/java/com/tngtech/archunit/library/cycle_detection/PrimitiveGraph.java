@@ -15,6 +15,9 @@
  */
 package com.tngtech.archunit.library.cycle_detection;
 
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.copyOf;
+
 /**
  * An optimized graph stripped down to the bare minimum for cycle detection.
  * We represent nodes as integers from 0 ..< graph.size() and an edge as an array of two integers (node origin and node target).
@@ -36,4 +39,26 @@ class PrimitiveGraph {
     int[] getAdjacentNodesOf(int nodeIndex) {
         return edges[nodeIndex];
     }
+
+    /**
+     * @param sortedNodeIndexes node indexes of this graph sorted in ascending order
+     * @return the sub graph induced by the given nodes, where node {@code i} of the sub graph represents node {@code sortedNodeIndexes[i]}
+     *         of this graph. Since the order of the nodes and of the edges is preserved, algorithms like Johnson's will
+     *         traverse the sub graph in the same order as the respective part of this graph.
+     */
+    PrimitiveGraph inducedBy(int[] sortedNodeIndexes) {
+        int[][] subGraphEdges = new int[sortedNodeIndexes.length][];
+        int[] tempTargets = new int[sortedNodeIndexes.length];
+        for (int i = 0; i < sortedNodeIndexes.length; i++) {
+            int numberOfTargets = 0;
+            for (int target : edges[sortedNodeIndexes[i]]) {
+                int subGraphTarget = binarySearch(sortedNodeIndexes, target);
+                if (subGraphTarget >= 0) {
+                    tempTargets[numberOfTargets++] = subGraphTarget;
+                }
+            }
+            subGraphEdges[i] = copyOf(tempTargets, numberOfTargets);
+        }
+        return new PrimitiveGraph(subGraphEdges);
+    }
 }
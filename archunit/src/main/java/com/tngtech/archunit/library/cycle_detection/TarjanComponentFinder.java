@@ -16,6 +16,7 @@
 package com.tngtech.archunit.library.cycle_detection;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.google.common.primitives.Ints;
@@ -23,6 +24,7 @@ import com.google.common.primitives.Ints;
 import static com.tngtech.archunit.library.cycle_detection.TarjanGraph.LESS_THAN_TWO_VALUES;
 import static java.util.Arrays.sort;
 import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingInt;
 
 /**
  * An implementation of Tarjan's algorithm to find strongly connected components
@@ -68,16 +70,36 @@ class TarjanComponentFinder {
         return nextComponent;
     }
 
+    /**
+     * Returns all strongly connected components of the graph with more than one node.<br>
+     * Each returned array of node indexes is sorted in ascending order, and the components are sorted by their lowest node index.
+     */
+    List<int[]> findNonTrivialStronglyConnectedComponents() {
+        List<int[]> result = new ArrayList<>();
+        for (int j = 0; j < graph.getSize(); j++) {
+            if (graph.isVisitationIndexUnset(j)) {
+                result.addAll(findNonTrivialStronglyConnectedComponents(j, 0));
+            }
+        }
+        reset();
+        result.forEach(Arrays::sort);
+        result.sort(comparingInt(component -> component[0]));
+        return result;
+    }
+
     private int[] findNonTrivialLowestStronglyConnectedComponentInSubGraphInducedByLowerBound(int lowerIndexBound) {
-        for (int j = lowerIndexBound; j < graph.getSize(); j++) {
+        List<int[]> components = new ArrayList<>();
+        int lowestNodeIndexFound = Integer.MAX_VALUE;
+        // a component not reachable from the nodes visited so far might still contain a lower node than all components found so far
+        for (int j = lowerIndexBound; j < Math.min(graph.getSize(), lowestNodeIndexFound); j++) {
             if (graph.isVisitationIndexUnset(j)) {
-                List<int[]> components = findNonTrivialStronglyConnectedComponents(j, lowerIndexBound);
-                if (!components.isEmpty()) {
-                    return findComponentWithLowestNode(components);
+                for (int[] component : findNonTrivialStronglyConnectedComponents(j, lowerIndexBound)) {
+                    components.add(component);
+                    lowestNodeIndexFound = Math.min(lowestNodeIndexFound, Ints.min(component));
                 }
             }
         }
-        return NO_COMPONENT_FOUND;
+        return !components.isEmpty() ? findComponentWithLowestNode(components) : NO_COMPONENT_FOUND;
     }
 
     private List<int[]> findNonTrivialStronglyConnectedComponents(int nodeToVisit, int lowerIndexBound) {
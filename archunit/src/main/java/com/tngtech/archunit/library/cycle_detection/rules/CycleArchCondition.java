@@ -53,6 +53,7 @@ import static com.google.common.collect.MultimapBuilder.hashKeys;
 import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.library.cycle_detection.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
+import static com.tngtech.archunit.library.cycle_detection.CycleConfiguration.STOP_AFTER_FIRST_CYCLE_PROPERTY_NAME;
 import static com.tngtech.archunit.library.cycle_detection.rules.CycleRuleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
 import static java.lang.System.lineSeparator;
 import static java.util.Collections.singleton;
@@ -135,6 +136,12 @@ public final class CycleArchCondition<COMPONENT> extends ArchCondition<COMPONENT
                             + "this limit can be adapted using the `archunit.properties` value `%s=xxx`",
                     cycles.size(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME));
         }
+        if (cycles.stoppedAfterFirstCycle()) {
+            events.setInformationAboutNumberOfViolations(String.format(
+                    " >= %d times - the detection of cycles has been stopped after the first cycle; "
+                            + "this can be adapted using the `archunit.properties` value `%s=false`",
+                    cycles.size(), STOP_AFTER_FIRST_CYCLE_PROPERTY_NAME));
+        }
         for (Cycle<ComponentDependency<COMPONENT>> cycle : cycles) {
             eventRecorder.record(cycle, events);
         }
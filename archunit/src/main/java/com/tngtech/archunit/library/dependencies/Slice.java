@@ -55,22 +55,22 @@ import static java.util.stream.Collectors.toList;
  */
 @PublicAPI(usage = ACCESS)
 public final class Slice extends ForwardingSet<JavaClass> implements HasDescription, CanOverrideDescription<Slice> {
-    private final SliceAssignment sliceAssignment;
+    private final SliceDependencyGraph dependencyGraph;
     private final List<String> matchingGroups;
     private final Description description;
     private final Set<JavaClass> classes;
     private final int hashCode;
 
-    private Slice(SliceAssignment sliceAssignment, List<String> matchingGroups, Set<JavaClass> classes) {
-        this(sliceAssignment,
+    private Slice(SliceDependencyGraph dependencyGraph, List<String> matchingGroups, Set<JavaClass> classes) {
+        this(dependencyGraph,
                 matchingGroups,
                 new Description("Slice " + Joiner.on(" - ").join(ascendingCaptures(matchingGroups))),
                 classes);
     }
 
-    private Slice(SliceAssignment sliceAssignment, List<String> matchingGroups, Description description,
+    private Slice(SliceDependencyGraph dependencyGraph, List<String> matchingGroups, Description description,
             Set<JavaClass> classes) {
-        this.sliceAssignment = sliceAssignment;
+        this.dependencyGraph = checkNotNull(dependencyGraph);
         this.matchingGroups = checkNotNull(matchingGroups);
         this.description = checkNotNull(description);
         this.classes = ImmutableSet.copyOf(classes);
@@ -106,7 +106,7 @@ public final class Slice extends ForwardingSet<JavaClass> implements HasDescript
     @Override
     @PublicAPI(usage = ACCESS)
     public Slice as(String pattern) {
-        return new Slice(sliceAssignment, matchingGroups, new Description(pattern), classes);
+        return new Slice(dependencyGraph, matchingGroups, new Description(pattern), classes);
     }
 
     /**
@@ -114,15 +114,7 @@ public final class Slice extends ForwardingSet<JavaClass> implements HasDescript
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getDependenciesFromSelf() {
-        ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
-        for (JavaClass javaClass : this) {
-            for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
-                if (isNotAssignedToOwnSlice(dependency.getTargetClass())) {
-                    result.add(dependency);
-                }
-            }
-        }
-        return result.build();
+        return dependencyGraph.getDependenciesFromSlice(matchingGroups, classes);
     }
 
     /**
@@ -130,21 +122,7 @@ public final class Slice extends ForwardingSet<JavaClass> implements HasDescript
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getDependenciesToSelf() {
-        ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
-        for (JavaClass javaClass : this) {
-            for (Dependency dependency : javaClass.getDirectDependenciesToSelf()) {
-                if (isNotAssignedToOwnSlice(dependency.getOriginClass())) {
-                    result.add(dependency);
-                }
-            }
-        }
-        return result.build();
-    }
-
-    // We cannot check 'contains' here, because there might be classes in the same slice that have not been originally imported (e.g. array types)
-    private boolean isNotAssignedToOwnSlice(JavaClass javaClass) {
-        List<String> dependencyIdentifier = sliceAssignment.getIdentifierOf(javaClass).getParts();
-        return !dependencyIdentifier.equals(matchingGroups);
+        return dependencyGraph.getDependenciesToSlice(matchingGroups, classes);
     }
 
     /**
@@ -201,16 +179,16 @@ public final class Slice extends ForwardingSet<JavaClass> implements HasDescript
 
     static class Builder {
         private final List<String> matchingGroups;
-        private final SliceAssignment sliceAssignment;
+        private final SliceDependencyGraph dependencyGraph;
         private final Set<JavaClass> classes = new HashSet<>();
 
-        private Builder(List<String> matchingGroups, SliceAssignment sliceAssignment) {
+        private Builder(List<String> matchingGroups, SliceDependencyGraph dependencyGraph) {
             this.matchingGroups = matchingGroups;
-            this.sliceAssignment = sliceAssignment;
+            this.dependencyGraph = dependencyGraph;
         }
 
-        static Builder from(List<String> matchingGroups, SliceAssignment sliceAssignment) {
-            return new Builder(matchingGroups, sliceAssignment);
+        static Builder from(List<String> matchingGroups, SliceDependencyGraph dependencyGraph) {
+            return new Builder(matchingGroups, dependencyGraph);
         }
 
         Builder addClass(JavaClass clazz) {
@@ -219,7 +197,7 @@ public final class Slice extends ForwardingSet<JavaClass> implements HasDescript
         }
 
         Slice build() {
-            return new Slice(sliceAssignment, matchingGroups, classes);
+            return new Slice(dependencyGraph, matchingGroups, classes);
         }
     }
 }
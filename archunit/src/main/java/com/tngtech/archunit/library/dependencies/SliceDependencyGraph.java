@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Indexes the {@link Slice slices} created by one transformation of {@link JavaClass classes}.
+ * The slice identifier of every class is only determined once, no matter how many dependencies the class is involved in.
+ * The dependencies from and to each slice are aggregated once on first request and then shared
+ * by all {@link Slice} instances with the same identifier (e.g. after renaming the slices).
+ */
+class SliceDependencyGraph {
+    private final SliceAssignment sliceAssignment;
+    private final Map<JavaClass, List<String>> sliceIdentifiersOfClasses = new ConcurrentHashMap<>();
+    private final Map<List<String>, Set<Dependency>> dependenciesFromSlices = new ConcurrentHashMap<>();
+    private final Map<List<String>, Set<Dependency>> dependenciesToSlices = new ConcurrentHashMap<>();
+
+    SliceDependencyGraph(SliceAssignment sliceAssignment) {
+        this.sliceAssignment = checkNotNull(sliceAssignment);
+    }
+
+    /**
+     * @return The identifier of the slice the class is assigned to, or an empty list if the class is not assigned to any slice.
+     *         This also works for classes that have not been part of the sliced classes (e.g. array types or classes outside the import).
+     */
+    List<String> getSliceIdentifierOf(JavaClass javaClass) {
+        return sliceIdentifiersOfClasses.computeIfAbsent(javaClass, clazz -> sliceAssignment.getIdentifierOf(clazz).getParts());
+    }
+
+    Set<Dependency> getDependenciesFromSlice(List<String> sliceIdentifier, Set<JavaClass> classesOfSlice) {
+        return dependenciesFromSlices.computeIfAbsent(sliceIdentifier, identifier ->
+                collectDependenciesCrossingSlice(identifier, classesOfSlice, JavaClass::getDirectDependenciesFromSelf, Dependency::getTargetClass));
+    }
+
+    Set<Dependency> getDependenciesToSlice(List<String> sliceIdentifier, Set<JavaClass> classesOfSlice) {
+        return dependenciesToSlices.computeIfAbsent(sliceIdentifier, identifier ->
+                collectDependenciesCrossingSlice(identifier, classesOfSlice, JavaClass::getDirectDependenciesToSelf, Dependency::getOriginClass));
+    }
+
+    // We cannot check 'contains' here, because there might be classes in the same slice that have not been originally imported (e.g. array types)
+    private Set<Dependency> collectDependenciesCrossingSlice(
+            List<String> sliceIdentifier,
+            Set<JavaClass> classesOfSlice,
+            Function<JavaClass, Set<Dependency>> getDependencies,
+            Function<Dependency, JavaClass> getOtherEnd) {
+
+        ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
+        for (JavaClass javaClass : classesOfSlice) {
+            for (Dependency dependency : getDependencies.apply(javaClass)) {
+                if (!getSliceIdentifierOf(getOtherEnd.apply(dependency)).equals(sliceIdentifier)) {
+                    result.add(dependency);
+                }
+            }
+        }
+        return result.build();
+    }
+}
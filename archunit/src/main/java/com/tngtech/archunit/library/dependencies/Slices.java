@@ -303,20 +303,20 @@ public final class Slices implements DescribedIterable<Slice>, CanOverrideDescri
 
     private static class SliceBuilders {
         private final Map<List<String>, Slice.Builder> sliceBuilders = new HashMap<>();
-        private final SliceAssignment sliceAssignment;
+        private final SliceDependencyGraph dependencyGraph;
 
         SliceBuilders(SliceAssignment sliceAssignment) {
-            this.sliceAssignment = sliceAssignment;
+            this.dependencyGraph = new SliceDependencyGraph(sliceAssignment);
         }
 
         void add(JavaClass clazz) {
-            List<String> identifierParts = sliceAssignment.getIdentifierOf(clazz).getParts();
+            List<String> identifierParts = dependencyGraph.getSliceIdentifierOf(clazz);
             if (identifierParts.isEmpty()) {
                 return;
             }
 
             if (!sliceBuilders.containsKey(identifierParts)) {
-                sliceBuilders.put(identifierParts, Slice.Builder.from(identifierParts, sliceAssignment));
+                sliceBuilders.put(identifierParts, Slice.Builder.from(identifierParts, dependencyGraph));
             }
             sliceBuilders.get(identifierParts).addClass(clazz);
         }
@@ -328,14 +328,15 @@ public final class Slices implements DescribedIterable<Slice>, CanOverrideDescri
 
     private static class PackageMatchingSliceIdentifier implements SliceAssignment {
         private final String packageIdentifier;
+        private final PackageMatcher matcher;
 
         private PackageMatchingSliceIdentifier(String packageIdentifier) {
             this.packageIdentifier = checkNotNull(packageIdentifier);
+            this.matcher = PackageMatcher.of(packageIdentifier);
         }
 
         @Override
         public SliceIdentifier getIdentifierOf(JavaClass javaClass) {
-            PackageMatcher matcher = PackageMatcher.of(packageIdentifier);
             Optional<List<String>> result = matcher.match(javaClass.getPackageName()).map(TO_GROUPS);
             List<String> parts = result.orElse(emptyList());
             return parts.isEmpty() ? SliceIdentifier.ignore() : SliceIdentifier.of(parts);
@@ -0,0 +1,469 @@
+/*
+ * Copyright 2014-2026 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.freeze;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.lang.ArchRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.library.freeze.FreezingArchRule.ensureUnixLineBreaks;
+import static com.tngtech.archunit.library.freeze.TextFileBasedViolationStore.ALLOW_STORE_CREATION_DEFAULT;
+import static com.tngtech.archunit.library.freeze.TextFileBasedViolationStore.ALLOW_STORE_CREATION_PROPERTY_NAME;
+import static com.tngtech.archunit.library.freeze.TextFileBasedViolationStore.ALLOW_STORE_UPDATE_DEFAULT;
+import static com.tngtech.archunit.library.freeze.TextFileBasedViolationStore.ALLOW_STORE_UPDATE_PROPERTY_NAME;
+import static com.tngtech.archunit.library.freeze.TextFileBasedViolationStore.STORE_PATH_DEFAULT;
+import static com.tngtech.archunit.library.freeze.TextFileBasedViolationStore.STORE_PATH_PROPERTY_NAME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.util.Collections.emptyList;
+
+/**
+ * A binary file based implementation of a {@link ViolationStore}, meant for stores with many rules or many violations per rule.<br>
+ * Like {@link TextFileBasedViolationStore} this {@link ViolationStore} keeps an index of all stored rules and stores the violations of every
+ * single {@link FreezingArchRule} in a dedicated file. But both kinds of files are binary logs that are only appended to:
+ * <ul>
+ *   <li>a new rule is appended to the index file instead of rewriting the whole index</li>
+ *   <li>an update of the violations of a rule only appends the violations that have been solved or added since the last update,
+ *       the rule violation file is only rewritten once these updates outgrow the violations currently stored</li>
+ *   <li>violations are read record by record instead of reading and splitting the whole file at once</li>
+ * </ul>
+ * Note that {@link #getViolations(ArchRule)} returns the stored violations grouped by equal violations, and violations added by
+ * an update are returned after the ones that had been stored before. I.e. in contrast to {@link TextFileBasedViolationStore}
+ * the order of violations passed to {@link #save(ArchRule, List)} is not necessarily preserved.<br>
+ * The layout within the configured store folder will look like:
+ * <pre><code>
+ * storeFolder
+ *   |-- stored.rules.bin (the index file of all stored rules)
+ *   |-- 6fc2fd04-b3ab-44e0-8f78-215c66f2174a.bin (a rule violation file named randomly by UUID and referenced from stored.rules.bin)
+ *   |-- ... (more rule violation files for every rule that has been stored so far)
+ * </code></pre>
+ * This {@link ViolationStore} can be selected via {@code freeze.store=com.tngtech.archunit.library.freeze.BinaryFileBasedViolationStore}
+ * and is configured through the same properties as {@link TextFileBasedViolationStore}:
+ * <pre><code>
+ * default.path=...               # string: the path of the folder where violation files will be stored
+ * default.allowStoreCreation=... # boolean: whether to allow creating a new index file
+ * default.allowStoreUpdate=...   # boolean: whether to allow updating any store file
+ * </code></pre>
+ */
+@PublicAPI(usage = ACCESS)
+public final class BinaryFileBasedViolationStore implements ViolationStore {
+    private static final Logger log = LoggerFactory.getLogger(BinaryFileBasedViolationStore.class);
+
+    private static final String STORED_RULES_FILE_NAME = "stored.rules.bin";
+    private static final String RULE_VIOLATION_FILE_SUFFIX = ".bin";
+    private static final int FORMAT_VERSION = 1;
+
+    private static final ConcurrentHashMap<String, StoredRules> STORED_RULES_BY_PATH = new ConcurrentHashMap<>();
+
+    private boolean storeCreationAllowed;
+    private boolean storeUpdateAllowed;
+    private File storeFolder;
+    private StoredRules storedRules;
+
+    @Override
+    public void initialize(Properties properties) {
+        storeCreationAllowed = Boolean.parseBoolean(properties.getProperty(ALLOW_STORE_CREATION_PROPERTY_NAME, ALLOW_STORE_CREATION_DEFAULT));
+        storeUpdateAllowed = Boolean.parseBoolean(properties.getProperty(ALLOW_STORE_UPDATE_PROPERTY_NAME, ALLOW_STORE_UPDATE_DEFAULT));
+        storeFolder = new File(properties.getProperty(STORE_PATH_PROPERTY_NAME, STORE_PATH_DEFAULT));
+        File storedRulesFile = getStoredRulesFile();
+        log.trace("Initializing {} at {}", BinaryFileBasedViolationStore.class.getSimpleName(), storedRulesFile.getAbsolutePath());
+        storedRules = getOrCreateStoredRules(storedRulesFile);
+    }
+
+    private File getStoredRulesFile() {
+        File rulesFile = new File(storeFolder, STORED_RULES_FILE_NAME);
+        if (!rulesFile.exists() && !storeCreationAllowed) {
+            throw new StoreInitializationFailedException(String.format(
+                    "Creating new violation store is disabled (enable by configuration %s.%s=true)",
+                    ViolationStoreFactory.FREEZE_STORE_PROPERTY_NAME, ALLOW_STORE_CREATION_PROPERTY_NAME));
+        }
+        return rulesFile;
+    }
+
+    private StoredRules getOrCreateStoredRules(File storedRulesFile) {
+        try {
+            return STORED_RULES_BY_PATH.computeIfAbsent(storedRulesFile.getCanonicalPath(), path -> StoredRules.load(storedRulesFile.toPath()));
+        } catch (IOException e) {
+            throw new StoreInitializationFailedException(e);
+        }
+    }
+
+    @Override
+    public boolean contains(ArchRule rule) {
+        return storedRules.contains(rule.getDescription());
+    }
+
+    @Override
+    public void save(ArchRule rule, List<String> violations) {
+        log.trace("Storing evaluated rule '{}' with {} violations", rule.getDescription(), violations.size());
+        if (!storeUpdateAllowed) {
+            throw new StoreUpdateFailedException(String.format(
+                    "Updating frozen violations is disabled (enable by configuration %s.%s=true)",
+                    ViolationStoreFactory.FREEZE_STORE_PROPERTY_NAME, ALLOW_STORE_UPDATE_PROPERTY_NAME));
+        }
+        String ruleFileName = storedRules.putIfAbsent(rule.getDescription(), UUID.randomUUID() + RULE_VIOLATION_FILE_SUFFIX);
+        ruleViolationFile(ruleFileName).update(violations);
+    }
+
+    @Override
+    public List<String> getViolations(ArchRule rule) {
+        String ruleFileName = storedRules.get(rule.getDescription());
+        checkArgument(ruleFileName != null, "No rule stored with description '%s'", rule.getDescription());
+        List<String> result = ruleViolationFile(ruleFileName).read().getViolations();
+        log.trace("Retrieved stored rule '{}' with {} violations", rule.getDescription(), result.size());
+        return result;
+    }
+
+    private RuleViolationFile ruleViolationFile(String ruleFileName) {
+        return new RuleViolationFile(new File(storeFolder, ruleFileName).toPath());
+    }
+
+    /**
+     * The index of all stored rules. After the header every record consists of a rule description and the name of the
+     * respective rule violation file.
+     */
+    private static class StoredRules {
+        private static final int MAGIC_NUMBER = 0x41555352;
+        private static final byte RULE_RECORD = 1;
+
+        private final Path file;
+        private final Map<String, String> ruleFileNamesByDescription;
+
+        private StoredRules(Path file, Map<String, String> ruleFileNamesByDescription) {
+            this.file = file;
+            this.ruleFileNamesByDescription = ruleFileNamesByDescription;
+        }
+
+        synchronized boolean contains(String ruleDescription) {
+            return ruleFileNamesByDescription.containsKey(ensureUnixLineBreaks(ruleDescription));
+        }
+
+        synchronized String get(String ruleDescription) {
+            return ruleFileNamesByDescription.get(ensureUnixLineBreaks(ruleDescription));
+        }
+
+        synchronized String putIfAbsent(String ruleDescription, String ruleFileName) {
+            String normalizedDescription = ensureUnixLineBreaks(ruleDescription);
+            String existingFileName = ruleFileNamesByDescription.get(normalizedDescription);
+            if (existingFileName != null) {
+                log.trace("Rule '{}' is already stored in file {}", ruleDescription, existingFileName);
+                return existingFileName;
+            }
+
+            log.trace("Assigning new file {} to rule '{}'", ruleFileName, ruleDescription);
+            try {
+                append(file, out -> writeRecord(out, normalizedDescription, ruleFileName));
+            } catch (IOException e) {
+                throw new StoreUpdateFailedException(e);
+            }
+            ruleFileNamesByDescription.put(normalizedDescription, ruleFileName);
+            return ruleFileName;
+        }
+
+        static StoredRules load(Path file) {
+            try {
+                Files.createDirectories(file.getParent());
+                if (!Files.exists(file)) {
+                    writeAtomically(file, out -> writeHeader(out, MAGIC_NUMBER));
+                }
+                return read(file);
+            } catch (IOException e) {
+                throw new StoreInitializationFailedException(String.format("Cannot create rule store at %s", file.toAbsolutePath()), e);
+            }
+        }
+
+        private static StoredRules read(Path file) throws IOException {
+            Map<String, String> ruleFileNamesByDescription = new HashMap<>();
+            boolean complete = true;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                checkHeader(in, MAGIC_NUMBER, file);
+                for (int recordType = in.read(); recordType >= 0; recordType = in.read()) {
+                    checkRecordType(recordType == RULE_RECORD, file);
+                    try {
+                        String ruleDescription = readString(in);
+                        ruleFileNamesByDescription.put(ruleDescription, readString(in));
+                    } catch (EOFException e) {
+                        complete = false;
+                    }
+                }
+            }
+
+            if (!complete) {
+                log.warn("Ignoring incomplete last record of {} and rewriting the file", file.toAbsolutePath());
+                writeAtomically(file, out -> {
+                    writeHeader(out, MAGIC_NUMBER);
+                    for (Map.Entry<String, String> ruleFileName : ruleFileNamesByDescription.entrySet()) {
+                        writeRecord(out, ruleFileName.getKey(), ruleFileName.getValue());
+                    }
+                });
+            }
+            return new StoredRules(file, ruleFileNamesByDescription);
+        }
+
+        private static void writeRecord(DataOutputStream out, String ruleDescription, String ruleFileName) throws IOException {
+            out.writeByte(RULE_RECORD);
+            writeString(out, ruleDescription);
+            writeString(out, ruleFileName);
+        }
+    }
+
+    /**
+     * The violations of a single rule. After the header follows a record with all violations stored initially,
+     * followed by one record per update with the violations solved and the violations added by this update.
+     */
+    private static class RuleViolationFile {
+        private static final int MAGIC_NUMBER = 0x41555356;
+        private static final byte ALL_VIOLATIONS_RECORD = 1;
+        private static final byte UPDATED_VIOLATIONS_RECORD = 2;
+
+        private final Path file;
+
+        RuleViolationFile(Path file) {
+            this.file = file;
+        }
+
+        StoredViolations read() {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                checkHeader(in, MAGIC_NUMBER, file);
+                StoredViolations result = new StoredViolations();
+                for (int recordType = in.read(); recordType >= 0; recordType = in.read()) {
+                    checkRecordType(recordType == ALL_VIOLATIONS_RECORD || recordType == UPDATED_VIOLATIONS_RECORD, file);
+                    try {
+                        if (recordType == ALL_VIOLATIONS_RECORD) {
+                            result.replaceAll(readStrings(in));
+                        } else {
+                            List<String> solved = readStrings(in);
+                            result.update(solved, readStrings(in));
+                        }
+                    } catch (EOFException e) {
+                        log.warn("Ignoring incomplete last record of {}", file.toAbsolutePath());
+                        result.markIncomplete();
+                    }
+                }
+                return result;
+            } catch (IOException e) {
+                throw new StoreReadException(e);
+            }
+        }
+
+        void update(List<String> violations) {
+            StoredViolations stored = Files.exists(file) ? read() : StoredViolations.NONE;
+            ViolationsDelta delta = stored.deltaTo(violations);
+            try {
+                if (stored.requiresRewriteFor(delta, violations)) {
+                    writeAtomically(file, out -> {
+                        writeHeader(out, MAGIC_NUMBER);
+                        out.writeByte(ALL_VIOLATIONS_RECORD);
+                        writeStrings(out, violations);
+                    });
+                } else if (!delta.isEmpty()) {
+                    append(file, out -> {
+                        out.writeByte(UPDATED_VIOLATIONS_RECORD);
+                        writeStrings(out, delta.solved);
+                        writeStrings(out, delta.added);
+                    });
+                }
+            } catch (IOException e) {
+                throw new StoreUpdateFailedException(e);
+            }
+        }
+
+        private static List<String> readStrings(DataInputStream in) throws IOException {
+            int size = in.readInt();
+            List<String> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(readString(in));
+            }
+            return result;
+        }
+
+        private static void writeStrings(DataOutputStream out, Collection<String> strings) throws IOException {
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                writeString(out, string);
+            }
+        }
+    }
+
+    private static class StoredViolations {
+        static final StoredViolations NONE = new StoredViolations();
+
+        // equal violations are grouped by count, so updates don't need to search through a list
+        private final Map<String, Integer> violationCounts = new LinkedHashMap<>();
+        private long numberOfRecordedViolations = 0;
+        private boolean complete = true;
+
+        void replaceAll(List<String> violations) {
+            violationCounts.clear();
+            numberOfRecordedViolations = 0;
+            update(emptyList(), violations);
+        }
+
+        void update(List<String> solved, List<String> added) {
+            for (String violation : solved) {
+                violationCounts.computeIfPresent(violation, (__, count) -> count > 1 ? count - 1 : null);
+            }
+            for (String violation : added) {
+                violationCounts.merge(violation, 1, Integer::sum);
+            }
+            numberOfRecordedViolations += solved.size() + added.size();
+        }
+
+        void markIncomplete() {
+            complete = false;
+        }
+
+        ViolationsDelta deltaTo(List<String> violations) {
+            Map<String, Integer> solvedCounts = new HashMap<>(violationCounts);
+            List<String> added = new ArrayList<>();
+            for (String violation : violations) {
+                Integer storedCount = solvedCounts.get(violation);
+                if (storedCount == null) {
+                    added.add(violation);
+                } else if (storedCount > 1) {
+                    solvedCounts.put(violation, storedCount - 1);
+                } else {
+                    solvedCounts.remove(violation);
+                }
+            }
+            return new ViolationsDelta(expand(solvedCounts), added);
+        }
+
+        /**
+         * An incomplete file must be rewritten, since appending to it would corrupt all following records.
+         * Otherwise the file is rewritten once the recorded updates outgrow the violations to store.
+         */
+        boolean requiresRewriteFor(ViolationsDelta delta, List<String> violations) {
+            return this == NONE
+                    || !complete
+                    || numberOfRecordedViolations + delta.size() > 2L * violations.size();
+        }
+
+        List<String> getViolations() {
+            return expand(violationCounts);
+        }
+
+        private static List<String> expand(Map<String, Integer> violationCounts) {
+            List<String> result = new ArrayList<>();
+            for (Map.Entry<String, Integer> violationCount : violationCounts.entrySet()) {
+                for (int i = 0; i < violationCount.getValue(); i++) {
+                    result.add(violationCount.getKey());
+                }
+            }
+            return result;
+        }
+    }
+
+    private static class ViolationsDelta {
+        private final List<String> solved;
+        private final List<String> added;
+
+        ViolationsDelta(List<String> solved, List<String> added) {
+            this.solved = solved;
+            this.added = added;
+        }
+
+        boolean isEmpty() {
+            return solved.isEmpty() && added.isEmpty();
+        }
+
+        long size() {
+            return solved.size() + added.size();
+        }
+    }
+
+    private static void checkHeader(DataInputStream in, int expectedMagicNumber, Path file) throws IOException {
+        if (in.readInt() != expectedMagicNumber || in.readInt() != FORMAT_VERSION) {
+            throw new StoreReadException(String.format("File %s is no %s file of a known format",
+                    file.toAbsolutePath(), BinaryFileBasedViolationStore.class.getSimpleName()));
+        }
+    }
+
+    private static void checkRecordType(boolean knownRecordType, Path file) {
+        if (!knownRecordType) {
+            throw new StoreReadException(String.format("File %s contains an unknown record", file.toAbsolutePath()));
+        }
+    }
+
+    private static void writeHeader(DataOutputStream out, int magicNumber) throws IOException {
+        out.writeInt(magicNumber);
+        out.writeInt(FORMAT_VERSION);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void append(Path file, RecordWriter writer) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file, APPEND)))) {
+            writer.writeTo(out);
+        }
+    }
+
+    private static void writeAtomically(Path file, RecordWriter writer) throws IOException {
+        Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                writer.writeTo(out);
+            }
+            try {
+                Files.move(tempFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+}
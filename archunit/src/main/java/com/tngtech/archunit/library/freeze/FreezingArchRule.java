@@ -15,10 +15,15 @@
  */
 package com.tngtech.archunit.library.freeze;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -136,7 +141,7 @@ public final class FreezingArchRule implements ArchRule {
     private EvaluationResult storeViolationsAndReturnSuccess(EvaluationResultLineBreakAdapter result) {
         log.trace("No results present for rule '{}'. Freezing rule result...", delegate.getDescription());
         store.save(delegate, result.getViolations());
-        return new EvaluationResult(delegate, result.getPriority());
+        return result.withoutViolations();
     }
 
     private EvaluationResult removeObsoleteViolationsFromStoreAndReturnNewViolations(EvaluationResultLineBreakAdapter result) {
@@ -225,20 +230,15 @@ public final class FreezingArchRule implements ArchRule {
         private final List<String> storedUnsolvedViolations = new ArrayList<>();
 
         CategorizedViolations(ViolationLineMatcher matcher, EvaluationResultLineBreakAdapter actualResult, List<String> storedViolations) {
-            List<String> storedViolationsLeft = new ArrayList<>(storedViolations);
+            StoredViolations storedViolationsLeft = StoredViolations.of(matcher, storedViolations);
             for (String actualViolation : actualResult.getViolations()) {
-                for (Iterator<String> iterator = storedViolationsLeft.iterator(); iterator.hasNext(); ) {
-                    String storedViolation = iterator.next();
-                    if (matcher.matches(actualViolation, storedViolation)) {
-                        iterator.remove();
-                        knownActualViolations.add(actualViolation);
-                        storedUnsolvedViolations.add(storedViolation);
-                        break;
-                    }
-                }
+                storedViolationsLeft.removeMatchOf(actualViolation).ifPresent(storedViolation -> {
+                    knownActualViolations.add(actualViolation);
+                    storedUnsolvedViolations.add(storedViolation);
+                });
             }
             storedSolvedViolations = new ArrayList<>(storedViolations);
-            storedSolvedViolations.removeAll(storedUnsolvedViolations);
+            storedSolvedViolations.removeAll(new HashSet<>(storedUnsolvedViolations));
         }
 
         Set<String> getKnownActualViolations() {
@@ -254,6 +254,79 @@ public final class FreezingArchRule implements ArchRule {
         }
     }
 
+    private abstract static class StoredViolations {
+        abstract Optional<String> removeMatchOf(String actualViolation);
+
+        static StoredViolations of(ViolationLineMatcher matcher, List<String> storedViolations) {
+            Map<String, Deque<String>> storedViolationsByNormalizedForm = new HashMap<>();
+            for (String storedViolation : storedViolations) {
+                Optional<String> normalizedForm = matcher.normalize(storedViolation);
+                if (!normalizedForm.isPresent()) {
+                    return new PairwiseMatchedStoredViolations(matcher, storedViolations);
+                }
+                storedViolationsByNormalizedForm.computeIfAbsent(normalizedForm.get(), __ -> new ArrayDeque<>()).add(storedViolation);
+            }
+            return new NormalizedStoredViolations(matcher, storedViolationsByNormalizedForm);
+        }
+
+        static Optional<String> removeMatchOf(String actualViolation, ViolationLineMatcher matcher, Iterator<String> storedViolations) {
+            while (storedViolations.hasNext()) {
+                String storedViolation = storedViolations.next();
+                if (matcher.matches(actualViolation, storedViolation)) {
+                    storedViolations.remove();
+                    return Optional.of(storedViolation);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static class PairwiseMatchedStoredViolations extends StoredViolations {
+        private final ViolationLineMatcher matcher;
+        private final List<String> storedViolationsLeft;
+
+        PairwiseMatchedStoredViolations(ViolationLineMatcher matcher, List<String> storedViolations) {
+            this.matcher = matcher;
+            this.storedViolationsLeft = new ArrayList<>(storedViolations);
+        }
+
+        @Override
+        Optional<String> removeMatchOf(String actualViolation) {
+            return removeMatchOf(actualViolation, matcher, storedViolationsLeft.iterator());
+        }
+    }
+
+    private static class NormalizedStoredViolations extends StoredViolations {
+        private final ViolationLineMatcher matcher;
+        private final Map<String, Deque<String>> storedViolationsLeftByNormalizedForm;
+
+        NormalizedStoredViolations(ViolationLineMatcher matcher, Map<String, Deque<String>> storedViolationsByNormalizedForm) {
+            this.matcher = matcher;
+            this.storedViolationsLeftByNormalizedForm = storedViolationsByNormalizedForm;
+        }
+
+        @Override
+        Optional<String> removeMatchOf(String actualViolation) {
+            Optional<String> normalizedForm = matcher.normalize(actualViolation);
+            if (!normalizedForm.isPresent()) {
+                return removePairwiseMatchOf(actualViolation);
+            }
+            Deque<String> candidates = storedViolationsLeftByNormalizedForm.get(normalizedForm.get());
+            return candidates != null ? Optional.ofNullable(candidates.pollFirst()) : Optional.empty();
+        }
+
+        // only reached if a matcher does not consistently provide normalized forms
+        private Optional<String> removePairwiseMatchOf(String actualViolation) {
+            for (Deque<String> candidates : storedViolationsLeftByNormalizedForm.values()) {
+                Optional<String> match = removeMatchOf(actualViolation, matcher, candidates.iterator());
+                if (match.isPresent()) {
+                    return match;
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
     private static class ViolationStoreLineBreakAdapter {
         private final ViolationStore store;
 
@@ -296,5 +369,9 @@ public final class FreezingArchRule implements ArchRule {
         EvaluationResult filterDescriptionsMatching(Predicate<String> predicate) {
             return result.filterDescriptionsMatching(input -> predicate.test(ensureUnixLineBreaks(input)));
         }
+
+        EvaluationResult withoutViolations() {
+            return result.withoutViolations();
+        }
     }
 }
@@ -66,13 +66,13 @@ public final class TextFileBasedViolationStore implements ViolationStore {
     private static final Logger log = LoggerFactory.getLogger(TextFileBasedViolationStore.class);
 
     private static final Pattern UNESCAPED_LINE_BREAK_PATTERN = Pattern.compile("(?<!\\\\)\n");
-    private static final String STORE_PATH_PROPERTY_NAME = "default.path";
-    private static final String STORE_PATH_DEFAULT = "archunit_store";
+    static final String STORE_PATH_PROPERTY_NAME = "default.path";
+    static final String STORE_PATH_DEFAULT = "archunit_store";
     private static final String STORED_RULES_FILE_NAME = "stored.rules";
-    private static final String ALLOW_STORE_CREATION_PROPERTY_NAME = "default.allowStoreCreation";
-    private static final String ALLOW_STORE_CREATION_DEFAULT = "false";
-    private static final String ALLOW_STORE_UPDATE_PROPERTY_NAME = "default.allowStoreUpdate";
-    private static final String ALLOW_STORE_UPDATE_DEFAULT = "true";
+    static final String ALLOW_STORE_CREATION_PROPERTY_NAME = "default.allowStoreCreation";
+    static final String ALLOW_STORE_CREATION_DEFAULT = "false";
+    static final String ALLOW_STORE_UPDATE_PROPERTY_NAME = "default.allowStoreUpdate";
+    static final String ALLOW_STORE_UPDATE_DEFAULT = "true";
 
     private static final ConcurrentHashMap<String, FileSyncedProperties> STORED_RULES_BY_PATH = new ConcurrentHashMap<>();
 
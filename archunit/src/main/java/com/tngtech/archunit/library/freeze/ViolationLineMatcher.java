@@ -15,6 +15,8 @@
  */
 package com.tngtech.archunit.library.freeze;
 
+import java.util.Optional;
+
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.lang.ArchRule;
 
@@ -32,4 +34,20 @@ public interface ViolationLineMatcher {
      * @return true, if and only if those two lines should be considered equivalent
      */
     boolean matches(String lineFromFirstViolation, String lineFromSecondViolation);
+
+    /**
+     * Optionally provides a normalized form of a line, such that two lines are considered equivalent by
+     * {@link #matches(String, String)} if and only if their normalized forms are equal.
+     * If a {@link ViolationLineMatcher} can provide such a normalized form, {@link FreezingArchRule} can look up
+     * stored violations by their normalized form instead of comparing every actual violation with every stored violation.
+     * This makes a considerable difference for rules with many frozen violations.
+     * <br><br>
+     * By default no normalized form is provided and all lines are compared pairwise via {@link #matches(String, String)}.
+     *
+     * @param violationLine A line from the description of a violation of an {@link ArchRule}
+     * @return The normalized form of this line, or {@link Optional#empty()} if lines can only be compared via {@link #matches(String, String)}
+     */
+    default Optional<String> normalize(String violationLine) {
+        return Optional.empty();
+    }
 }
@@ -15,6 +15,8 @@
  */
 package com.tngtech.archunit.library.freeze;
 
+import java.util.Optional;
+
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.MayResolveTypesViaReflection;
 
@@ -64,6 +66,20 @@ class ViolationLineMatcherFactory {
             return !relevantPart1.hasNext() && !relevantPart2.hasNext();
         }
 
+        /**
+         * Every relevant part ends with the first ':' or '$' following its start (or with the end of the string),
+         * so the concatenation of all relevant parts is equal if and only if all relevant parts are equal.
+         */
+        @Override
+        public Optional<String> normalize(String violationLine) {
+            StringBuilder result = new StringBuilder(violationLine.length());
+            RelevantPartIterator relevantParts = new RelevantPartIterator(violationLine);
+            while (relevantParts.hasNext()) {
+                result.append(relevantParts.next());
+            }
+            return Optional.of(result.toString());
+        }
+
         static class RelevantPartIterator {
             private final String str;
             private final int length;
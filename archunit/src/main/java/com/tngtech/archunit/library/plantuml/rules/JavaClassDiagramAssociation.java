@@ -20,7 +20,7 @@ import java.util.Set;
 
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.core.domain.JavaClass;
-import com.tngtech.archunit.core.domain.PackageMatcher;
+import com.tngtech.archunit.core.domain.PackageMatchers;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 
@@ -88,19 +88,19 @@ class JavaClassDiagramAssociation {
 
     private static class AssociatedComponent {
         private final PlantUmlComponent component;
-        private final Set<PackageMatcher> packageMatchers;
+        private final PackageMatchers packageMatchers;
 
         private AssociatedComponent(PlantUmlComponent component) {
             this.component = component;
-            ImmutableSet.Builder<PackageMatcher> packageMatchers = ImmutableSet.builder();
+            ImmutableSet.Builder<String> packageIdentifiers = ImmutableSet.builder();
             for (Stereotype stereotype : component.getStereotypes()) {
-                packageMatchers.add(PackageMatcher.of(stereotype.asString()));
+                packageIdentifiers.add(stereotype.asString());
             }
-            this.packageMatchers = packageMatchers.build();
+            this.packageMatchers = PackageMatchers.of(packageIdentifiers.build());
         }
 
         private boolean contains(JavaClass javaClass) {
-            return packageMatchers.stream().anyMatch(packageMatcher -> packageMatcher.matches(javaClass.getPackageName()));
+            return packageMatchers.test(javaClass.getPackageName());
         }
 
         PlantUmlComponent asPlantUmlComponent() {
@@ -72,6 +72,32 @@ public class ArchConfigurationTest {
         assertThat(configuration.getClassResolverArguments()).isEmpty();
     }
 
+    @Test
+    public void import_parallelism() {
+        writeProperties(ArchConfiguration.IMPORT_PARALLELISM, 3);
+
+        ArchConfiguration configuration = testConfiguration(PROPERTIES_FILE_NAME);
+
+        assertThat(configuration.getImportParallelism()).isEqualTo(3);
+
+        configuration.setImportParallelism(0);
+
+        assertThat(configuration.getImportParallelism()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    public void rule_evaluation_parallelism() {
+        writeProperties(ArchConfiguration.RULE_EVALUATION_PARALLELISM, 5);
+
+        ArchConfiguration configuration = testConfiguration(PROPERTIES_FILE_NAME);
+
+        assertThat(configuration.getRuleEvaluationParallelism()).isEqualTo(5);
+
+        configuration.setRuleEvaluationParallelism(-1);
+
+        assertThat(configuration.getRuleEvaluationParallelism()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
     @Test
     public void resolver_explicitly_set() {
         writeProperties(
@@ -353,6 +379,10 @@ public class ArchConfigurationTest {
                 .as("configuration.resolveMissingDependenciesFromClassPath()").isTrue();
         assertThat(configuration.md5InClassSourcesEnabled())
                 .as("configuration.md5InClassSourcesEnabled()").isFalse();
+        assertThat(configuration.getImportParallelism())
+                .as("configuration.getImportParallelism()").isEqualTo(1);
+        assertThat(configuration.getRuleEvaluationParallelism())
+                .as("configuration.getRuleEvaluationParallelism()").isEqualTo(1);
     }
 
     private ArchConfiguration testConfiguration(String resourceName) {
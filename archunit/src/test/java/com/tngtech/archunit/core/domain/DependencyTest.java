@@ -6,6 +6,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.nio.file.FileSystem;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -287,6 +288,25 @@ public class DependencyTest {
                 classes.get(InterfaceWithDependencyOnAnnotation.class));
     }
 
+    @Test
+    public void Dependencies_with_the_same_description_are_equal() {
+        @SuppressWarnings("unused")
+        class SomeClass {
+            void method(@SomeAnnotation(String.class) Object first, @SomeAnnotation(String.class) Object second) {
+            }
+        }
+
+        List<JavaParameter> parameters = new ClassFileImporter().importClass(SomeClass.class)
+                .getMethod("method", Object.class, Object.class).getParameters();
+
+        Dependency first = getOnlyElement(Dependency.tryCreateFromAnnotation(getOnlyElement(parameters.get(0).getAnnotations())));
+        Dependency second = getOnlyElement(Dependency.tryCreateFromAnnotation(getOnlyElement(parameters.get(1).getAnnotations())));
+
+        assertThat(first.getDescription()).isEqualTo(second.getDescription());
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+
     @ParameterizedTest
     @MethodSource("annotated_classes")
     void dependency_from_annotation_on_class(JavaClass annotatedClass) {
@@ -0,0 +1,135 @@
+package com.tngtech.archunit.core.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.JavaClassDependencyGraph.EDGE_KIND_ACCESS;
+import static com.tngtech.archunit.core.domain.JavaClassDependencyGraph.EDGE_KIND_INHERITANCE;
+import static com.tngtech.archunit.core.domain.JavaClassDependencyGraph.EDGE_KIND_OTHER;
+import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
+import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JavaClassDependencyGraphTest {
+
+    @Test
+    public void aggregates_dependencies_between_two_classes_into_one_edge_with_all_kinds() {
+        JavaClasses classes = new ClassFileImporter().importClasses(Origin.class, Base.class, SomeInterface.class, Target.class);
+        JavaClassDependencyGraph graph = classes.getDependencyGraph();
+        int origin = graph.getId(classes.get(Origin.class));
+
+        assertThat(outgoingKindsOf(graph, origin, SomeInterface.class)).isEqualTo(EDGE_KIND_INHERITANCE);
+        assertThat(outgoingKindsOf(graph, origin, Base.class)).isEqualTo(EDGE_KIND_INHERITANCE | EDGE_KIND_ACCESS);
+        assertThat(outgoingKindsOf(graph, origin, Target.class)).isEqualTo(EDGE_KIND_OTHER | EDGE_KIND_ACCESS);
+        assertThat(targetsOf(graph, origin))
+                .as("targets of " + Origin.class.getSimpleName())
+                .doesNotContain(Origin.class.getName())
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void stores_incoming_edges_consistent_to_outgoing_edges() {
+        JavaClassDependencyGraph graph = new ClassFileImporter().importClasses(Origin.class, Base.class, SomeInterface.class, Target.class).getDependencyGraph();
+
+        for (int id = 0; id < graph.size(); id++) {
+            for (int i = 0; i < graph.getNumberOfOutgoingEdges(id); i++) {
+                int target = graph.getOutgoingEdgeTarget(id, i);
+                assertThat(incomingKindsOf(graph, target, id)).isEqualTo(graph.getOutgoingEdgeKinds(id, i));
+            }
+        }
+        int target = idOf(graph, Target.class);
+        assertThat(graph.getNumberOfIncomingEdges(target)).isEqualTo(1);
+        assertThat(graph.getJavaClass(graph.getIncomingEdgeOrigin(target, 0)).isEquivalentTo(Origin.class)).isTrue();
+    }
+
+    @Test
+    public void contains_classes_reached_via_dependencies() {
+        JavaClasses classes = importClasses(Origin.class);
+        JavaClassDependencyGraph graph = JavaClasses.of(classes).getDependencyGraph();
+
+        assertThat(graph.contains(classes.get(Origin.class))).isTrue();
+        assertThat(graph.getJavaClass(idOf(graph, Target.class)).getName()).isEqualTo(Target.class.getName());
+        assertThat(graph.getJavaClass(idOf(graph, Object.class)).getName()).isEqualTo(Object.class.getName());
+    }
+
+    @Test
+    public void is_shared_by_all_classes_of_an_import() {
+        JavaClasses classes = new ClassFileImporter().importClasses(Origin.class, Target.class);
+
+        assertThat(classes.that(name(Origin.class.getName())).as("changed").getDependencyGraph())
+                .isSameAs(classes.getDependencyGraph());
+    }
+
+    @Test
+    public void rejects_classes_and_edges_it_does_not_contain() {
+        JavaClassDependencyGraph graph = new ClassFileImporter().importClasses(Target.class).getDependencyGraph();
+        int target = idOf(graph, Target.class);
+
+        assertThatThrownBy(() -> graph.getId(new ClassFileImporter().importClass(Origin.class)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(Origin.class.getName());
+        assertThatThrownBy(() -> graph.getOutgoingEdgeTarget(target, graph.getNumberOfOutgoingEdges(target)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private static int idOf(JavaClassDependencyGraph graph, Class<?> clazz) {
+        for (int id = 0; id < graph.size(); id++) {
+            if (graph.getJavaClass(id).isEquivalentTo(clazz)) {
+                return id;
+            }
+        }
+        throw new AssertionError("Graph does not contain " + clazz.getName());
+    }
+
+    private static List<String> targetsOf(JavaClassDependencyGraph graph, int id) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < graph.getNumberOfOutgoingEdges(id); i++) {
+            result.add(graph.getJavaClass(graph.getOutgoingEdgeTarget(id, i)).getName());
+        }
+        return result;
+    }
+
+    private static int outgoingKindsOf(JavaClassDependencyGraph graph, int id, Class<?> target) {
+        int targetId = idOf(graph, target);
+        for (int i = 0; i < graph.getNumberOfOutgoingEdges(id); i++) {
+            if (graph.getOutgoingEdgeTarget(id, i) == targetId) {
+                return graph.getOutgoingEdgeKinds(id, i);
+            }
+        }
+        throw new AssertionError("No edge to " + target.getName());
+    }
+
+    private static int incomingKindsOf(JavaClassDependencyGraph graph, int id, int origin) {
+        for (int i = 0; i < graph.getNumberOfIncomingEdges(id); i++) {
+            if (graph.getIncomingEdgeOrigin(id, i) == origin) {
+                return graph.getIncomingEdgeKinds(id, i);
+            }
+        }
+        throw new AssertionError("No edge from " + graph.getJavaClass(origin).getName());
+    }
+
+    private interface SomeInterface {
+    }
+
+    private static class Base {
+    }
+
+    private static class Target {
+        void call() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Origin extends Base implements SomeInterface {
+        private Target target;
+        private Origin[] others;
+
+        void method() {
+            target.call();
+        }
+    }
+}
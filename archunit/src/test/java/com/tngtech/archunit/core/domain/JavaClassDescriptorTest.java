@@ -61,6 +61,21 @@ public class JavaClassDescriptorTest {
         assertThat(JavaClassDescriptor.From.name(name).resolveClass()).isEqualTo(expected);
     }
 
+    @Test
+    public void records_cache_statistics() {
+        String typeName = getClass().getName() + "$NotYetCachedType";
+        JavaClassDescriptor.From.CacheStatistics before = JavaClassDescriptor.From.getCacheStatistics();
+
+        JavaClassDescriptor first = JavaClassDescriptor.From.name(typeName);
+        JavaClassDescriptor second = JavaClassDescriptor.From.name(typeName);
+
+        JavaClassDescriptor.From.CacheStatistics after = JavaClassDescriptor.From.getCacheStatistics();
+        assertThat(second).isEqualTo(first);
+        assertThat(after.getMissCount()).isGreaterThan(before.getMissCount());
+        assertThat(after.getHitCount()).isGreaterThan(before.getHitCount());
+        assertThat(after.getSize()).isPositive();
+    }
+
     @Test
     public void resolves_standard_class_name() {
         assertThat(JavaClassDescriptor.From.name(getClass().getName()).resolveClass()).isEqualTo(getClass());
@@ -1,16 +1,26 @@
 package com.tngtech.archunit.core.domain;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Type;
 
 import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_TRANSITIVE_DEPENDENCIES_FROM_SELF;
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static com.tngtech.archunit.testutil.Assertions.assertThatDependencies;
+import static java.util.stream.Collectors.toSet;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.V1_8;
 
 public class JavaClassTransitiveDependenciesTest {
 
@@ -158,4 +168,58 @@ public class JavaClassTransitiveDependenciesTest {
                     .contain(e, String.class);
         // @formatter:on
     }
+
+    @Test
+    public void finds_the_same_transitive_dependencies_regardless_of_the_order_of_queries() {
+        Class<?>[] classesToImport = {CyclicGraph.A.class, CyclicGraph.B.class, CyclicGraph.C.class, CyclicGraph.D.class, CyclicGraph.E.class};
+        JavaClasses classes = new ClassFileImporter().importClasses(classesToImport);
+        JavaClasses classesQueriedInReverseOrder = new ClassFileImporter().importClasses(classesToImport);
+
+        for (int i = classesToImport.length - 1; i >= 0; i--) {
+            classesQueriedInReverseOrder.get(classesToImport[i]).getTransitiveDependenciesFromSelf();
+        }
+
+        for (Class<?> clazz : classesToImport) {
+            assertThat(descriptionsOf(classesQueriedInReverseOrder.get(clazz).getTransitiveDependenciesFromSelf()))
+                    .as("transitive dependencies of " + clazz.getSimpleName())
+                    .containsExactlyInAnyOrderElementsOf(descriptionsOf(classes.get(clazz).getTransitiveDependenciesFromSelf()));
+        }
+        assertThat(classes.get(CyclicGraph.B.class).getTransitiveDependenciesFromSelf())
+                .as("transitive dependencies of class outside of cycle")
+                .hasSameSizeAs(classes.get(CyclicGraph.B.class).getDirectDependenciesFromSelf());
+    }
+
+    @Test
+    public void finds_transitive_dependencies_of_long_dependency_chains(@TempDir Path classFileRoot) throws IOException {
+        // deep enough to overflow the stack with one recursive call per link of the chain
+        int chainLength = 10_000;
+        for (int i = 0; i < chainLength; i++) {
+            Files.write(classFileRoot.resolve(chainLinkName(i) + ".class"), createChainLink(i, i < chainLength - 1));
+        }
+        JavaClasses classes = new ClassFileImporter().importPath(classFileRoot);
+
+        Set<JavaClass> transitiveDependencyTargets = classes.get(chainLinkName(0)).getTransitiveDependenciesFromSelf().stream()
+                .map(Dependency::getTargetClass)
+                .collect(toSet());
+
+        assertThat(transitiveDependencyTargets).contains(classes.get(chainLinkName(chainLength - 1)));
+    }
+
+    private static byte[] createChainLink(int index, boolean hasNextLink) {
+        ClassWriter classWriter = new ClassWriter(0);
+        classWriter.visit(V1_8, ACC_PUBLIC, chainLinkName(index), null, Type.getInternalName(Object.class), null);
+        if (hasNextLink) {
+            classWriter.visitField(ACC_PUBLIC, "next", "L" + chainLinkName(index + 1) + ";", null, null).visitEnd();
+        }
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    private static String chainLinkName(int index) {
+        return "ChainLink" + index;
+    }
+
+    private static Set<String> descriptionsOf(Set<Dependency> dependencies) {
+        return dependencies.stream().map(Dependency::getDescription).collect(toSet());
+    }
 }
@@ -8,6 +8,7 @@ import java.security.Security;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.function.Predicate;
 
@@ -26,6 +27,7 @@ import com.tngtech.archunit.core.importer.ClassFileImporter;
 import org.junit.Test;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.google.common.collect.Sets.union;
 import static com.tngtech.archunit.base.DescribedPredicate.alwaysFalse;
 import static com.tngtech.archunit.base.DescribedPredicate.alwaysTrue;
 import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_SIMPLE_NAME;
@@ -37,7 +39,9 @@ import static com.tngtech.archunit.testutil.Assertions.assertThatDependencies;
 import static com.tngtech.archunit.testutil.Assertions.assertThatPackages;
 import static com.tngtech.archunit.testutil.Assertions.assertThatType;
 import static com.tngtech.archunit.testutil.Assertions.assertThatTypes;
+import static java.util.Collections.singleton;
 import static java.util.regex.Pattern.quote;
+import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class JavaPackageTest {
@@ -417,6 +421,27 @@ public class JavaPackageTest {
                 .isEmpty();
     }
 
+    @Test
+    public void rolls_up_dependencies_of_package_trees_from_all_classes_within() {
+        JavaPackage root = getRoot(importPackage("packageexamples"));
+
+        for (JavaPackage javaPackage : union(root.getSubpackagesInTree(), singleton(root))) {
+            Set<JavaClass> classesInTree = javaPackage.getClassesInPackageTree();
+            Set<Dependency> expectedFromTree = classesInTree.stream()
+                    .flatMap(javaClass -> javaClass.getDirectDependenciesFromSelf().stream())
+                    .filter(dependency -> !classesInTree.contains(dependency.getTargetClass()))
+                    .collect(toSet());
+            Set<Dependency> expectedToTree = classesInTree.stream()
+                    .flatMap(javaClass -> javaClass.getDirectDependenciesToSelf().stream())
+                    .filter(dependency -> !classesInTree.contains(dependency.getOriginClass()))
+                    .collect(toSet());
+
+            assertThat(javaPackage.getClassDependenciesFromThisPackageTree()).as("dependencies from " + javaPackage).isEqualTo(expectedFromTree);
+            assertThat(javaPackage.getClassDependenciesToThisPackageTree()).as("dependencies to " + javaPackage).isEqualTo(expectedToTree);
+            assertThat(javaPackage.getClassDependenciesFromThisPackageTree()).isSameAs(javaPackage.getClassDependenciesFromThisPackageTree());
+        }
+    }
+
     @Test
     public void test_getPackageInfo() {
         JavaPackage annotatedPackage = importPackage("packageexamples.annotated");
@@ -179,4 +179,20 @@ public class PackageMatcherTest {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    public void repeated_matches_of_the_same_package_yield_the_same_groups() {
+        PackageMatcher matcher = PackageMatcher.of("com.(*)..service.(**)");
+
+        for (int i = 0; i < 3; i++) {
+            Result result = matcher.match("com.mycompany.some.service.special.name").get();
+
+            assertThat(result.getNumberOfGroups()).isEqualTo(2);
+            assertThat(result.getGroup(0)).isEqualTo("com.mycompany.some.service.special.name");
+            assertThat(result.getGroup(1)).isEqualTo("mycompany");
+            assertThat(result.getGroup(2)).isEqualTo("special.name");
+            assertThatThrownBy(() -> result.getGroup(3)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThat(matcher.match("com.mycompany.some.other")).isEmpty();
+        }
+    }
 }
@@ -15,6 +15,25 @@ public class PackageMatchersTest {
                 .rejects("matc.hother");
     }
 
+    @Test
+    public void matches_any_package_with_groups_and_alternations() {
+        assertThat(PackageMatchers.of("com.(*).service..", "..[api|spi].(**)"))
+                .accepts("com.mycompany.service")
+                .accepts("com.mycompany.service.special")
+                .accepts("org.api.some.thing")
+                .accepts("spi.some")
+                .rejects("com.mycompany.other")
+                .rejects("org.api")
+                .rejects("org.apis.thing");
+    }
+
+    @Test
+    public void matches_nothing_without_package_identifiers() {
+        assertThat(PackageMatchers.of())
+                .rejects("")
+                .rejects("com.mycompany");
+    }
+
     @Test
     public void description() {
         assertThat(PackageMatchers.of("..foo..", "..bar.."))
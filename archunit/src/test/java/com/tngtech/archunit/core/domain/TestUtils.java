@@ -82,6 +82,10 @@ public class TestUtils {
         }
     }
 
+    public static boolean hasDeferredMembers(JavaClass javaClass) {
+        return javaClass.hasDeferredMembers();
+    }
+
     public static JavaClass importClassWithContext(Class<?> owner) {
         return getOnlyElement(importClassesWithContext(owner));
     }
@@ -10,14 +10,21 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.InstanceofCheck;
 import com.tngtech.archunit.core.domain.JavaAnnotation;
 import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaConstructor;
 import com.tngtech.archunit.core.domain.JavaConstructorCall;
 import com.tngtech.archunit.core.domain.JavaConstructorReference;
@@ -50,6 +57,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.tngtech.archunit.core.domain.TestUtils.hasDeferredMembers;
 import static com.tngtech.archunit.core.importer.ClassFileImporterTestUtils.getMethodCallsFromClassWithoutAutomaticNullCheck;
 import static com.tngtech.archunit.core.importer.DependencyResolutionProcess.MAX_ITERATIONS_FOR_ACCESSES_TO_TYPES_PROPERTY_NAME;
 import static com.tngtech.archunit.core.importer.DependencyResolutionProcess.MAX_ITERATIONS_FOR_ANNOTATION_TYPES_PROPERTY_NAME;
@@ -68,6 +76,7 @@ import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static com.tngtech.archunit.testutil.Assertions.assertThatAnnotation;
 import static com.tngtech.archunit.testutil.Assertions.assertThatType;
 import static com.tngtech.archunit.testutil.assertion.JavaAnnotationAssertion.annotationProperty;
+import static java.util.stream.Collectors.toSet;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 public class ClassFileImporterAutomaticResolutionTest {
@@ -153,6 +162,86 @@ public class ClassFileImporterAutomaticResolutionTest {
         assertThat(grandParentInterfaceIndirect).isFullyImported(true);
     }
 
+    @Test
+    public void defers_completion_of_members_of_classes_resolved_as_dependencies_until_first_access() {
+        JavaClasses classes = new ClassFileImporter().importClasses(ClassWithFileField.class);
+
+        JavaClass javaClass = classes.get(ClassWithFileField.class);
+        JavaClass fieldType = javaClass.getField("field").getRawType();
+        assertThat(hasDeferredMembers(javaClass)).as("directly imported class has deferred members").isFalse();
+        assertThat(hasDeferredMembers(fieldType)).as("class resolved as dependency has deferred members").isTrue();
+
+        fieldType.getMethods();
+
+        assertThat(hasDeferredMembers(fieldType)).as("class resolved as dependency has deferred members after first access").isFalse();
+    }
+
+    @Test
+    public void completes_members_of_classes_resolved_as_dependencies_on_first_access() {
+        JavaClass javaClass = new ClassFileImporter().importClass(ClassWithFileField.class);
+
+        JavaClass fieldType = javaClass.getField("field").getRawType();
+        assertThat(fieldType).isFullyImported(true);
+        assertThatType(fieldType.getMethod("exists").getRawReturnType()).matches(boolean.class);
+        assertThat(fieldType.getConstructor(String.class).getOwner()).isEqualTo(fieldType);
+        assertThat(fieldType.getDirectDependenciesToSelf())
+                .extracting(Dependency::getOriginClass)
+                .containsOnly(javaClass);
+    }
+
+    @Test
+    public void resolves_member_types_of_lazily_completed_classes_as_part_of_the_import() {
+        JavaClasses classes = new ClassFileImporter().importClasses(ClassWithThreadPoolExecutorField.class);
+        Set<JavaClass> classesInPackageTree = classes.getDefaultPackage().getClassesInPackageTree();
+
+        JavaClass executor = classes.get(ClassWithThreadPoolExecutorField.class).getField("field").getRawType();
+        JavaClass timeUnit = executor.getMethod("getKeepAliveTime", TimeUnit.class).getRawParameterTypes().get(0);
+        assertThat(timeUnit).isSameAs(classes.getPackage(TimeUnit.class.getPackage().getName()).getClass(TimeUnit.class));
+
+        for (JavaClass javaClass : classesInPackageTree) {
+            assertThat(classesInPackageTree).containsAll(javaClass.getDirectDependenciesFromSelf()
+                    .stream().map(Dependency::getTargetClass).collect(toSet()));
+        }
+    }
+
+    @Test
+    public void resolves_array_types_of_lazily_completed_classes_as_part_of_the_import() {
+        JavaClasses classes = new ClassFileImporter().importClasses(ClassWithStreamField.class);
+        Set<JavaClass> classesInPackageTree = classes.getDefaultPackage().getClassesInPackageTree();
+        JavaClass stream = classes.get(ClassWithStreamField.class).getField("field").getRawType();
+
+        JavaClass arrayType = stream.getMethod("toArray").getRawReturnType();
+        assertThatType(arrayType).matches(Object[].class);
+        assertThat(classesInPackageTree).contains(arrayType, arrayType.getComponentType());
+
+        JavaParameterizedType generatorType = (JavaParameterizedType) stream.getMethod("toArray", IntFunction.class)
+                .getParameterTypes().get(0);
+        JavaClass genericArrayErasure = getOnlyElement(generatorType.getActualTypeArguments()).toErasure();
+        assertThat(classesInPackageTree).contains(genericArrayErasure, genericArrayErasure.getComponentType());
+    }
+
+    @Test
+    public void reverse_dependencies_contain_members_of_lazily_completed_classes() {
+        JavaClasses classes = new ClassFileImporter().importClasses(ClassWithThreadPoolExecutorField.class);
+
+        JavaClass timeUnit = classes.getPackage(TimeUnit.class.getPackage().getName()).getClass(TimeUnit.class);
+        JavaClass executor = classes.getPackage(ThreadPoolExecutor.class.getPackage().getName()).getClass(ThreadPoolExecutor.class);
+        assertThat(timeUnit.getConstructorsWithParameterTypeOfSelf())
+                .contains(executor.getConstructor(int.class, int.class, long.class, TimeUnit.class, BlockingQueue.class));
+        assertThat(timeUnit.getMethodsWithParameterTypeOfSelf())
+                .contains(executor.getMethod("getKeepAliveTime", TimeUnit.class));
+    }
+
+    @Test
+    public void transitive_dependencies_contain_dependencies_of_lazily_completed_classes() {
+        JavaClasses classes = new ClassFileImporter().importClasses(ClassWithThreadPoolExecutorField.class);
+
+        JavaClass timeUnit = classes.getPackage(TimeUnit.class.getPackage().getName()).getClass(TimeUnit.class);
+        assertThat(classes.get(ClassWithThreadPoolExecutorField.class).getTransitiveDependenciesFromSelf())
+                .extracting(Dependency::getTargetClass)
+                .contains(timeUnit);
+    }
+
     @Test
     public void automatically_resolves_class_annotations() {
         JavaClass clazz = ImporterWithAdjustedResolutionRuns.disableAllIterationsExcept(MAX_ITERATIONS_FOR_ANNOTATION_TYPES_PROPERTY_NAME)
@@ -806,6 +895,21 @@ public class ClassFileImporterAutomaticResolutionTest {
     }
 
     @MetaAnnotatedAnnotation
+    @SuppressWarnings("unused")
+    private static class ClassWithFileField {
+        File field;
+    }
+
+    @SuppressWarnings("unused")
+    private static class ClassWithThreadPoolExecutorField {
+        ThreadPoolExecutor field;
+    }
+
+    @SuppressWarnings("unused")
+    private static class ClassWithStreamField {
+        Stream<?> field;
+    }
+
     private static class MetaAnnotatedClass {
     }
 
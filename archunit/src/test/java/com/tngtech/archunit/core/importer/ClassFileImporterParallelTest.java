@@ -0,0 +1,81 @@
+package com.tngtech.archunit.core.importer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.core.domain.JavaPackage;
+import org.junit.jupiter.api.Test;
+
+import static com.tngtech.archunit.testutil.ArchConfigurationRule.resetConfigurationAround;
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+import static java.util.stream.Collectors.toList;
+
+public class ClassFileImporterParallelTest {
+
+    @Test
+    public void parallel_import_yields_the_same_classes_as_sequential_import() {
+        Supplier<JavaClasses> importClasses = () -> new ClassFileImporter().importPackagesOf(ClassFileImporter.class, JavaClass.class);
+
+        JavaClasses sequentiallyImported = importWithParallelism(1, importClasses);
+        JavaClasses parallelImported = importWithParallelism(4, importClasses);
+
+        assertThat(describe(parallelImported)).containsExactlyElementsOf(describe(sequentiallyImported));
+    }
+
+    @Test
+    public void parallel_import_calculates_the_same_md5_sums_as_sequential_import() {
+        Supplier<JavaClasses> importClassesWithMd5Sums = () -> {
+            ArchConfiguration.get().setMd5InClassSourcesEnabled(true);
+            return new ClassFileImporter().importPackagesOf(ClassFileImporter.class, JavaClass.class);
+        };
+
+        JavaClasses sequentiallyImported = importWithParallelism(1, importClassesWithMd5Sums);
+        JavaClasses parallelImported = importWithParallelism(4, importClassesWithMd5Sums);
+
+        assertThat(describe(parallelImported)).containsExactlyElementsOf(describe(sequentiallyImported));
+        assertThat(sequentiallyImported.get(JavaClass.class).getSource().get().getMd5sum().asBytes()).as("MD5 sum").hasSize(16);
+    }
+
+    @Test
+    public void parallel_import_of_overlapping_locations_imports_each_class_only_once() {
+        Supplier<JavaClasses> importClasses = () -> new ClassFileImporter().importLocations(Stream.of(
+                        Locations.ofPackage(JavaClass.class.getPackage().getName()),
+                        Locations.ofClass(JavaClass.class),
+                        Locations.ofClass(JavaPackage.class))
+                .flatMap(Collection::stream)
+                .collect(toList()));
+
+        JavaClasses sequentiallyImported = importWithParallelism(1, importClasses);
+        JavaClasses parallelImported = importWithParallelism(8, importClasses);
+
+        assertThat(describe(parallelImported)).containsExactlyElementsOf(describe(sequentiallyImported));
+    }
+
+    private static JavaClasses importWithParallelism(int parallelism, Supplier<JavaClasses> importClasses) {
+        return resetConfigurationAround(() -> {
+            ArchConfiguration.get().setImportParallelism(parallelism);
+            return importClasses.get();
+        });
+    }
+
+    private static List<String> describe(JavaClasses classes) {
+        return classes.stream()
+                .flatMap(javaClass -> Stream.of(
+                        Stream.of(javaClass.getName() + " " + javaClass.getModifiers() + " " + javaClass.getSource()),
+                        javaClass.getMembers().stream().map(JavaMember::getFullName),
+                        javaClass.getAccessesFromSelf().stream().map(JavaAccess::getDescription),
+                        javaClass.getDirectDependenciesFromSelf().stream().map(Dependency::getDescription),
+                        javaClass.getDirectDependenciesToSelf().stream().map(Dependency::getDescription)
+                ).flatMap(it -> it))
+                .sorted()
+                .collect(toList());
+    }
+}
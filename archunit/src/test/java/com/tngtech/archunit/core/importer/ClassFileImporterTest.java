@@ -10,7 +10,10 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -18,6 +21,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.ArchUnitException.CodeNotImportedException;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.AccessTarget.CodeUnitAccessTarget;
 import com.tngtech.archunit.core.domain.JavaClass;
@@ -98,6 +102,8 @@ import static com.tngtech.archunit.core.domain.SourceTest.bytesAt;
 import static com.tngtech.archunit.core.domain.TestUtils.MD5_SUM_DISABLED;
 import static com.tngtech.archunit.core.domain.TestUtils.md5sumOf;
 import static com.tngtech.archunit.core.domain.properties.HasName.Utils.namesOf;
+import static com.tngtech.archunit.core.importer.ClassFileImporter.DetailLevel.FULL;
+import static com.tngtech.archunit.core.importer.ClassFileImporter.DetailLevel.SIGNATURES;
 import static com.tngtech.archunit.core.importer.ClassFileImporterTestUtils.findAnyByName;
 import static com.tngtech.archunit.core.importer.ClassFileImporterTestUtils.jarFileOf;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
@@ -113,6 +119,7 @@ import static com.tngtech.archunit.testutil.assertion.ExpectedConcreteType.Expec
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public class ClassFileImporterTest {
@@ -770,6 +777,73 @@ public class ClassFileImporterTest {
         assertThat(clazz.getRawSuperclass().get().getMethods()).isEmpty();
     }
 
+    @Test
+    public void reports_import_statistics_to_registered_listeners() throws Exception {
+        File folder = outsideOfClassPath.getTemporaryFolder();
+        copyClassFile(ClassToImportOne.class, folder);
+        ArchConfiguration.get().unsetClassResolver();
+        List<ImportStatistics> reported = new ArrayList<>();
+        ClassFileImporter importer = new ClassFileImporter().withImportListener(reported::add);
+
+        ArchConfiguration.get().setResolveMissingDependenciesFromClassPath(true);
+        importer.importPath(folder.toPath());
+
+        ImportStatistics statistics = getOnlyElement(reported);
+        assertThat(statistics.getNumberOfParsedClasses()).isEqualTo(1);
+        assertThat(statistics.getNumberOfResolvedClasses()).isPositive();
+        assertThat(statistics.getNumberOfResolutionRounds()).isPositive();
+        assertThat(statistics.getNumberOfBytesRead()).isGreaterThan(Files.size(Paths.get(uriOf(ClassToImportOne.class))));
+        assertThat(stream(ImportStatistics.Phase.values()).map(statistics::getDuration).reduce(Duration.ZERO, Duration::plus))
+                .isEqualTo(statistics.getTotalDuration());
+
+        reported.clear();
+        ArchConfiguration.get().setResolveMissingDependenciesFromClassPath(false);
+        importer.importPath(folder.toPath());
+
+        statistics = getOnlyElement(reported);
+        assertThat(statistics.getNumberOfParsedClasses()).isEqualTo(1);
+        assertThat(statistics.getNumberOfResolvedClasses()).isZero();
+        assertThat(statistics.getNumberOfStubbedClasses()).isPositive();
+        assertThat(statistics.getNumberOfBytesRead()).isEqualTo(Files.size(Paths.get(uriOf(ClassToImportOne.class))));
+    }
+
+    @Test
+    public void logs_summary_of_import_statistics() {
+        logTest.watch(ImportListener.class, Level.INFO);
+
+        new ClassFileImporter().withImportListener(ImportListener.Predefined.LOG_SUMMARY).importClasses(ClassToImportOne.class);
+
+        logTest.assertLogMessage(Level.INFO, "Imported 1 classes");
+    }
+
+    @Test
+    public void imports_only_signatures_with_DetailLevel_SIGNATURES() {
+        JavaClasses classes = new ClassFileImporter().withDetailLevel(SIGNATURES).importClasses(SomeClass.class, SomeEnum.class);
+
+        JavaClass someClass = classes.get(SomeClass.class);
+        assertThatType(someClass.getField("other").getRawType()).matches(SomeEnum.class);
+        assertThatType(someClass.getMethod("methodWithSomeEnumReturnType", String.class).getRawReturnType()).matches(SomeEnum.class);
+
+        assertThatThrownBy(someClass::getAccessesFromSelf)
+                .isInstanceOf(CodeNotImportedException.class)
+                .hasMessageContaining(SomeClass.class.getName());
+        assertThatThrownBy(someClass::getDirectDependenciesFromSelf).isInstanceOf(CodeNotImportedException.class);
+        assertThatThrownBy(someClass.getMethod("methodWithSomeEnumReturnType", String.class)::getTryCatchBlocks)
+                .isInstanceOf(CodeNotImportedException.class);
+        assertThatThrownBy(classes.get(SomeEnum.class)::getAccessesToSelf).isInstanceOf(CodeNotImportedException.class);
+        assertThatThrownBy(classes.get(SomeEnum.class)::getDirectDependenciesToSelf).isInstanceOf(CodeNotImportedException.class);
+    }
+
+    @Test
+    public void imports_code_with_DetailLevel_FULL() {
+        JavaClasses classes = new ClassFileImporter().withDetailLevel(SIGNATURES).withDetailLevel(FULL)
+                .importClasses(SomeClass.class, SomeEnum.class);
+
+        assertThat(classes.get(SomeClass.class).getMethod("methodWithSomeEnumReturnType", String.class).getFieldAccesses())
+                .as("field accesses").isNotEmpty();
+        assertThat(classes.get(SomeEnum.class).getAccessesToSelf()).as("accesses to SomeEnum").isNotEmpty();
+    }
+
     @Test
     public void import_is_resilient_against_broken_class_files() throws Exception {
         Class<?> expectedClass = getClass();
@@ -0,0 +1,67 @@
+package com.tngtech.archunit.core.importer;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.List;
+import java.util.jar.JarFile;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.core.importer.testexamples.SomeEnum;
+import org.junit.jupiter.api.Test;
+
+import static com.tngtech.archunit.core.importer.LocationTest.classFileEntry;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClasspathPackageIndexTest {
+
+    @Test
+    public void finds_locations_containing_packages() throws MalformedURLException {
+        URL someEnumJar = jarUrlWithClasses(SomeEnum.class);
+        URL testJar = jarUrlWithClasses(getClass(), Locations.class);
+
+        ClasspathPackageIndex index = ClasspathPackageIndex.of(ImmutableList.of(someEnumJar, testJar));
+
+        assertThat(index.getLocationsContaining(packageResource("com.tngtech.archunit.core.importer.testexamples")))
+                .containsOnly(Location.of(someEnumJar));
+        assertThat(index.getLocationsContaining(packageResource("com.tngtech.archunit.core.importer")))
+                .containsOnly(Location.of(someEnumJar), Location.of(testJar));
+        assertThat(index.getLocationsContaining(packageResource("")))
+                .containsOnly(Location.of(someEnumJar), Location.of(testJar));
+        assertThat(index.getLocationsContaining(packageResource("com.tngtech.archunit.core.imp"))).isEmpty();
+        assertThat(index.getLocationsContaining(packageResource("com.tngtech.archunit.core.importer.testexamples.SomeEnum"))).isEmpty();
+    }
+
+    @Test
+    public void finds_locations_containing_classes() throws MalformedURLException {
+        URL someEnumJar = jarUrlWithClasses(SomeEnum.class, getClass());
+        URL testJar = jarUrlWithClasses(getClass(), Locations.class);
+
+        ClasspathPackageIndex index = ClasspathPackageIndex.of(ImmutableList.of(someEnumJar, testJar));
+
+        assertThat(index.getLocationsContaining(classFileEntry(SomeEnum.class))).containsOnly(Location.of(someEnumJar));
+        assertThat(index.getLocationsContaining(classFileEntry(getClass()))).containsOnly(Location.of(someEnumJar), Location.of(testJar));
+        assertThat(index.getLocationsContaining(classFileEntry(Locations.class))).containsOnly(Location.of(testJar));
+        assertThat(index.getLocationsContaining(classFileEntry(ClasspathPackageIndex.class))).isEmpty();
+    }
+
+    @Test
+    public void reuses_index_of_same_classpath() throws MalformedURLException {
+        List<URL> classpath = ImmutableList.of(jarUrlWithClasses(SomeEnum.class), jarUrlWithClasses(getClass()));
+
+        assertThat(ClasspathPackageIndex.of(classpath)).isSameAs(ClasspathPackageIndex.of(ImmutableList.copyOf(classpath)));
+    }
+
+    private static URL jarUrlWithClasses(Class<?>... classes) throws MalformedURLException {
+        TestJarFile testJarFile = new TestJarFile();
+        for (Class<?> clazz : classes) {
+            testJarFile.withEntry(classFileEntry(clazz).toAbsolutePath());
+        }
+        JarFile jarFile = testJarFile.create();
+        return new File(jarFile.getName()).toURI().toURL();
+    }
+
+    private static NormalizedResourceName packageResource(String packageName) {
+        return NormalizedResourceName.from(packageName.replace('.', '/'));
+    }
+}
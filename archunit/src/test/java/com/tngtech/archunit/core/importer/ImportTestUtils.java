@@ -313,7 +313,8 @@ public class ImportTestUtils {
                             return Optional.empty();
                         }
                     },
-                    (declaringClassName, methodName) -> Optional.empty());
+                    (declaringClassName, methodName) -> Optional.empty(),
+                    new ImportStatistics.Recorder());
         }
 
         void register(JavaClass clazz) {
@@ -450,5 +451,10 @@ public class ImportTestUtils {
         public JavaClass resolveClass(String fullyQualifiedClassName) {
             throw new UnsupportedOperationException("Override me where necessary");
         }
+
+        @Override
+        public boolean isCodeImported() {
+            return true;
+        }
     }
 }
@@ -0,0 +1,179 @@
+package com.tngtech.archunit.core.importer;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.importer.testexamples.instanceofcheck.ChecksInstanceofInMethod;
+import com.tngtech.archunit.core.importer.testexamples.instanceofcheck.InstanceofChecked;
+import com.tngtech.archunit.core.importer.testexamples.trycatch.ClassWithComplexTryCatchBlocks;
+import com.tngtech.archunit.core.importer.testexamples.trycatch.ClassWithTryWithResources;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.tngtech.archunit.testutil.ArchConfigurationRule.resetConfigurationAround;
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+import static com.tngtech.archunit.testutil.Assertions.assertThatTypes;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+public class PersistentClassFileCacheTest {
+    @TempDir
+    Path cacheDir;
+
+    @TempDir
+    File jarDir;
+
+    @Test
+    public void imports_the_same_classes_when_creating_and_when_reading_the_cache() {
+        String jarPath = new TestJarFile()
+                .withEntry(classFileResource(ClassWithComplexTryCatchBlocks.class))
+                .withEntry(classFileResource(ClassWithTryWithResources.class))
+                .withEntry(classFileResource(ChecksInstanceofInMethod.class))
+                .withEntry(classFileResource(InstanceofChecked.class))
+                .createAndReturnName(new File(jarDir, "test.jar"));
+
+        List<String> withoutCache = describe(importJar(jarPath));
+        List<String> creatingCache = describe(importJarWithCache(jarPath));
+        assertThat(cacheFiles()).hasSize(1);
+        List<String> readingCache = describe(importJarWithCache(jarPath));
+
+        assertThat(creatingCache).containsExactlyElementsOf(withoutCache);
+        assertThat(readingCache).containsExactlyElementsOf(withoutCache);
+    }
+
+    @Test
+    public void recreates_cache_if_JAR_changed() {
+        File jarFile = new File(jarDir, "test.jar");
+        new TestJarFile()
+                .withEntry(classFileResource(InstanceofChecked.class))
+                .createAndReturnName(jarFile);
+        assertThatTypes(importJarWithCache(jarFile.getAbsolutePath())).matchInAnyOrder(InstanceofChecked.class);
+
+        new TestJarFile()
+                .withEntry(classFileResource(InstanceofChecked.class))
+                .withEntry(classFileResource(ChecksInstanceofInMethod.class))
+                .createAndReturnName(jarFile);
+
+        JavaClasses classes = importJarWithCache(jarFile.getAbsolutePath());
+
+        assertThatTypes(classes).matchInAnyOrder(InstanceofChecked.class, ChecksInstanceofInMethod.class);
+        assertThat(cacheFiles()).hasSize(1);
+    }
+
+    @Test
+    public void stores_new_last_modified_time_if_content_of_JAR_is_unchanged() throws IOException {
+        File jarFile = new File(jarDir, "test.jar");
+        new TestJarFile()
+                .withEntry(classFileResource(InstanceofChecked.class))
+                .createAndReturnName(jarFile);
+        importJarWithCache(jarFile.getAbsolutePath());
+
+        long newLastModified = jarFile.lastModified() + 10_000;
+        assertThat(jarFile.setLastModified(newLastModified)).as("last modified time was set").isTrue();
+        JavaClasses classes = importJarWithCache(jarFile.getAbsolutePath());
+
+        assertThatTypes(classes).matchInAnyOrder(InstanceofChecked.class);
+        assertThat(storedLastModified(getOnlyElement(cacheFiles()))).isEqualTo(jarFile.lastModified());
+    }
+
+    @Test
+    public void reads_cache_of_JAR_only_once() throws IOException {
+        String jarPath = new TestJarFile()
+                .withEntry(classFileResource(InstanceofChecked.class))
+                .createAndReturnName(new File(jarDir, "test.jar"));
+        PersistentClassFileCache cache = resetConfigurationAround(() -> {
+            ArchConfiguration.get().setProperty("import.persistentCache.enabled", "true");
+            ArchConfiguration.get().setProperty("import.persistentCache.directory", cacheDir.toString());
+            return PersistentClassFileCache.fromConfiguration();
+        });
+
+        try (JarFile jarFile = new JarFile(jarPath); JarFile sameJarFile = new JarFile(jarPath)) {
+            assertThat(cache.forJar(sameJarFile)).isSameAs(cache.forJar(jarFile));
+        }
+    }
+
+    @Test
+    public void falls_back_to_JAR_if_cache_is_corrupt() throws IOException {
+        String jarPath = new TestJarFile()
+                .withEntry(classFileResource(ChecksInstanceofInMethod.class))
+                .createAndReturnName(new File(jarDir, "test.jar"));
+        importJarWithCache(jarPath);
+        for (Path cacheFile : cacheFiles()) {
+            Files.write(cacheFile, "corrupt".getBytes(UTF_8));
+        }
+
+        JavaClasses classes = importJarWithCache(jarPath);
+
+        assertThat(describe(classes)).containsExactlyElementsOf(describe(importJar(jarPath)));
+    }
+
+    private JavaClasses importJarWithCache(String jarPath) {
+        return resetConfigurationAround(() -> {
+            ArchConfiguration.get().setProperty("import.persistentCache.enabled", "true");
+            ArchConfiguration.get().setProperty("import.persistentCache.directory", cacheDir.toString());
+            return importJar(jarPath);
+        });
+    }
+
+    private static JavaClasses importJar(String jarPath) {
+        try (JarFile jarFile = new JarFile(jarPath)) {
+            return new ClassFileImporter().importJar(jarFile);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<Path> cacheFiles() {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.collect(toList());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static long storedLastModified(Path cacheFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(cacheFile))) {
+            in.readInt(); // magic number
+            in.readInt(); // format version
+            in.readUTF(); // JAR path
+            return in.readLong();
+        }
+    }
+
+    private static String classFileResource(Class<?> clazz) {
+        return String.format("/%s.class", clazz.getName().replace('.', '/'));
+    }
+
+    private static List<String> describe(JavaClasses classes) {
+        return classes.stream()
+                .flatMap(javaClass -> Stream.of(
+                        Stream.of(javaClass.getName() + " " + javaClass.getModifiers()),
+                        javaClass.getAccessesFromSelf().stream().map(access -> access.getDescription() + " " + access.getSourceCodeLocation()),
+                        javaClass.getCodeUnits().stream().flatMap(PersistentClassFileCacheTest::describeCodeUnit),
+                        javaClass.getDirectDependenciesFromSelf().stream().map(Dependency::getDescription)
+                ).flatMap(it -> it))
+                .sorted()
+                .collect(toList());
+    }
+
+    private static Stream<String> describeCodeUnit(JavaCodeUnit codeUnit) {
+        return Stream.concat(
+                codeUnit.getTryCatchBlocks().stream().map(tryCatchBlock -> codeUnit.getFullName() + " catches " + tryCatchBlock.getCaughtThrowables()
+                        + " " + tryCatchBlock.getSourceCodeLocation()
+                        + " around " + tryCatchBlock.getAccessesContainedInTryBlock().stream().map(JavaAccess::getDescription).sorted().collect(toList())),
+                codeUnit.getInstanceofChecks().stream().map(check -> codeUnit.getFullName() + " instanceof " + check.getRawType().getName()
+                        + " " + check.getSourceCodeLocation()));
+    }
+}
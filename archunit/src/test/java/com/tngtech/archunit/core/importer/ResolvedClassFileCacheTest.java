@@ -0,0 +1,112 @@
+package com.tngtech.archunit.core.importer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.testexamples.trycatch.ClassWithComplexTryCatchBlocks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.tngtech.archunit.testutil.ArchConfigurationRule.resetConfigurationAround;
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+import static java.util.stream.Collectors.toList;
+
+public class ResolvedClassFileCacheTest {
+    @TempDir
+    File jarDir;
+
+    @BeforeEach
+    public void setUp() {
+        ResolvedClassFileCache.fromConfiguration().invalidateAll();
+    }
+
+    @Test
+    public void resolves_the_same_classes_when_filling_and_when_reading_the_cache() {
+        List<String> withoutCache = describeResolvedClasses(importWithoutCache());
+        List<String> fillingCache = describeResolvedClasses(importClasses());
+        assertThat(ResolvedClassFileCache.fromConfiguration().size()).as("number of cached class files").isGreaterThan(0);
+        List<String> readingCache = describeResolvedClasses(importClasses());
+
+        assertThat(fillingCache).containsExactlyElementsOf(withoutCache);
+        assertThat(readingCache).containsExactlyElementsOf(withoutCache);
+    }
+
+    @Test
+    public void does_not_cache_class_files_from_directories() throws Exception {
+        URI uri = getClass().getResource(getClass().getSimpleName() + ".class").toURI();
+
+        readFully(ResolvedClassFileCache.fromConfiguration(), uri);
+
+        assertThat(ResolvedClassFileCache.fromConfiguration().size()).as("number of cached class files").isZero();
+    }
+
+    @Test
+    public void does_not_reuse_class_files_of_changed_JAR() throws Exception {
+        File jarFile = new File(jarDir, "test.jar");
+        String entry = ClassWithComplexTryCatchBlocks.class.getName().replace('.', '/') + ".class";
+        URI uri = URI.create("jar:" + jarFile.toURI() + "!/" + entry);
+        ResolvedClassFileCache cache = ResolvedClassFileCache.fromConfiguration();
+
+        new TestJarFile().withEntry("/" + entry).createAndReturnName(jarFile);
+        readFully(cache, uri);
+        readFully(cache, uri);
+        assertThat(cache.size()).as("number of cached class files").isEqualTo(1);
+
+        assertThat(jarFile.setLastModified(jarFile.lastModified() - 10_000)).as("changed last modified time").isTrue();
+        readFully(cache, uri);
+        assertThat(cache.size()).as("number of cached class files").isEqualTo(2);
+    }
+
+    @Test
+    public void can_be_disabled() {
+        resetConfigurationAround(() -> {
+            ArchConfiguration.get().setProperty("import.resolutionCache.enabled", "false");
+            return importClasses();
+        });
+
+        assertThat(ResolvedClassFileCache.fromConfiguration().size()).as("number of cached class files").isZero();
+    }
+
+    private static JavaClasses importWithoutCache() {
+        return resetConfigurationAround(() -> {
+            ArchConfiguration.get().setProperty("import.resolutionCache.enabled", "false");
+            return importClasses();
+        });
+    }
+
+    private static JavaClasses importClasses() {
+        return new ClassFileImporter().importClasses(ClassWithComplexTryCatchBlocks.class);
+    }
+
+    private static void readFully(ResolvedClassFileCache cache, URI uri) throws IOException {
+        try (InputStream in = cache.openStream(uri)) {
+            while (in.read() >= 0) {
+                // read the whole class file
+            }
+        }
+    }
+
+    private static List<String> describeResolvedClasses(JavaClasses classes) {
+        return classes.stream()
+                .flatMap(javaClass -> javaClass.getDirectDependenciesFromSelf().stream().map(Dependency::getTargetClass))
+                .distinct()
+                .flatMap(ResolvedClassFileCacheTest::describe)
+                .sorted()
+                .collect(toList());
+    }
+
+    private static Stream<String> describe(JavaClass javaClass) {
+        return Stream.concat(
+                Stream.of(javaClass.getName() + " " + javaClass.getModifiers() + " " + javaClass.getRawInterfaces()),
+                javaClass.getMembers().stream().map(member -> member.getFullName() + " " + member.getModifiers()));
+    }
+}
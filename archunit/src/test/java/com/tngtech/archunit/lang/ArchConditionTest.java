@@ -264,6 +264,46 @@ public class ArchConditionTest {
                 .haveOneViolationMessageContaining(String.format("Class <%s> true some description", Object.class.getName()));
     }
 
+    @Test
+    public void conditions_are_not_thread_safe_by_default() {
+        assertThat(greaterThan(1).isThreadSafe()).isFalse();
+        assertThat(someCondition("any").isThreadSafe()).isFalse();
+    }
+
+    @Test
+    public void thread_safety_is_derived_from_combined_conditions() {
+        ArchCondition<Integer> threadSafe = threadSafe(greaterThan(1));
+
+        assertThat(threadSafe.as("changed").isThreadSafe()).isTrue();
+        assertThat(never(threadSafe).isThreadSafe()).isTrue();
+        assertThat(threadSafe.and(threadSafe(greaterThan(2))).isThreadSafe()).isTrue();
+        assertThat(threadSafe.or(threadSafe(greaterThan(2))).isThreadSafe()).isTrue();
+
+        assertThat(threadSafe.and(greaterThan(2)).isThreadSafe()).isFalse();
+        assertThat(greaterThan(2).or(threadSafe).isThreadSafe()).isFalse();
+        assertThat(never(greaterThan(2)).isThreadSafe()).isFalse();
+    }
+
+    @Test
+    public void conditions_from_predicates_are_thread_safe() {
+        assertThat(ArchCondition.from(alwaysTrue()).isThreadSafe()).isTrue();
+        assertThat(ArchCondition.from(alwaysTrue()).as("changed").isThreadSafe()).isTrue();
+    }
+
+    private <T> ArchCondition<T> threadSafe(ArchCondition<T> condition) {
+        return new ArchCondition<T>(condition.getDescription()) {
+            @Override
+            public void check(T item, ConditionEvents events) {
+                condition.check(item, events);
+            }
+
+            @Override
+            public boolean isThreadSafe() {
+                return true;
+            }
+        };
+    }
+
     private ArchCondition<Integer> greaterThan(int... numbers) {
         return new ArchCondition<Integer>("greater than " + Arrays.toString(numbers)) {
             @Override
@@ -0,0 +1,92 @@
+package com.tngtech.archunit.lang;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.TestUtils.importClassesWithContext;
+import static com.tngtech.archunit.lang.SimpleConditionEvent.violated;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArchRuleBatchTest {
+    private final JavaClasses classes = importClassesWithContext(ArchRuleBatch.class, ArchRuleBatchTest.class, ArchRuleTest.class);
+
+    @Test
+    public void evaluates_each_rule_with_its_own_result() {
+        CountingNameTransformer names = new CountingNameTransformer();
+        ArchRule first = all(names).that(endWith("Test")).should(notBeNamed(ArchRuleBatchTest.class.getName()));
+        ArchRule second = all(names).that(endWith("Test")).should(notBeNamed(ArchRuleTest.class.getName()));
+        ArchRule third = all(names).that(endWith("Batch")).should(notBeNamed(ArchRuleBatch.class.getName()));
+
+        List<EvaluationResult> results = ArchRuleBatch.evaluateAll(classes, ImmutableList.of(first, second, third));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).getFailureReport().getDetails()).containsExactly(ArchRuleBatchTest.class.getName());
+        assertThat(results.get(1).getFailureReport().getDetails()).containsExactly(ArchRuleTest.class.getName());
+        assertThat(results.get(2).getFailureReport().getDetails()).containsExactly(ArchRuleBatch.class.getName());
+        assertThat(results.get(0).getProfile().getNumberOfCheckedObjects()).isEqualTo(2);
+        assertThat(results.get(2).getProfile().getNumberOfCheckedObjects()).isEqualTo(1);
+    }
+
+    @Test
+    public void shares_the_selection_of_rules_with_the_same_transformer_and_predicates() {
+        CountingNameTransformer names = new CountingNameTransformer();
+        List<ArchRule> rules = ImmutableList.of(
+                all(names).that(endWith("Test")).should(notBeNamed("first")),
+                all(names).that(endWith("Test")).should(notBeNamed("second")),
+                all(names).that(endWith("Test")).should(notBeNamed("third")).because("the reason doesn't matter"),
+                all(names).that(endWith("Batch")).should(notBeNamed("fourth")));
+
+        ArchRuleBatch.evaluateAll(classes, rules);
+
+        assertThat(names.numberOfTransformations).as("number of transformations").hasValue(2);
+    }
+
+    @Test
+    public void does_not_share_the_selection_outside_of_the_batch() {
+        CountingNameTransformer names = new CountingNameTransformer();
+        ArchRule rule = all(names).that(endWith("Test")).should(notBeNamed("any"));
+
+        ArchRuleBatch.evaluateAll(classes, ImmutableList.of(rule, rule));
+        rule.evaluate(classes);
+        rule.evaluate(classes);
+
+        assertThat(names.numberOfTransformations).as("number of transformations").hasValue(3);
+    }
+
+    private static DescribedPredicate<String> endWith(String suffix) {
+        return DescribedPredicate.describe("end with " + suffix, name -> name.endsWith(suffix));
+    }
+
+    private static ArchCondition<String> notBeNamed(String name) {
+        return new ArchCondition<String>("not be named " + name) {
+            @Override
+            public void check(String item, ConditionEvents events) {
+                if (item.equals(name)) {
+                    events.add(violated(item, item));
+                }
+            }
+        };
+    }
+
+    private static class CountingNameTransformer extends AbstractClassesTransformer<String> {
+        private final AtomicInteger numberOfTransformations = new AtomicInteger();
+
+        CountingNameTransformer() {
+            super("names");
+        }
+
+        @Override
+        public Iterable<String> doTransform(JavaClasses collection) {
+            numberOfTransformations.incrementAndGet();
+            return collection.stream().map(JavaClass::getName).collect(toSet());
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.tngtech.archunit.lang;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaClassesTest;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.testexamples.SomeClass;
 import com.tngtech.archunit.lang.ArchConditionTest.ConditionWithInitAndFinish;
 import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
@@ -99,6 +104,45 @@ public class ArchRuleTest {
         assertThat(result.getFailureReport().toString()).contains("(2 times)");
     }
 
+    @Test
+    public void evaluation_result_profiles_the_evaluation() {
+        EvaluationProfile profile = classes().should(addFixedNumberOfViolations(3))
+                .evaluate(importClassesWithContext(Object.class, String.class))
+                .getProfile();
+
+        assertThat(profile.getNumberOfCheckedObjects()).isEqualTo(2);
+        assertThat(profile.getNumberOfViolations()).isEqualTo(6);
+        assertThat(profile.getTotalDuration()).isEqualTo(profile.getTransformationDuration()
+                .plus(profile.getInitDuration())
+                .plus(profile.getCheckDuration())
+                .plus(profile.getFinishDuration()));
+    }
+
+    @Test
+    public void profiles_of_composed_evaluation_results_are_summed_up() {
+        JavaClasses classes = importClassesWithContext(Object.class, String.class);
+
+        EvaluationProfile profile = CompositeArchRule.of(classes().should(addFixedNumberOfViolations(1)))
+                .and(classes().should(addFixedNumberOfViolations(2)))
+                .evaluate(classes)
+                .getProfile();
+
+        assertThat(profile.getNumberOfCheckedObjects()).isEqualTo(4);
+        assertThat(profile.getNumberOfViolations()).isEqualTo(6);
+    }
+
+    @Test
+    public void evaluation_result_without_violations_keeps_profile() {
+        EvaluationResult result = classes().should(addFixedNumberOfViolations(3))
+                .evaluate(importClassesWithContext(Object.class, String.class));
+
+        EvaluationResult withoutViolations = result.withoutViolations();
+
+        assertThat(withoutViolations.hasViolation()).as("result has violation").isFalse();
+        assertThat(withoutViolations.getPriority()).isEqualTo(result.getPriority());
+        assertThat(withoutViolations.getProfile()).isSameAs(result.getProfile());
+    }
+
     @Test
     public void rule_evaluation_inits_and_finishes_condition() {
         ConditionWithInitAndFinish condition = new ConditionWithInitAndFinish("irrelevant") {
@@ -117,6 +161,35 @@ public class ArchRuleTest {
         assertThat(condition.eventsFromFinish.getViolating()).hasSize(1);
     }
 
+    @Test
+    public void parallel_evaluation_reports_the_same_violations_in_the_same_order_as_sequential_evaluation() {
+        JavaClasses classes = new ClassFileImporter().importPackagesOf(ArchRule.class);
+        ArchRule rule = ArchRuleDefinition.noClasses().should().dependOnClassesThat().haveSimpleNameContaining("Condition")
+                .orShould().haveSimpleNameEndingWith("Test");
+
+        ArchConfiguration.get().setRuleEvaluationParallelism(1);
+        String sequentialReport = rule.evaluate(classes).getFailureReport().toString();
+        ArchConfiguration.get().setRuleEvaluationParallelism(4);
+        String parallelReport = rule.evaluate(classes).getFailureReport().toString();
+
+        assertThat(parallelReport).isNotEmpty().isEqualTo(sequentialReport);
+    }
+
+    @Test
+    public void conditions_that_are_not_thread_safe_are_checked_sequentially_on_the_evaluating_thread() {
+        ArchConfiguration.get().setRuleEvaluationParallelism(4);
+        Set<Thread> checkingThreads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+        classes().should(new ArchCondition<JavaClass>("record thread") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                checkingThreads.add(Thread.currentThread());
+            }
+        }).evaluate(new ClassFileImporter().importPackagesOf(ArchRule.class));
+
+        assertThat(checkingThreads).containsExactly(Thread.currentThread());
+    }
+
     @Test
     public void evaluation_fails_because_of_empty_set_of_elements_with_default_fail_on_empty_should() {
         assertThatThrownBy(
@@ -12,6 +12,7 @@ import com.tngtech.archunit.core.domain.JavaMethodCall;
 import com.tngtech.archunit.core.domain.TestUtils.AccessesSimulator;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.EvaluationResult;
 import org.junit.Test;
 
 import static com.tngtech.archunit.base.DescribedPredicate.alwaysFalse;
@@ -44,6 +45,8 @@ import static com.tngtech.archunit.lang.conditions.ArchConditions.not;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyBeAccessedByAnyPackage;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependentsInAnyPackage;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependentsWhere;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.transitivelyDependOnClassesThat;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static java.util.regex.Pattern.quote;
 
@@ -211,6 +214,24 @@ public class ArchConditionsTest {
                 .haveOneViolationMessageContaining("Method", "method()", "does not declare throwable of type " + SQLException.class.getName());
     }
 
+    @Test
+    public void transitively_depend_on_classes_that_does_not_reuse_results_of_previous_evaluation() {
+        JavaClasses classes = importClasses(TransitiveOrigin.class, TransitiveIntermediate.class, TransitiveTarget.class);
+        ArchCondition<JavaClass> condition = transitivelyDependOnClassesThat(type(TransitiveTarget.class));
+
+        // TransitiveTarget is under test itself, so the path via TransitiveIntermediate is not followed
+        EvaluationResult withTargetUnderTest = noClasses().that().belongToAnyOf(TransitiveOrigin.class, TransitiveTarget.class)
+                .should(condition).evaluate(classes);
+        EvaluationResult withoutTargetUnderTest = noClasses().that().belongToAnyOf(TransitiveOrigin.class)
+                .should(condition).evaluate(classes);
+
+        assertThat(withTargetUnderTest.hasViolation()).as("result has violation").isFalse();
+        assertThat(withoutTargetUnderTest.getFailureReport().getDetails()).containsExactly(String.format(
+                "Class <%s> transitively depends on <%s> by [%s->%s] in (%s.java:0)",
+                TransitiveOrigin.class.getName(), TransitiveTarget.class.getName(),
+                TransitiveIntermediate.class.getName(), TransitiveTarget.class.getName(), getClass().getSimpleName()));
+    }
+
     private ArchCondition<Object> conditionWithDescription(String description) {
         return new ArchCondition<Object>(description) {
             @Override
@@ -236,4 +257,17 @@ public class ArchConditionsTest {
 
     private static class SomeSuperclass {
     }
+
+    @SuppressWarnings("unused")
+    private static class TransitiveOrigin {
+        TransitiveIntermediate intermediate;
+    }
+
+    @SuppressWarnings("unused")
+    private static class TransitiveIntermediate {
+        TransitiveTarget target;
+    }
+
+    private static class TransitiveTarget {
+    }
 }
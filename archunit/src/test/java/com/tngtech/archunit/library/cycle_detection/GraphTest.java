@@ -11,6 +11,8 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Range;
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
 import org.junit.Test;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -19,6 +21,8 @@ import static com.google.common.collect.Iterables.getLast;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.google.common.collect.Sets.cartesianProduct;
 import static com.tngtech.archunit.library.cycle_detection.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
+import static com.tngtech.archunit.library.cycle_detection.CycleConfiguration.PARALLELISM_PROPERTY_NAME;
+import static com.tngtech.archunit.library.cycle_detection.CycleConfiguration.STOP_AFTER_FIRST_CYCLE_PROPERTY_NAME;
 import static com.tngtech.archunit.library.cycle_detection.CyclesAssertion.assertThatCycles;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
@@ -29,6 +33,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class GraphTest {
     private static final Random random = new Random();
 
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
+
     @Test
     public void graph_without_cycles() {
         Graph<String, Edge<String>> graph = new Graph<>();
@@ -162,6 +169,72 @@ public class GraphTest {
         assertThat(cycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isTrue();
     }
 
+    @Test
+    public void finds_cycles_of_component_that_is_not_reachable_from_lower_nodes() {
+        Graph<Integer, Edge<Integer>> graph = createGraphWithComponentNotReachableFromLowerNodes();
+
+        assertThatCycles(graph.findCycles()).containsOnly(
+                createCycle(ImmutableList.of(1, 2, 1)),
+                createCycle(ImmutableList.of(3, 4, 3)));
+    }
+
+    @Test
+    public void finds_the_same_cycles_in_the_same_order_regardless_of_parallelism() {
+        Graph<Integer, Edge<Integer>> graph = createIndependentCompleteGraphs(6, 4);
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, String.valueOf(70));
+
+        ArchConfiguration.get().setProperty(PARALLELISM_PROPERTY_NAME, String.valueOf(1));
+        Cycles<Edge<Integer>> sequentialCycles = graph.findCycles();
+        ArchConfiguration.get().setProperty(PARALLELISM_PROPERTY_NAME, String.valueOf(4));
+        Cycles<Edge<Integer>> parallelCycles = graph.findCycles();
+
+        assertThatCycles(sequentialCycles).hasSize(70);
+        assertThat(sequentialCycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isTrue();
+        assertThat(ImmutableList.copyOf(parallelCycles)).containsExactlyElementsOf(ImmutableList.copyOf(sequentialCycles));
+        assertThat(parallelCycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isTrue();
+    }
+
+    @Test
+    public void stops_after_first_cycle_if_configured() {
+        ArchConfiguration.get().setProperty(STOP_AFTER_FIRST_CYCLE_PROPERTY_NAME, "true");
+
+        Cycles<Edge<Integer>> cycles = createGraphWithComponentNotReachableFromLowerNodes().findCycles();
+
+        assertThatCycles(cycles).containsOnly(createCycle(ImmutableList.of(1, 2, 1)));
+        assertThat(cycles.stoppedAfterFirstCycle()).as("stopped after first cycle").isTrue();
+        assertThat(cycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isFalse();
+
+        Graph<String, Edge<String>> graphWithoutCycles = new Graph<>();
+        graphWithoutCycles.addNodes(asList(randomNode(), randomNode()));
+
+        assertThat(graphWithoutCycles.findCycles().stoppedAfterFirstCycle()).as("stopped after first cycle").isFalse();
+    }
+
+    private Graph<Integer, Edge<Integer>> createGraphWithComponentNotReachableFromLowerNodes() {
+        Graph<Integer, Edge<Integer>> graph = new Graph<>();
+        graph.addNodes(ImmutableList.of(0, 1, 2, 3, 4));
+        graph.addEdges(ImmutableSet.of(
+                newEdge(0, 3),
+                newEdge(3, 4),
+                newEdge(4, 3),
+                newEdge(1, 2),
+                newEdge(2, 1)
+        ));
+        return graph;
+    }
+
+    // the nodes of the complete graphs are interleaved, i.e. graph i consists of the nodes i, i + numberOfGraphs, i + 2 * numberOfGraphs, ...
+    private Graph<Integer, Edge<Integer>> createIndependentCompleteGraphs(int numberOfGraphs, int numberOfNodesPerGraph) {
+        Graph<Integer, Edge<Integer>> graph = new Graph<>();
+        ContiguousSet<Integer> nodes = ContiguousSet.create(Range.closedOpen(0, numberOfGraphs * numberOfNodesPerGraph), integers());
+        graph.addNodes(nodes);
+        graph.addEdges(cartesianProduct(nodes, nodes).stream()
+                .filter(input -> !input.get(0).equals(input.get(1)) && input.get(0) % numberOfGraphs == input.get(1) % numberOfGraphs)
+                .map(input -> integerEdge(input.get(0), input.get(1)))
+                .collect(toSet()));
+        return graph;
+    }
+
     private Graph<Integer, Edge<Integer>> createCompleteGraph(int n) {
         ContiguousSet<Integer> integers = ContiguousSet.create(Range.closedOpen(0, n), integers());
         Graph<Integer, Edge<Integer>> graph = new Graph<>();
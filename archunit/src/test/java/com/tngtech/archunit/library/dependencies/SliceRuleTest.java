@@ -32,6 +32,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import static com.google.common.math.IntMath.factorial;
 import static com.tngtech.archunit.library.cycle_detection.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
+import static com.tngtech.archunit.library.cycle_detection.CycleConfiguration.STOP_AFTER_FIRST_CYCLE_PROPERTY_NAME;
 import static com.tngtech.archunit.library.cycle_detection.rules.CycleRuleTestConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.GivenSlicesTest.TEST_CLASSES_PACKAGE;
 import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
@@ -132,6 +133,19 @@ public class SliceRuleTest {
                 + "this limit can be adapted using the `archunit.properties` value `cycles.maxNumberToDetect=xxx`)");
     }
 
+    @Test
+    public void reports_hint_that_cycles_have_been_omitted_if_detection_stopped_after_first_cycle() {
+        ArchConfiguration.get().setProperty(STOP_AFTER_FIRST_CYCLE_PROPERTY_NAME, "true");
+
+        String failureReport = getFailureReportForCyclesInRootPackageOf(CompleteSevenNodesGraphRoot.class);
+
+        assertThat(countCyclesInMessage(failureReport)).as("number of cycles").isEqualTo(1);
+        assertThat(failureReport).as("failure report")
+                .contains("( >= 1 times - the detection of cycles has been stopped after the first cycle; "
+                        + "this can be adapted using the `archunit.properties` value `cycles.stopAfterFirstCycle=false`)")
+                .doesNotContain("cycles.maxNumberToDetect");
+    }
+
     @Test
     public void limits_number_of_reported_dependencies_per_edge_to_configured_limit() {
         ArchConfiguration.get().setProperty(MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME, "3");
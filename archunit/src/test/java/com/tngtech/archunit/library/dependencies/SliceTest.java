@@ -12,6 +12,7 @@ import com.tngtech.archunit.library.testclasses.some.pkg.SomePkgException;
 import com.tngtech.archunit.library.testclasses.some.pkg.sub.SomePkgSubclass;
 import org.junit.Test;
 
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static com.tngtech.archunit.testutil.Assertions.assertThatDependencies;
 import static com.tngtech.archunit.testutil.assertion.DependenciesAssertion.from;
 
@@ -43,6 +44,17 @@ public class SliceTest {
         );
     }
 
+    @Test
+    public void dependencies_are_aggregated_once_and_shared_by_renamed_slices() {
+        Slices slices = slicesOfTestClasses();
+        Slice slice = getSlice(slices, "first");
+        Slice renamedSlice = getSlice(slices.namingSlices("Renamed $1"), "first");
+
+        assertThat(slice.getDependenciesFromSelf()).isSameAs(slice.getDependenciesFromSelf());
+        assertThat(renamedSlice.getDependenciesFromSelf()).isSameAs(slice.getDependenciesFromSelf());
+        assertThat(renamedSlice.getDependenciesToSelf()).isSameAs(slice.getDependenciesToSelf());
+    }
+
     private Slice getSlice(Slices slices, String name) {
         for (Slice slice : slices) {
             if (slice.getNamePart(1).equals(name)) {
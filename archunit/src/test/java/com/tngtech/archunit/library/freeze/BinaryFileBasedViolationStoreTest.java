@@ -0,0 +1,182 @@
+package com.tngtech.archunit.library.freeze;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.lang.ArchRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BinaryFileBasedViolationStoreTest {
+
+    @TempDir
+    Path temporaryFolder;
+
+    private final ViolationStore store = new BinaryFileBasedViolationStore();
+    private File configuredFolder;
+
+    @BeforeEach
+    public void setUp() {
+        configuredFolder = new File(temporaryFolder.toFile(), "notyetthere");
+
+        store.initialize(defaultStoreProperties());
+    }
+
+    @Test
+    public void reports_unknown_rule_as_unstored() {
+        assertThat(store.contains(defaultRule())).as("store contains random rule").isFalse();
+    }
+
+    @Test
+    public void throws_an_exception_if_violations_of_unstored_rule_are_requested() {
+        ArchRule rule = defaultRule();
+
+        assertThatThrownBy(() -> store.getViolations(rule))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No rule stored with description '%s'", rule.getDescription());
+    }
+
+    @Test
+    public void stores_violations_of_single_rule_in_configured_folder() {
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+
+        assertThat(new File(configuredFolder, "stored.rules.bin")).isFile();
+        assertThat(ruleViolationFile()).isFile();
+        assertThat(store.contains(defaultRule())).as("store contains rule").isTrue();
+        assertThat(store.getViolations(defaultRule())).containsExactly("first violation", "second violation");
+    }
+
+    @Test
+    public void reads_violations_stored_by_another_instance() {
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+
+        ViolationStore otherStore = new BinaryFileBasedViolationStore();
+        otherStore.initialize(defaultStoreProperties());
+
+        assertThat(otherStore.contains(defaultRule())).as("store contains rule").isTrue();
+        assertThat(otherStore.getViolations(defaultRule())).containsExactly("first violation", "second violation");
+    }
+
+    @Test
+    public void updates_stored_violations_of_single_rule() {
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+        store.save(defaultRule(), ImmutableList.of("first overwritten violation", "second overwritten violation"));
+
+        assertThat(store.getViolations(defaultRule())).containsOnly("first overwritten violation", "second overwritten violation");
+    }
+
+    @Test
+    public void only_appends_solved_and_added_violations_on_update() {
+        List<String> violations = violations(100);
+        store.save(defaultRule(), violations);
+        long initialLength = ruleViolationFile().length();
+
+        List<String> updatedViolations = ImmutableList.<String>builder().addAll(violations.subList(1, 100)).add("new violation").build();
+        store.save(defaultRule(), updatedViolations);
+
+        assertThat(ruleViolationFile().length() - initialLength).as("length of appended update").isLessThan(initialLength / 10);
+        assertThat(store.getViolations(defaultRule())).containsExactlyInAnyOrderElementsOf(updatedViolations);
+    }
+
+    @Test
+    public void rewrites_rule_violation_file_once_updates_outgrow_stored_violations() {
+        store.save(defaultRule(), violations(100));
+        long initialLength = ruleViolationFile().length();
+
+        store.save(defaultRule(), violations(10));
+
+        assertThat(ruleViolationFile().length()).isLessThan(initialLength);
+        assertThat(store.getViolations(defaultRule())).containsExactlyInAnyOrderElementsOf(violations(10));
+    }
+
+    @Test
+    public void keeps_equal_violations() {
+        store.save(defaultRule(), ImmutableList.of("same", "same", "same", "other", "another", "yet another"));
+        store.save(defaultRule(), ImmutableList.of("same", "other", "another", "yet another", "same"));
+
+        assertThat(store.getViolations(defaultRule())).containsExactlyInAnyOrder("same", "same", "other", "another", "yet another");
+    }
+
+    @Test
+    public void reads_empty_list_of_violations() {
+        store.save(defaultRule(), ImmutableList.of());
+
+        assertThat(store.getViolations(defaultRule())).isEmpty();
+    }
+
+    @Test
+    public void stores_violations_of_multiple_rules() {
+        ArchRule firstRule = rule("first rule");
+        store.save(firstRule, ImmutableList.of("first violation1", "first violation2"));
+        ArchRule secondRule = rule("second rule");
+        store.save(secondRule, ImmutableList.of("second violation1", "second violation2"));
+
+        assertThat(store.getViolations(firstRule)).containsOnly("first violation1", "first violation2");
+        assertThat(store.getViolations(secondRule)).containsOnly("second violation1", "second violation2");
+    }
+
+    @Test
+    public void stores_violations_with_line_breaks() {
+        List<String> expected = ImmutableList.of(String.format("first with%nlinebreak"), String.format("second with%nlinebreak"));
+
+        store.save(defaultRule(), expected);
+
+        assertThat(store.getViolations(defaultRule())).as("stored violations").containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void ignores_incomplete_last_update() throws IOException {
+        List<String> violations = violations(10);
+        store.save(defaultRule(), violations);
+        store.save(defaultRule(), violations.subList(1, 10));
+        truncateByOneByte(ruleViolationFile());
+
+        assertThat(store.getViolations(defaultRule())).containsExactlyInAnyOrderElementsOf(violations);
+
+        store.save(defaultRule(), violations.subList(2, 10));
+        assertThat(store.getViolations(defaultRule())).containsExactlyInAnyOrderElementsOf(violations.subList(2, 10));
+    }
+
+    private void truncateByOneByte(File file) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(randomAccessFile.length() - 1);
+        }
+    }
+
+    private File ruleViolationFile() {
+        File[] ruleViolationFiles = configuredFolder.listFiles((dir, name) -> name.endsWith(".bin") && !name.equals("stored.rules.bin"));
+        assertThat(ruleViolationFiles).as("rule violation files").hasSize(1);
+        return ruleViolationFiles[0];
+    }
+
+    private static List<String> violations(int number) {
+        return IntStream.range(0, number).mapToObj(i -> "violation number " + i + " in (SomeClass.java:" + i + ")").collect(toList());
+    }
+
+    private Properties defaultStoreProperties() {
+        Properties result = new Properties();
+        result.setProperty("default.path", configuredFolder.getAbsolutePath());
+        result.setProperty("default.allowStoreCreation", String.valueOf(true));
+        return result;
+    }
+
+    private ArchRule defaultRule() {
+        return rule("default rule");
+    }
+
+    private ArchRule rule(String description) {
+        return classes().should().bePublic().as(description);
+    }
+}
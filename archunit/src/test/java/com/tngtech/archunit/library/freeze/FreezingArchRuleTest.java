@@ -9,6 +9,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -233,6 +234,33 @@ public class FreezingArchRuleTest {
                 .hasOnlyViolations("and new");
     }
 
+    @Test
+    public void uses_the_normalized_form_of_a_custom_matcher_to_decide_which_violations_count_as_known() {
+        TestViolationStore violationStore = new TestViolationStore();
+
+        createFrozen(violationStore, rule("some description")
+                .withViolations("some #ignore_this# violation", "some #and_this# violation", "second #ignore_this# violation").create());
+
+        ArchRule frozen = freeze(rule("some description")
+                .withViolations("some #now changed# violation", "second #now changed somehow# violation", "some #again# violation", "and new").create())
+                .persistIn(violationStore)
+                .associateViolationLinesVia(new ViolationLineMatcher() {
+                    @Override
+                    public boolean matches(String lineFromFirstViolation, String lineFromSecondViolation) {
+                        throw new AssertionError("Should not compare lines pairwise if a normalized form is available");
+                    }
+
+                    @Override
+                    public Optional<String> normalize(String violationLine) {
+                        return Optional.of(violationLine.replaceAll("#.*#", ""));
+                    }
+                });
+
+        assertThatRule(frozen)
+                .checking(importClasses(getClass()))
+                .hasOnlyViolations("and new");
+    }
+
     @Test
     public void fails_on_an_increased_violation_count_of_the_same_violation_compared_to_frozen_ones() {
         TestViolationStore violationStore = new TestViolationStore();
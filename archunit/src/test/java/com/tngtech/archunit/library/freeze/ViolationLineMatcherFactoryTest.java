@@ -80,4 +80,13 @@ public class ViolationLineMatcherFactoryTest {
                 .as(String.format("'%s' matches '%s'", str1, str2))
                 .isEqualTo(expected);
     }
+
+    @ParameterizedTest
+    @MethodSource("default_matcher")
+    void default_matcher_normalizes_lines_consistently_with_matching(String str1, String str2, boolean expected) {
+        ViolationLineMatcher defaultMatcher = ViolationLineMatcherFactory.create();
+        assertThat(defaultMatcher.normalize(str1).get().equals(defaultMatcher.normalize(str2).get()))
+                .as(String.format("normalized '%s' equals normalized '%s'", str1, str2))
+                .isEqualTo(expected);
+    }
 }